@@ -0,0 +1,65 @@
+package bytemusketeers.heslingtonhustle;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * The {@link BenchmarkEnvironment} provides the LibGDX runtime required by the benchmark suites: the
+ * {@link Gdx#files} and {@link Gdx#app} modules of a {@link HeadlessApplication}, and a {@link NullGL20} standing in
+ * for the absent GL context.
+ *
+ * @apiNote The render cycle of the {@link HeadlessApplication} is disabled, so runnables posted through
+ *          {@link com.badlogic.gdx.Application#postRunnable(Runnable)}, such as interactable actions, are never executed
+ *          by it; a benchmark posting runnables must execute them itself, through {@link #executeRunnables()}, lest
+ *          they accumulate for the whole run.
+ * @author ENG1 Team 23 (Cohort 3)
+ */
+public final class BenchmarkEnvironment {
+    /**
+     * The {@link HeadlessApplication} backing the environment, or null if it has not yet been initialised
+     *
+     * @see #initialise()
+     */
+    private static HeadlessApplication application;
+
+    /**
+     * Initialises the LibGDX runtime, unless it has already been initialised by this JVM
+     */
+    public static synchronized void initialise() {
+        if (application != null)
+            return;
+
+        // A negative update rate disables the render cycle; the benchmark thread drives all work itself
+        final HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+
+        application = new HeadlessApplication(new ApplicationAdapter() { }, configuration);
+        Gdx.gl = Gdx.gl20 = NullGL20.create();
+    }
+
+    /**
+     * Executes, on the calling benchmark thread, every runnable posted since the last call
+     *
+     * @see com.badlogic.gdx.Application#postRunnable(Runnable)
+     */
+    public static void executeRunnables() {
+        application.executeRunnables();
+    }
+
+    /**
+     * Stops the {@link HeadlessApplication} thread, such that the benchmark JVM may exit
+     */
+    public static synchronized void shutdown() {
+        if (application != null) {
+            application.exit();
+            application = null;
+        }
+    }
+
+    /**
+     * The {@link BenchmarkEnvironment} is a static utility and should not be instantiated
+     */
+    private BenchmarkEnvironment() { }
+}
@@ -0,0 +1,84 @@
+package bytemusketeers.heslingtonhustle.metrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link MetricController} update path through to the {@link MetricListener}, via the
+ * {@link MetricUpdater} bus, with one flush per benchmarked frame
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricBenchmark {
+    /**
+     * The {@link MetricController} under benchmark
+     */
+    private MetricController metricController;
+
+    /**
+     * Creates a {@link MetricController} whose {@link MetricListener} consumes every update into the given
+     * {@link Blackhole}, standing in for the heads-up display
+     *
+     * @param blackhole The JMH sink preventing dead-code elimination of the update text
+     */
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        metricController = new MetricController(new MetricUpdater((metric, text) -> blackhole.consume(text)));
+    }
+
+    /**
+     * Increments a {@link PlayerMetric}, delivering the update to the {@link MetricListener}
+     */
+    @Benchmark
+    public void incrementPlayerMetric() {
+        metricController.incrementPlayerMetric(MetricController.Metric.Study, 1);
+        metricController.flushUpdates();
+    }
+
+    /**
+     * Performs the pair of updates fired by a single recreational interaction
+     */
+    @Benchmark
+    public void recreationalInteraction() {
+        metricController.incrementPlayerMetric(MetricController.Metric.Play, 1);
+        metricController.decrementPlayerMetric(MetricController.Metric.Study, 1);
+        metricController.flushUpdates();
+    }
+
+    /**
+     * Alters a single {@link PlayerMetric} repeatedly within one frame, which is coalesced into one delivered update
+     */
+    @Benchmark
+    public void coalescedUpdates() {
+        for (int i = 0; i < 8; i++)
+            metricController.incrementPlayerMetric(MetricController.Metric.Eat, 1);
+
+        metricController.flushUpdates();
+    }
+
+    /**
+     * Flushes the {@link MetricUpdater} without any pending alterations, as occurs in almost every frame
+     */
+    @Benchmark
+    public void idleFlush() {
+        metricController.flushUpdates();
+    }
+}
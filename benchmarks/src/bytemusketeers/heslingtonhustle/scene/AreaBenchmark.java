@@ -0,0 +1,157 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import bytemusketeers.heslingtonhustle.BenchmarkEnvironment;
+import bytemusketeers.heslingtonhustle.Simulation;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per-frame {@link Area} operations: world stepping, interactable triggering, and camera bounding
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AreaBenchmark {
+    /**
+     * The horizontal camera gutter of the default 800-pixel-wide window, in in-game metres
+     */
+    private static final float HORIZONTAL_GUTTER = 4;
+
+    /**
+     * The vertical camera gutter of the default 480-pixel-high window, in in-game metres
+     */
+    private static final float VERTICAL_GUTTER = 2.4f;
+
+    /**
+     * A position within reach of the study {@link Interactable} in the south wing of the Piazza building
+     */
+    private static final Vector2 NEAR_INTERACTABLE = new Vector2(25.5f, 7.5f);
+
+    /**
+     * A position out of reach of every {@link Interactable} in the Piazza building
+     */
+    private static final Vector2 FAR_FROM_INTERACTABLES = new Vector2(12, 10);
+
+    /**
+     * The {@link Simulation} owning the benchmarked {@link Area}
+     */
+    private Simulation simulation;
+
+    /**
+     * The {@link Area} under benchmark
+     */
+    private Area area;
+
+    /**
+     * The reusable candidate vector passed to {@link Area#bound(Vector2, float, float)}
+     */
+    private final Vector2 candidate = new Vector2();
+
+    /**
+     * Loads the {@link Simulation} and moves the {@link Character} into the Piazza building, which holds the most
+     * {@link Interactable} objects
+     *
+     * @throws InvalidAreaException The TMX tile-map assets are corrupt
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidAreaException {
+        BenchmarkEnvironment.initialise();
+        simulation = new Simulation((metric, text) -> { });
+        simulation.switchArea(Area.Name.PiazzaBuilding);
+        area = simulation.getActiveArea();
+    }
+
+    /**
+     * Releases the {@link Simulation} and the LibGDX runtime
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+        BenchmarkEnvironment.shutdown();
+    }
+
+    /**
+     * Steps the {@link com.badlogic.gdx.physics.box2d.World} of the {@link Area} alone
+     */
+    @Benchmark
+    public void step() {
+        area.step();
+    }
+
+    /**
+     * Executes a full {@link Simulation} tick with a moving {@link Character}, including {@link Character#move()}
+     */
+    @Benchmark
+    public void tick() {
+        simulation.getCharacter().moveRight();
+        simulation.step();
+    }
+
+    /**
+     * Triggers the {@link Interactable} objects from a position within reach of one of them, and executes the
+     * resulting action
+     *
+     * @see BenchmarkEnvironment#executeRunnables()
+     */
+    @Benchmark
+    public void triggerInteractablesHit() {
+        area.triggerInteractables(NEAR_INTERACTABLE);
+        BenchmarkEnvironment.executeRunnables();
+    }
+
+    /**
+     * Triggers the {@link Interactable} objects from a position out of reach of all of them
+     */
+    @Benchmark
+    public void triggerInteractablesMiss() {
+        area.triggerInteractables(FAR_FROM_INTERACTABLES);
+    }
+
+    /**
+     * Queries whether any {@link Interactable} is within reach, as would a per-frame interaction prompt
+     *
+     * @return Is an {@link Interactable} within reach?
+     */
+    @Benchmark
+    public boolean interactableInReach() {
+        return area.isInteractableInReach(NEAR_INTERACTABLE);
+    }
+
+    /**
+     * Finds the {@link Interactable} nearest to a position out of reach of all of them
+     *
+     * @return The nearest {@link Interactable}
+     */
+    @Benchmark
+    public Interactable findNearestInteractable() {
+        return area.getInteractableIndex().findNearest(FAR_FROM_INTERACTABLES, Float.MAX_VALUE);
+    }
+
+    /**
+     * Bounds a camera position lying beyond the top-right corner of the {@link Area}
+     *
+     * @return The bounded position
+     */
+    @Benchmark
+    public Vector2 bound() {
+        return area.bound(candidate.set(1000, 1000), HORIZONTAL_GUTTER, VERTICAL_GUTTER);
+    }
+}
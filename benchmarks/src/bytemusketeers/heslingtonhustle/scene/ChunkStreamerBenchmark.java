@@ -0,0 +1,242 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import bytemusketeers.heslingtonhustle.BenchmarkEnvironment;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link ChunkStreamer} over a compiled tile-map far larger than any shipped, such that chunks are
+ * continually streamed in and evicted, with two foci per frame, as the {@link Character} and the camera would be
+ *
+ * @implNote The tile-map is generated in the compiled format upon set-up, rather than compiled from a TMX tile-map,
+ *           such that the assets directory need not hold a tile-map of several megabytes. Each frame verifies that the
+ *           chunks under both foci are resident, so the benchmark fails, rather than merely slows, should a required
+ *           chunk ever be skipped.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see CompiledMapLoader
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkStreamerBenchmark {
+    /**
+     * The side length of the generated tile-map, in tiles, which spans 64 by 64 chunks
+     */
+    private static final int MAP_SIZE = 64 * ChunkStreamer.CHUNK_SIZE;
+
+    /**
+     * The tileset image from which the generated tile-map draws, relative to the assets directory
+     */
+    private static final String TILESET_IMAGE = "Maps/Tileset 3.png";
+
+    /**
+     * The distance, in in-game metres, moved by the foci each frame, being a quarter of a chunk
+     */
+    private static final float SPEED = ChunkStreamer.CHUNK_SIZE / 4f;
+
+    /**
+     * The distance, in in-game metres, by which the camera focus trails the {@link Character} focus
+     */
+    private static final float CAMERA_LAG = 2.5f * ChunkStreamer.CHUNK_SIZE;
+
+    /**
+     * The generated compiled tile-map, deleted upon tear-down
+     */
+    private File file;
+
+    /**
+     * The {@link AssetManager} through which the generated tile-map is loaded
+     */
+    private AssetManager assets;
+
+    /**
+     * The streamed {@link GameMap} under benchmark
+     */
+    private GameMap map;
+
+    /**
+     * The number of frames simulated thus far, from which the foci are derived
+     */
+    private long frame = 0;
+
+    /**
+     * The reusable position of the {@link Character} focus
+     */
+    private final Vector2 character = new Vector2();
+
+    /**
+     * The reusable position of the camera focus
+     */
+    private final Vector2 camera = new Vector2();
+
+    /**
+     * Writes a length-prefixed UTF-8 string, as read by {@link CompiledMapLoader}
+     *
+     * @param out The stream to which the string is written
+     * @param value The string to write
+     * @throws IOException The string could not be written
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a compiled tile-map of {@link #MAP_SIZE} by {@link #MAP_SIZE} tiles, with a ground layer scattered with
+     * solid tiles, and a sparse decoration layer
+     *
+     * @param output The file to which the tile-map is written
+     * @throws IOException The tile-map could not be written
+     */
+    private static void writeMap(File output) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(output.toPath());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(0x48484D50);
+            out.writeShort(4);
+            out.writeInt(MAP_SIZE);
+            out.writeInt(MAP_SIZE);
+            out.writeInt(16);
+            out.writeInt(16);
+
+            // A single tileset, whose first tile is solid
+            out.writeShort(1);
+            writeString(out, "Tileset 3");
+            out.writeInt(1);
+            writeString(out, TILESET_IMAGE);
+            out.writeInt(16);
+            out.writeInt(16);
+            out.writeInt(2);
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeShort(1);
+            out.writeInt(0);
+            out.writeShort(1);
+            writeString(out, GameMap.SOLID_PROPERTY);
+            out.writeByte(1);
+            out.writeBoolean(true);
+
+            out.writeShort(2);
+            for (int layer = 0; layer < 2; layer++) {
+                out.writeByte(0);
+                writeString(out, layer == 0 ? "ground" : "decoration");
+                out.writeBoolean(true);
+                out.writeFloat(1);
+                out.writeFloat(0);
+                out.writeFloat(0);
+                out.writeShort(0);
+
+                for (int row = 0; row < MAP_SIZE; row++)
+                    for (int column = 0; column < MAP_SIZE; column++) {
+                        final int hash = column * 31 + row * 17;
+
+                        if (layer == 0)
+                            out.writeInt(hash % 11 == 0 ? 1 : 2);
+                        else
+                            out.writeInt(hash % 7 == 0 ? 3 : 0);
+                    }
+            }
+
+            // The tile-map is streamed, and has no borders, so no collision geometry is precompiled
+            out.writeInt(0);
+        }
+    }
+
+    /**
+     * Reflects the given distance travelled back and forth across the tile-map
+     *
+     * @param distance The distance travelled, in in-game metres
+     * @return The position along a single axis, in [0, {@link #MAP_SIZE}) in-game metres
+     */
+    private static float bounce(float distance) {
+        final float folded = distance % (2 * (MAP_SIZE - 1));
+        return folded < MAP_SIZE - 1 ? folded : 2 * (MAP_SIZE - 1) - folded;
+    }
+
+    /**
+     * Generates and loads the streamed tile-map under benchmark
+     *
+     * @throws IOException The tile-map could not be generated
+     * @throws InvalidAreaException The generated tile-map is invalid
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InvalidAreaException {
+        BenchmarkEnvironment.initialise();
+
+        file = File.createTempFile("streamed", CompiledMapLoader.SUFFIX);
+        writeMap(file);
+
+        // The generated tile-map lies outside of the assets directory, unlike the tileset image it references
+        assets = new AssetManager(fileName -> fileName.endsWith(CompiledMapLoader.SUFFIX)
+            ? Gdx.files.absolute(fileName) : Gdx.files.internal(fileName));
+        assets.setLoader(TiledMap.class, CompiledMapLoader.SUFFIX,
+            new CompiledMapLoader(assets.getFileHandleResolver()));
+        assets.load(file.getAbsolutePath(), TiledMap.class);
+
+        map = new GameMap(assets.finishLoadingAsset(file.getAbsolutePath()));
+        if (!map.isStreamed())
+            throw new IllegalStateException("Generated tile-map is too small to be streamed");
+    }
+
+    /**
+     * Releases the {@link GameMap}, the generated tile-map, and the LibGDX runtime
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        map.dispose();
+        assets.dispose();
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+        BenchmarkEnvironment.shutdown();
+    }
+
+    /**
+     * Simulates a single frame, in which the {@link Character} moves diagonally across the tile-map, and is trailed by
+     * the camera, each of which brings its surroundings into residency
+     *
+     * @return The position of the {@link Character}, such that the frame cannot be eliminated
+     * @throws IllegalStateException A chunk under either focus is not resident
+     */
+    @Benchmark
+    public Vector2 walk() {
+        final float distance = ++frame * SPEED;
+        character.set(bounce(distance), bounce(distance * 0.75f));
+        camera.set(bounce(Math.max(0, distance - CAMERA_LAG)), bounce(Math.max(0, distance - CAMERA_LAG) * 0.75f));
+
+        map.beginFrame();
+        map.streamAround(character);
+        map.streamAround(camera);
+
+        if (!map.isResident(character) || !map.isResident(camera))
+            throw new IllegalStateException("Chunk under focus was skipped in frame " + frame);
+
+        return character;
+    }
+}
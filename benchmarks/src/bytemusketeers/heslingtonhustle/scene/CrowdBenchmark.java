@@ -0,0 +1,172 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import bytemusketeers.heslingtonhustle.BenchmarkEnvironment;
+import bytemusketeers.heslingtonhustle.Simulation;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link Crowd} of the outdoor {@link Area}, whose scene populates it with 1,000 students: stepping
+ * alone, and a whole frame of stepping and rendering through a view the size of the default window, which culls most
+ * of the students
+ *
+ * @implNote Upon set-up, the {@link Crowd} of a freshly loaded {@link Simulation} is first stepped on a pool of one
+ *           worker, and that of another on a pool of {@value #PARALLELISM}, since the behaviour phase runs on the pool
+ *           of the stepping thread; the benchmark fails unless both runs end in the same state. The
+ *           {@link SpriteBatch} is given an uncompiled {@link ShaderProgram}, since its default shader cannot be
+ *           compiled without a GL context, so it draws nowhere, but still fills and flushes its vertex buffer.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Crowd#hashState()
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrowdBenchmark {
+    /**
+     * The width of the view of the default 800-pixel-wide window, in in-game metres
+     */
+    private static final float VIEW_WIDTH = 8;
+
+    /**
+     * The height of the view of the default 480-pixel-high window, in in-game metres
+     */
+    private static final float VIEW_HEIGHT = 4.8f;
+
+    /**
+     * The number of workers of the parallel pool against which the single-worker pool is checked
+     */
+    private static final int PARALLELISM = 4;
+
+    /**
+     * The number of steps after which the states of the two checked runs are compared, being a minute of play
+     */
+    private static final int CHECKED_STEPS = 60 * 60;
+
+    /**
+     * The {@link Simulation} owning the benchmarked {@link Area}
+     */
+    private Simulation simulation;
+
+    /**
+     * The outdoor {@link Area} under benchmark
+     */
+    private Area area;
+
+    /**
+     * The shader of the {@link #batch}, which is never compiled
+     */
+    private ShaderProgram shader;
+
+    /**
+     * The {@link SpriteBatch} to which the {@link Area} is rendered
+     */
+    private SpriteBatch batch;
+
+    /**
+     * Steps the {@link Crowd} of a freshly loaded outdoor {@link Area} on a pool of the given number of workers
+     *
+     * @param parallelism The number of workers of the pool
+     * @return The hash of the state of the {@link Crowd} after {@link #CHECKED_STEPS} steps
+     * @throws InvalidAreaException The TMX tile-map assets are corrupt
+     */
+    private static long hashAfterSteps(int parallelism) throws InvalidAreaException {
+        final Simulation simulation = new Simulation((metric, text) -> { });
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            final Area area = simulation.getActiveArea();
+
+            return pool.submit(() -> {
+                for (int i = 0; i < CHECKED_STEPS; i++)
+                    area.step();
+
+                return area.getCrowd().hashState();
+            }).join();
+        } finally {
+            pool.shutdown();
+            simulation.dispose();
+        }
+    }
+
+    /**
+     * Checks that the {@link Crowd} evolves identically on one worker and on several, then loads the
+     * {@link Simulation}, whose initial {@link Area} is the outdoor one, and points the view at the {@link Character}
+     *
+     * @throws InvalidAreaException The TMX tile-map assets are corrupt
+     * @throws IllegalStateException The outdoor {@link Area} is unpopulated, or its {@link Crowd} evolves differently
+     *                               depending upon the number of workers
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidAreaException {
+        BenchmarkEnvironment.initialise();
+
+        if (hashAfterSteps(1) != hashAfterSteps(PARALLELISM))
+            throw new IllegalStateException("Crowd diverged between 1 and " + PARALLELISM + " workers after "
+                + CHECKED_STEPS + " steps");
+
+        simulation = new Simulation((metric, text) -> { });
+        area = simulation.getActiveArea();
+        if (simulation.getActiveAreaName() != Area.Name.OutdoorMap || area.getCrowd() == null)
+            throw new IllegalStateException("Outdoor area is not populated");
+
+        final OrthographicCamera camera = new OrthographicCamera(VIEW_WIDTH, VIEW_HEIGHT);
+        camera.position.set(simulation.getCharacter().getPosition(), 0);
+        camera.update();
+        area.updateView(camera);
+
+        shader = new ShaderProgram("", "");
+        batch = new SpriteBatch(1000, shader);
+    }
+
+    /**
+     * Releases the {@link SpriteBatch}, the {@link Simulation}, and the LibGDX runtime
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batch.dispose();
+        shader.dispose();
+        simulation.dispose();
+        BenchmarkEnvironment.shutdown();
+    }
+
+    /**
+     * Steps the {@link Area}, and hence its {@link Crowd}, alone
+     */
+    @Benchmark
+    public void step() {
+        area.step();
+    }
+
+    /**
+     * Steps the {@link Area}, then renders its {@link Interactable} objects and the students in view, as would a
+     * single frame of play
+     */
+    @Benchmark
+    public void frame() {
+        area.step();
+        area.interpolate(1);
+
+        batch.begin();
+        area.renderDrawables(batch);
+        batch.end();
+    }
+}
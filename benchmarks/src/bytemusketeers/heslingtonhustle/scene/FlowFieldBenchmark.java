@@ -0,0 +1,226 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the incremental refresh of a {@link FlowField} upon an obstacle being placed, against building the field
+ * from scratch, over a {@link NavigationGrid} far larger than any shipped, such that the difference is measurable
+ *
+ * @implNote Upon set-up, an obstacle is placed {@value #CHECKED_OBSTACLES} times over, and after each, the refreshed
+ *           field is compared against one built from scratch over the same {@link NavigationGrid}; the benchmark
+ *           fails unless both hold the same costs, and the refreshed steps are consistent with them.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see FlowField#hashState()
+ * @see FlowField#isConsistent()
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowFieldBenchmark {
+    /**
+     * The width of the benchmarked {@link NavigationGrid}, in cells
+     */
+    private static final int WIDTH = 300;
+
+    /**
+     * The height of the benchmarked {@link NavigationGrid}, in cells
+     */
+    private static final int HEIGHT = 200;
+
+    /**
+     * The number of obstacles blocked before the benchmark begins, resembling the walls of an {@link Area}
+     */
+    private static final int WALLS = 400;
+
+    /**
+     * The number of obstacles placed by the set-up check, after each of which the refreshed field is compared
+     */
+    private static final int CHECKED_OBSTACLES = 200;
+
+    /**
+     * The seed from which every obstacle is derived, such that every run benchmarks the same fields
+     */
+    private static final long SEED = 23;
+
+    /**
+     * The cells blocked from a freshly built field by each invocation of {@link #refresh(Blocking)}, which are reset
+     * beforehand
+     *
+     * @implNote The reset builds a field from scratch, which takes far longer than the refresh it precedes, but is
+     *           excluded from the measurement
+     */
+    @State(Scope.Thread)
+    public static class Blocking {
+        /**
+         * The obstacles from which that of each invocation is drawn in turn
+         */
+        private final Array<Rectangle> obstacles = createObstacles(new Random(SEED + 1), CHECKED_OBSTACLES);
+
+        /**
+         * The index of the obstacle of the next invocation
+         */
+        private int next = 0;
+
+        /**
+         * The {@link NavigationGrid} into which the obstacle is placed
+         */
+        private NavigationGrid grid;
+
+        /**
+         * The {@link FlowFields} holding the refreshed field
+         */
+        private FlowFields fields;
+
+        /**
+         * The obstacle of the current invocation
+         */
+        private Rectangle obstacle;
+
+        /**
+         * The reusable array of the cells newly blocked by the {@link #obstacle}
+         */
+        private final IntArray changed = new IntArray();
+
+        /**
+         * Builds a fresh field over a fresh {@link NavigationGrid}, and chooses the next obstacle
+         */
+        @Setup(Level.Invocation)
+        public void reset() {
+            grid = createGrid();
+            fields = new FlowFields(grid);
+            fields.get(getGoal(grid));
+            obstacle = obstacles.get(next++ % obstacles.size);
+            changed.clear();
+        }
+    }
+
+    /**
+     * The {@link NavigationGrid} over which {@link #build()} integrates
+     */
+    private NavigationGrid grid;
+
+    /**
+     * The field built from scratch by {@link #build()}
+     */
+    private FlowField field;
+
+    /**
+     * The heap used as scratch space by {@link #build()}
+     */
+    private CellHeap open;
+
+    /**
+     * Generates the given number of obstacles of between one and four cells square, scattered across the grid
+     *
+     * @param random The source of the positions and sizes of the obstacles
+     * @param count The number of obstacles
+     * @return The obstacles, in in-game metres, being one per cell
+     */
+    private static Array<Rectangle> createObstacles(Random random, int count) {
+        final Array<Rectangle> obstacles = new Array<>(count);
+
+        for (int i = 0; i < count; i++)
+            obstacles.add(new Rectangle(random.nextInt(WIDTH), random.nextInt(HEIGHT), 1 + random.nextInt(4),
+                1 + random.nextInt(4)));
+
+        return obstacles;
+    }
+
+    /**
+     * Creates a {@link NavigationGrid} in which the {@value #WALLS} walls are blocked
+     *
+     * @return The new {@link NavigationGrid}
+     */
+    private static NavigationGrid createGrid() {
+        final NavigationGrid grid = new NavigationGrid(WIDTH, HEIGHT);
+        grid.block(createObstacles(new Random(SEED), WALLS));
+        return grid;
+    }
+
+    /**
+     * Finds the goal of every benchmarked field, being the unblocked cell nearest the centre of the grid
+     *
+     * @param grid The {@link NavigationGrid} in question
+     * @return The index of the goal cell
+     */
+    private static int getGoal(NavigationGrid grid) {
+        final Vector2 goal = grid.findNearestUnblocked(WIDTH / 2f, HEIGHT / 2f, new Vector2());
+        return grid.getCell(goal.x, goal.y);
+    }
+
+    /**
+     * Checks that refreshing a field upon each of a series of obstacles being placed yields the same costs as building
+     * it from scratch, and that its steps remain consistent, then builds the field of {@link #build()}
+     *
+     * @throws IllegalStateException A refreshed field differs from that built from scratch
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final NavigationGrid checked = createGrid();
+        final FlowFields fields = new FlowFields(checked);
+        final int goal = getGoal(checked);
+        final FlowField refreshed = fields.get(goal);
+        final CellHeap scratch = new CellHeap(WIDTH * HEIGHT);
+        final IntArray changed = new IntArray();
+
+        for (Rectangle obstacle : createObstacles(new Random(SEED + 1), CHECKED_OBSTACLES)) {
+            changed.clear();
+            checked.block(obstacle, changed);
+            fields.refresh(changed);
+
+            final FlowField built = new FlowField(checked, goal);
+            built.build(scratch);
+
+            if (refreshed.hashState() != built.hashState() || !refreshed.isConsistent())
+                throw new IllegalStateException("Refreshed field differs from a full build upon blocking " + obstacle);
+        }
+
+        grid = createGrid();
+        open = new CellHeap(WIDTH * HEIGHT);
+        field = new FlowField(grid, getGoal(grid));
+    }
+
+    /**
+     * Builds the field from scratch, as would every field be upon each obstacle were it not refreshed
+     *
+     * @return The built field, such that the build cannot be eliminated
+     */
+    @Benchmark
+    public FlowField build() {
+        field.build(open);
+        return field;
+    }
+
+    /**
+     * Places an obstacle upon a freshly built field, and refreshes it
+     *
+     * @param blocking The freshly built field, and the obstacle to place
+     * @return The refreshed fields, such that the refresh cannot be eliminated
+     */
+    @Benchmark
+    public FlowFields refresh(Blocking blocking) {
+        blocking.grid.block(blocking.obstacle, blocking.changed);
+        blocking.fields.refresh(blocking.changed);
+        return blocking.fields;
+    }
+}
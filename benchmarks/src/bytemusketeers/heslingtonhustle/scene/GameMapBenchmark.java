@@ -0,0 +1,138 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import bytemusketeers.heslingtonhustle.BenchmarkEnvironment;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the loading of each tile-map, from both its TMX source and its compiled form, through the {@link GameMap}
+ * constructor, and {@link GameMap} bounding
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameMapBenchmark {
+    /**
+     * The TMX tile-map under benchmark, relative to the assets directory
+     */
+    @Param({"Maps/outdoor-map.tmx", "Maps/piazza-map.tmx", "Maps/comp-sci-map.tmx", "Maps/bedroom-map.tmx"})
+    public String mapPath;
+
+    /**
+     * The {@link TiledMap} loaded from {@link #mapPath}, owned by the benchmark
+     */
+    private TiledMap tiledMap;
+
+    /**
+     * The {@link GameMap} loaded from {@link #mapPath}, against which bounding is benchmarked
+     */
+    private GameMap map;
+
+    /**
+     * The {@link AssetManager} through which compiled tile-maps are loaded, as by the {@link AreaLoader}
+     */
+    private AssetManager assets;
+
+    /**
+     * The reusable candidate vector passed to {@link GameMap#bound(Vector2, float, float)}
+     */
+    private final Vector2 candidate = new Vector2();
+
+    /**
+     * Initialises the LibGDX runtime and loads the {@link GameMap} under benchmark
+     *
+     * @throws InvalidAreaException The TMX tile-map asset is corrupt
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidAreaException {
+        BenchmarkEnvironment.initialise();
+        tiledMap = new TmxMapLoader().load(mapPath);
+        map = new GameMap(tiledMap);
+
+        assets = new AssetManager(new InternalFileHandleResolver());
+        assets.setLoader(TiledMap.class, CompiledMapLoader.SUFFIX,
+            new CompiledMapLoader(assets.getFileHandleResolver()));
+    }
+
+    /**
+     * Releases the {@link GameMap} and the LibGDX runtime
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        map.dispose();
+        tiledMap.dispose();
+        assets.dispose();
+        BenchmarkEnvironment.shutdown();
+    }
+
+    /**
+     * Synchronously loads, and immediately releases, the TMX tile-map at {@link #mapPath}, as the {@link AreaLoader}
+     * would when an {@link Area} is requested before it has streamed in
+     *
+     * @return The loaded {@link GameMap}, such that its construction cannot be eliminated
+     * @throws InvalidAreaException The TMX tile-map asset is corrupt
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public GameMap load() throws InvalidAreaException {
+        final TiledMap loadedMap = new TmxMapLoader().load(mapPath);
+        final GameMap loaded = new GameMap(loadedMap);
+        loaded.dispose();
+        loadedMap.dispose();
+        return loaded;
+    }
+
+    /**
+     * Synchronously loads, and immediately releases, the compiled form of the tile-map at {@link #mapPath}, as the
+     * {@link AreaLoader} would when an {@link Area} is requested before it has streamed in
+     *
+     * @return The loaded {@link GameMap}, such that its construction cannot be eliminated
+     * @throws InvalidAreaException The compiled tile-map asset is corrupt
+     * @apiNote The compiled tile-maps are generated by the {@code compileMaps} Gradle task
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public GameMap loadCompiled() throws InvalidAreaException {
+        final String compiledPath = CompiledMapLoader.getCompiledPath(mapPath);
+
+        assets.load(compiledPath, TiledMap.class);
+        final GameMap loaded = new GameMap(assets.finishLoadingAsset(compiledPath));
+        loaded.dispose();
+        assets.unload(compiledPath);
+        return loaded;
+    }
+
+    /**
+     * Bounds a camera position lying beyond the top-right corner of the {@link GameMap}
+     *
+     * @return The bounded position
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Vector2 bound() {
+        return map.bound(candidate.set(1000, 1000), 4, 2.4f);
+    }
+}
@@ -0,0 +1,323 @@
+package bytemusketeers.heslingtonhustle;
+
+import bytemusketeers.heslingtonhustle.diagnostics.PhaseEvent;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import jdk.jfr.EventType;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@link FrameProfiler} measures the duration of each {@link Phase} of every frame, and retains a rolling window of
+ * them from which percentiles are derived, alongside the draw calls and texture binds of the most recent frame, heap
+ * usage, and garbage collection counts.
+ *
+ * @implNote Whilst disabled, every capture method returns immediately upon reading a single field, so the
+ *           {@link FrameProfiler} may be left threaded through the game loop at no practical cost. The
+ *           {@link GLProfiler}, which intercepts every GL call, is likewise only enabled alongside the
+ *           {@link FrameProfiler}. Each {@link Phase} is also emitted as a {@link PhaseEvent} to any Flight Recorder
+ *           recording enabling it, independently of whether the {@link FrameProfiler} is enabled.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see PlayScreen#render(float)
+ */
+public final class FrameProfiler {
+    /**
+     * Distinguishes between the measured phases of a frame
+     */
+    public enum Phase {
+        Input("Input"),
+        Step("Area step"),
+        Move("Character move"),
+        Camera("Camera"),
+        Map("Map render"),
+        Drawables("Drawables"),
+        HUD("HUD");
+
+        /**
+         * A human-readable name for the {@link Phase} ordinal
+         */
+        private final String displayName;
+
+        /**
+         * Retrieves the human-readable {@link Phase}
+         *
+         * @return The name for the requested {@link Phase}
+         */
+        @Override
+        public String toString() {
+            return displayName;
+        }
+
+        /**
+         * Instantiates a new {@link Phase}
+         *
+         * @param displayName The human-readable name of the new {@link Phase}
+         */
+        Phase(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    /**
+     * The number of frames retained for percentile calculations; at sixty frames per second, this is four seconds
+     */
+    public static final int WINDOW = 240;
+
+    /**
+     * Every {@link Phase}, cached to avoid cloning the {@link Phase#values()} array
+     */
+    private static final Phase[] PHASES = Phase.values();
+
+    /**
+     * The number of nanoseconds per millisecond
+     */
+    private static final float NANOS_PER_MILLI = 1e6f;
+
+    /**
+     * The Flight Recorder type of the {@link PhaseEvent}, whose enablement is checked before any event is allocated
+     */
+    private static final EventType PHASE_EVENT_TYPE = EventType.getEventType(PhaseEvent.class);
+
+    /**
+     * The in-flight {@link PhaseEvent} of each {@link Phase}, or null if none is being recorded
+     */
+    private final PhaseEvent[] events = new PhaseEvent[PHASES.length];
+
+    /**
+     * The {@link System#nanoTime()} at which each {@link Phase} was last begun
+     */
+    private final long[] started = new long[PHASES.length];
+
+    /**
+     * The total nanoseconds spent in each {@link Phase} during the current frame; a {@link Phase} may be entered more
+     * than once per frame, e.g. one {@link Phase#Step} per fixed time-step
+     */
+    private final long[] elapsed = new long[PHASES.length];
+
+    /**
+     * The rolling window of per-frame durations of each {@link Phase}, in milliseconds
+     */
+    private final float[][] samples = new float[PHASES.length][WINDOW];
+
+    /**
+     * The scratch buffer into which a window of samples is copied and sorted
+     *
+     * @see #getPercentile(Phase, float)
+     */
+    private final float[] sorted = new float[WINDOW];
+
+    /**
+     * The garbage collectors of the JVM
+     */
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    /**
+     * The index in each window at which the next frame is recorded
+     */
+    private int nextSample = 0;
+
+    /**
+     * The number of valid samples in each window, which is less than {@link #WINDOW} until the window first fills
+     */
+    private int sampleCount = 0;
+
+    /**
+     * Is the {@link FrameProfiler} capturing?
+     *
+     * @see #setEnabled(boolean)
+     */
+    private boolean enabled = false;
+
+    /**
+     * The {@link GLProfiler} counting draw calls and texture binds, or null if there is no GL context
+     */
+    private GLProfiler glProfiler;
+
+    /**
+     * The number of draw calls made during the most recent frame
+     */
+    private int drawCalls = 0;
+
+    /**
+     * The number of texture binds made during the most recent frame
+     */
+    private int textureBindings = 0;
+
+    /**
+     * Marks the beginning of the given {@link Phase}
+     *
+     * @param phase The {@link Phase} being entered
+     * @see #end(Phase)
+     */
+    public void begin(Phase phase) {
+        if (enabled)
+            started[phase.ordinal()] = System.nanoTime();
+
+        if (PHASE_EVENT_TYPE.isEnabled()) {
+            final PhaseEvent event = new PhaseEvent();
+            event.begin();
+            events[phase.ordinal()] = event;
+        }
+    }
+
+    /**
+     * Marks the end of the given {@link Phase}, adding its duration to the current frame
+     *
+     * @param phase The {@link Phase} being left, which must have been begun
+     * @see #begin(Phase)
+     */
+    public void end(Phase phase) {
+        if (enabled)
+            elapsed[phase.ordinal()] += System.nanoTime() - started[phase.ordinal()];
+
+        final PhaseEvent event = events[phase.ordinal()];
+        if (event != null) {
+            event.phase = phase.toString();
+            event.commit();
+            events[phase.ordinal()] = null;
+        }
+    }
+
+    /**
+     * Records the current frame into the rolling window, and begins the next
+     *
+     * @apiNote This should be called once at the very end of each frame, after all rendering
+     */
+    public void endFrame() {
+        if (!enabled)
+            return;
+
+        for (int i = 0; i < PHASES.length; i++) {
+            samples[i][nextSample] = elapsed[i] / NANOS_PER_MILLI;
+            elapsed[i] = 0;
+        }
+
+        nextSample = (nextSample + 1) % WINDOW;
+        sampleCount = Math.min(sampleCount + 1, WINDOW);
+
+        if (glProfiler != null) {
+            drawCalls = glProfiler.getDrawCalls();
+            textureBindings = glProfiler.getTextureBindings();
+            glProfiler.reset();
+        }
+    }
+
+    /**
+     * Enables, or disables, capture. The rolling window is emptied upon enabling, such that stale frames are never
+     * reported.
+     *
+     * @param enabled Should the {@link FrameProfiler} capture?
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled == this.enabled)
+            return;
+
+        this.enabled = enabled;
+
+        if (glProfiler == null && Gdx.graphics != null)
+            glProfiler = new GLProfiler(Gdx.graphics);
+
+        if (enabled) {
+            Arrays.fill(elapsed, 0);
+            nextSample = 0;
+            sampleCount = 0;
+        }
+
+        if (glProfiler != null) {
+            if (enabled)
+                glProfiler.enable();
+            else
+                glProfiler.disable();
+
+            glProfiler.reset();
+        }
+    }
+
+    /**
+     * Is the {@link FrameProfiler} capturing?
+     *
+     * @return Has the {@link FrameProfiler} been enabled?
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Derives the given percentile of the per-frame duration of the given {@link Phase} over the rolling window
+     *
+     * @param phase The {@link Phase} in question
+     * @param percentile The percentile, in (0, 1]
+     * @return The duration, in milliseconds, at or below which the given proportion of frames spent in the
+     *         {@link Phase}; zero if no frames have been recorded
+     * @implNote This sorts a copy of the window, so it should be called only when presenting the results, not every
+     *           frame
+     */
+    public float getPercentile(Phase phase, float percentile) {
+        if (sampleCount == 0)
+            return 0;
+
+        System.arraycopy(samples[phase.ordinal()], 0, sorted, 0, sampleCount);
+        Arrays.sort(sorted, 0, sampleCount);
+
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sampleCount) - 1)];
+    }
+
+    /**
+     * Retrieves the number of draw calls made during the most recent frame
+     *
+     * @return The draw calls, or zero if there is no GL context
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Retrieves the number of texture binds made during the most recent frame
+     *
+     * @return The texture binds, or zero if there is no GL context
+     */
+    public int getTextureBindings() {
+        return textureBindings;
+    }
+
+    /**
+     * Retrieves the amount of the Java heap currently in use
+     *
+     * @return The used heap, in bytes
+     */
+    public long getHeapUsed() {
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Retrieves the total number of garbage collections since the JVM started, across every collector
+     *
+     * @return The number of collections
+     */
+    public long getGarbageCollectionCount() {
+        long count = 0;
+
+        for (GarbageCollectorMXBean collector : collectors)
+            count += Math.max(0, collector.getCollectionCount());
+
+        return count;
+    }
+
+    /**
+     * Retrieves the total time spent in garbage collection since the JVM started, across every collector
+     *
+     * @return The accumulated collection time, in milliseconds
+     */
+    public long getGarbageCollectionTime() {
+        long time = 0;
+
+        for (GarbageCollectorMXBean collector : collectors)
+            time += Math.max(0, collector.getCollectionTime());
+
+        return time;
+    }
+}
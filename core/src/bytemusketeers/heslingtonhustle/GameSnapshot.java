@@ -0,0 +1,138 @@
+package bytemusketeers.heslingtonhustle;
+
+import bytemusketeers.heslingtonhustle.metrics.MetricController;
+import bytemusketeers.heslingtonhustle.scene.Area;
+import com.badlogic.gdx.math.Vector2;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link GameSnapshot} is an immutable copy of the persistent state of a {@link Simulation}: every metric, the
+ * active {@link Area}, the position of the {@link bytemusketeers.heslingtonhustle.scene.Character}, and the position to
+ * which it returns upon leaving a building. It is captured on the render thread, and may then be written from any
+ * thread.
+ *
+ * @implNote The binary form begins with the {@link #MAGIC} number and {@link #VERSION}, followed by the metric count
+ *           and each metric as an integer, the {@link Area.Name} ordinal as a byte, the four position components as
+ *           floats, and the game-over flag; some forty bytes in all
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Simulation#snapshot()
+ * @see Simulation#restore(GameSnapshot)
+ * @see SaveManager
+ */
+public final class GameSnapshot {
+    /**
+     * The magic number with which every save begins: the ASCII characters {@code HHSV}
+     */
+    private static final int MAGIC = 0x48485356;
+
+    /**
+     * The version of the save format written by {@link #write(DataOutput)}
+     */
+    private static final short VERSION = 1;
+
+    /**
+     * The number of metrics in the current {@link MetricController.Metric} enumeration
+     */
+    private static final int METRIC_COUNT = MetricController.Metric.values().length;
+
+    /**
+     * The integral state of every metric, indexed by {@link MetricController.Metric} ordinal
+     *
+     * @see MetricController#captureStates(int[])
+     */
+    final int[] metrics = new int[METRIC_COUNT];
+
+    /**
+     * The active {@link Area}
+     */
+    final Area.Name area;
+
+    /**
+     * The position of the {@link bytemusketeers.heslingtonhustle.scene.Character}, in in-game metres
+     */
+    final Vector2 position;
+
+    /**
+     * The position at which the {@link bytemusketeers.heslingtonhustle.scene.Character} reappears upon leaving a
+     * building, in in-game metres
+     */
+    final Vector2 outdoorPosition;
+
+    /**
+     * Had the final day been slept through?
+     */
+    final boolean gameOver;
+
+    /**
+     * Writes the {@link GameSnapshot} in its versioned binary form
+     *
+     * @param out The destination of the binary form
+     * @throws IOException The snapshot could not be written
+     * @see #read(DataInput)
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        out.writeByte(METRIC_COUNT);
+        for (int state : metrics)
+            out.writeInt(state);
+
+        out.writeByte(area.ordinal());
+        out.writeFloat(position.x);
+        out.writeFloat(position.y);
+        out.writeFloat(outdoorPosition.x);
+        out.writeFloat(outdoorPosition.y);
+        out.writeBoolean(gameOver);
+    }
+
+    /**
+     * Reads a {@link GameSnapshot} from its versioned binary form
+     *
+     * @param in The source of the binary form
+     * @return The {@link GameSnapshot} read
+     * @throws IOException The snapshot could not be read, or is not of the current {@link #VERSION}
+     * @see #write(DataOutput)
+     */
+    static GameSnapshot read(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC || in.readShort() != VERSION)
+            throw new IOException("Not a version " + VERSION + " save");
+
+        if (in.readUnsignedByte() != METRIC_COUNT)
+            throw new IOException("Save holds an unexpected number of metrics");
+
+        final int[] metrics = new int[METRIC_COUNT];
+        for (int i = 0; i < METRIC_COUNT; i++)
+            metrics[i] = in.readInt();
+
+        final int area = in.readUnsignedByte();
+        if (area >= Area.Name.values().length)
+            throw new IOException("Save names an unknown area");
+
+        final GameSnapshot snapshot = new GameSnapshot(Area.Name.values()[area],
+            new Vector2(in.readFloat(), in.readFloat()), new Vector2(in.readFloat(), in.readFloat()),
+            in.readBoolean());
+        System.arraycopy(metrics, 0, snapshot.metrics, 0, METRIC_COUNT);
+
+        return snapshot;
+    }
+
+    /**
+     * Instantiates a new {@link GameSnapshot}, whose {@link #metrics} are yet to be captured
+     *
+     * @param area The active {@link Area}
+     * @param position The position of the {@link bytemusketeers.heslingtonhustle.scene.Character}, which is copied
+     * @param outdoorPosition The position at which the {@link bytemusketeers.heslingtonhustle.scene.Character}
+     *                        reappears upon leaving a building, which is copied
+     * @param gameOver Had the final day been slept through?
+     */
+    GameSnapshot(Area.Name area, Vector2 position, Vector2 outdoorPosition, boolean gameOver) {
+        this.area = area;
+        this.position = new Vector2(position);
+        this.outdoorPosition = new Vector2(outdoorPosition);
+        this.gameOver = gameOver;
+    }
+}
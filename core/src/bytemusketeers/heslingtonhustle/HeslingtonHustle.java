@@ -1,5 +1,8 @@
 package bytemusketeers.heslingtonhustle;
 
+import bytemusketeers.heslingtonhustle.input.InputRecorder;
+import bytemusketeers.heslingtonhustle.input.InputSource;
+import bytemusketeers.heslingtonhustle.input.KeyboardInput;
 import bytemusketeers.heslingtonhustle.scene.Area;
 import bytemusketeers.heslingtonhustle.scene.Drawable;
 import bytemusketeers.heslingtonhustle.scene.InvalidAreaException;
@@ -37,6 +40,23 @@ public class HeslingtonHustle extends Game {
      */
     private Screen playScreen;
 
+    /**
+     * The source of the player {@link bytemusketeers.heslingtonhustle.input.Command}s
+     */
+    private final InputSource input;
+
+    /**
+     * The {@link InputRecorder} to which the session is written, or null if it is not being recorded
+     */
+    private final InputRecorder recorder;
+
+    /**
+     * Should the game continue from the save file, if there is one?
+     *
+     * @see SaveManager
+     */
+    private final boolean resume;
+
     /**
      * Scales a pixel component to in-game metres
      *
@@ -65,7 +85,7 @@ public class HeslingtonHustle extends Game {
         batch = new SpriteBatch();
 
         try {
-            playScreen = new PlayScreen(batch);
+            playScreen = new PlayScreen(batch, input, recorder, resume);
             setScreen(playScreen);
         } catch (InvalidAreaException iae) {
             //noinspection CallToPrintStackTrace
@@ -83,4 +103,24 @@ public class HeslingtonHustle extends Game {
         batch.dispose();
         super.dispose();
     }
+
+    /**
+     * Instantiates a new {@link HeslingtonHustle} played from the keyboard, without recording
+     */
+    public HeslingtonHustle() {
+        this(new KeyboardInput(), null, false);
+    }
+
+    /**
+     * Instantiates a new {@link HeslingtonHustle} driven by the given {@link InputSource}, e.g. a replay
+     *
+     * @param input The source of the player {@link bytemusketeers.heslingtonhustle.input.Command}s
+     * @param recorder The {@link InputRecorder} to which the session should be written, or null
+     * @param resume Should the game continue from the save file, if there is one, rather than start afresh?
+     */
+    public HeslingtonHustle(InputSource input, InputRecorder recorder, boolean resume) {
+        this.input = input;
+        this.recorder = recorder;
+        this.resume = resume;
+    }
 }
@@ -1,29 +1,33 @@
 package bytemusketeers.heslingtonhustle;
 
+import bytemusketeers.heslingtonhustle.diagnostics.FrameEvent;
+import bytemusketeers.heslingtonhustle.input.Command;
+import bytemusketeers.heslingtonhustle.input.InputRecorder;
+import bytemusketeers.heslingtonhustle.input.InputReplay;
+import bytemusketeers.heslingtonhustle.input.InputSource;
 import bytemusketeers.heslingtonhustle.metrics.MetricController;
 import bytemusketeers.heslingtonhustle.metrics.MetricListener;
-import bytemusketeers.heslingtonhustle.metrics.MetricUpdater;
 import bytemusketeers.heslingtonhustle.scene.Area;
-import bytemusketeers.heslingtonhustle.scene.AreaFactory;
+import bytemusketeers.heslingtonhustle.scene.AreaLoader;
 import bytemusketeers.heslingtonhustle.scene.Character;
 import bytemusketeers.heslingtonhustle.scene.InvalidAreaException;
 import bytemusketeers.heslingtonhustle.ui.Overlay;
 import bytemusketeers.heslingtonhustle.ui.OverlayFactory;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.io.IOException;
 
 /**
  * The {@link PlayScreen} class represents a screen which is shown after the game starts, implementing {@link Screen}
- * interface. It manages the various game cameras, the {@link Character}, and the {@link Area} vector which the player
- * can explore. All assets for the game are preloaded when {@link PlayScreen} is constructed.
+ * interface. It manages the various game cameras and {@link Overlay} elements, and presents the {@link Simulation}
+ * holding the {@link Character} and the {@link Area} vector which the player can explore. All assets for the game are
+ * queued for loading when {@link PlayScreen} is constructed.
  *
  * @author ENG1 Team 23 (Cohort 3)
  */
@@ -36,11 +40,6 @@ public class PlayScreen implements Screen {
         GAME_PLAYING, GAME_PAUSED, GAME_OVER
     }
 
-    /**
-     * The initial {@link Area} into which the {@link Character} should spawn upon starting the game
-     */
-    private static final Area.Name DEFAULT_AREA = Area.Name.OutdoorMap;
-
     /**
      * Stores the transient {@link GameState} being experienced by the player in the {@link PlayScreen}
      */
@@ -62,12 +61,20 @@ public class PlayScreen implements Screen {
     private final Viewport viewport;
 
     /**
-     * The player-controlled {@link com.badlogic.gdx.graphics.g2d.Sprite} that is tracked by the game camera
+     * The reusable position vector upon which the game camera is centred, in in-game metres
      *
-     * @see Character
+     * @see #update(float)
+     */
+    private final Vector2 cameraTarget = new Vector2();
+
+    /**
+     * The gameplay state presented by the {@link PlayScreen}, including the player-controlled {@link Character} that is
+     * tracked by the game camera
+     *
+     * @see Simulation
      * @see OrthographicCamera
      */
-    private final Character character;
+    private final Simulation simulation;
 
     /**
      * The persistent heads-up display {@link Overlay} presenting real-time metric information to the player
@@ -93,102 +100,113 @@ public class PlayScreen implements Screen {
     private final Overlay gameOverMenu;
 
     /**
-     * The relationship between {@link Area} and the {@link Area.Name}
+     * The toggleable {@link Overlay} presenting the per-phase frame timings of the {@link #profiler}
      *
-     * @see Area
-     * @see Area.Name
+     * @see #toggleProfiler()
      */
-    private final Map<Area.Name, Area> areas = new EnumMap<>(Area.Name.class);
+    private final Overlay profilerOverlay;
 
     /**
-     * The {@link Area} subject to world collision, interaction, and rendering
-     *
-     * @see Area#step()
-     * @see #update()
-     * @see #render(float)
+     * The {@link FrameProfiler} measuring each phase of {@link #render(float)}, owned by the {@link #simulation}
      */
-    private Area activeArea;
+    private final FrameProfiler profiler;
 
     /**
-     * The {@link MetricController} stores and provides means of manipulating and updating
-     * {@link MetricController.Metric} values
-     *
-     * @see MetricListener
-     * @see MetricUpdater
+     * The path, relative to the working directory, of the save file
      */
-    private final MetricController metricController;
+    private static final String SAVE_PATH = "heslington-hustle.save";
 
     /**
-     * Initialise the play {@link Area}s
+     * The {@link SaveManager} to which the {@link #simulation} is autosaved upon each new day, unless the session is
+     * being recorded or replayed
      *
-     * @see Area
-     * @see AreaFactory
+     * @see Simulation#advanceDay()
      */
-    private void initialiseAreas() throws InvalidAreaException {
-        AreaFactory factory = new AreaFactory(metricController, this);
+    private final SaveManager saveManager = new SaveManager(SAVE_PATH);
 
-        areas.put(Area.Name.OutdoorMap, factory.createOutdoorMap());
-        areas.put(Area.Name.PiazzaBuilding, factory.createPiazzaMap());
-        areas.put(Area.Name.CompSciBuilding, factory.createCSMap());
-        areas.put(Area.Name.BedroomBuilding, factory.createBedroomMap());
-    }
+    /**
+     * The source of the {@link Command}s issued during each frame
+     */
+    private final InputSource input;
 
     /**
-     * Handles user system events, such as key-presses.
+     * The {@link InputRecorder} to which every frame is written, or null if the session is not being recorded
+     */
+    private final InputRecorder recorder;
+
+    /**
+     * The command bit-mask of the current frame
      *
-     * @implNote In the future, this implementation should be replaced by an implementation of
-     *           {@link com.badlogic.gdx.InputProcessor} or an extension of {@link com.badlogic.gdx.InputAdapter}. In
-     *           that case, {@link Input.Keys} could be switched over by overrides of
-     *           {@link com.badlogic.gdx.InputProcessor#keyDown(int)},
-     *           {@link com.badlogic.gdx.InputProcessor#keyUp(int)},
-     *           {@link com.badlogic.gdx.InputProcessor#keyTyped(char)}, etc. This may be chained with a
-     *           {@link com.badlogic.gdx.InputMultiplexer} to account for differing, per-{@link Screen} input schemas.
+     * @see #handleInput()
+     */
+    private int commands = 0;
+
+    /**
+     * Handles the {@link Command}s issued by the {@link #input} during the current frame
      *
-     * @implNote In such an implementation as above, the key-bindings could be separated out into a distinct enum or
-     *           class, in which eventuality, the constructor would match a {@link Input.Keys} with corresponding
-     *           {@link Runnable} from the context of the {@link PlayScreen}. This would avoid the "magic keys" as seen
-     *           here, and also allow for runtime re-bindings of key combinations with their respective {@link Runnable}
-     *           action.
+     * @implNote Every {@link Command} is drawn from the {@link InputSource}, rather than polled from the keyboard
+     *           directly, such that a session may be recorded and replayed frame-for-frame; see {@link InputRecorder}
      */
     private void handleInput() {
-        if (Gdx.input.isKeyJustPressed(Input.Keys.Q))
+        commands = input.poll();
+
+        if (Command.Quit.isIn(commands) || input.isFinished())
             Gdx.app.exit();
 
+        if (Command.Profiler.isIn(commands))
+            toggleProfiler();
+
+        if (simulation.isGameOver())
+            state = GameState.GAME_OVER;
+
         if (state != GameState.GAME_OVER) {
-            if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE))
+            if (Command.Pause.isIn(commands))
                 togglePaused();
 
-            if (state != GameState.GAME_PAUSED) {
-                if (Gdx.input.isKeyPressed(Input.Keys.W)) character.moveUp();
-                if (Gdx.input.isKeyPressed(Input.Keys.S)) character.moveDown();
-                if (Gdx.input.isKeyPressed(Input.Keys.A)) character.moveLeft();
-                if (Gdx.input.isKeyPressed(Input.Keys.D)) character.moveRight();
-
-                if (Gdx.input.isKeyJustPressed(Input.Keys.E))
-                    activeArea.triggerInteractables(character.getPosition());
-            }
+            if (state != GameState.GAME_PAUSED)
+                simulation.control(commands);
         }
     }
 
     /**
-     * Handles the game logic and updates the state of the game world
+     * Handles the game logic and updates the state of the game world, which is frozen unless the game is being played
+     *
+     * @param delta The time in seconds since the last render
+     * @see Simulation#update(float)
      */
-    private void update() {
+    private void update(float delta) {
         final float horizontalGutter = viewport.getWorldWidth() / 2;
         final float verticalGutter = viewport.getWorldHeight() / 2;
 
-        // Configure the collision-detection parameters in the game world
-        activeArea.step();
+        // Step the game world by the elapsed frame time, or the replayed number of ticks, and apply the character
+        // movement. Nothing moves behind the pause menu or the game-over screen, so no ticks are stepped, nor
+        // recorded, whilst either is shown.
+        int ticks = 0;
+        if (state == GameState.GAME_PLAYING) {
+            ticks = input.getTicks();
+
+            if (ticks == InputSource.REAL_TIME)
+                ticks = simulation.update(delta);
+            else
+                simulation.updateTicks(ticks);
+        }
 
-        // Handle movement and update the character velocities and position accordingly
-        character.move();
+        if (recorder != null)
+            recorder.record(commands, ticks);
 
-        // Update the game camera position, such that the character is followed, unless close to a map boundary
-        gameCam.position.set(activeArea.bound(character.getPosition(), horizontalGutter, verticalGutter), 0);
+        final Area activeArea = simulation.getActiveArea();
+        final Character character = simulation.getCharacter();
+
+        // Update the game camera position, such that the (interpolated) character is followed, unless close to a map
+        // boundary
+        profiler.begin(FrameProfiler.Phase.Camera);
+        cameraTarget.set(character.getRenderPosition());
+        gameCam.position.set(activeArea.bound(cameraTarget, horizontalGutter, verticalGutter), 0);
         gameCam.update();
 
         // Update the viewport boundaries with the game camera information
         activeArea.updateView(gameCam);
+        profiler.end(FrameProfiler.Phase.Camera);
     }
 
     /**
@@ -252,41 +270,12 @@ public class PlayScreen implements Screen {
     }
 
     /**
-     * Switch to the {@link Area} identified by the given {@link Area.Name} key
+     * Shows, or hides, the {@link #profilerOverlay}, enabling the {@link #profiler} only whilst it is shown
      *
-     * @param areaName The {@link Area.Name} of the new {@link Area}
-     * @see Area
-     */
-    public void switchArea(Area.Name areaName) {
-        if (areaName != Area.Name.OutdoorMap)
-            // If going inside, save the outdoor position for when exiting the building
-            activeArea.setInitialCharacterPosition(character.getPosition());
-
-        // Switch the active area render target and inform the character of its body context change
-        activeArea = areas.get(areaName);
-        metricController.changeAreaMetric(areaName);
-        character.switchCharacterContext(areaName);
-        character.setPosition(activeArea.getInitialCharacterPosition());
-
-        // Update the game camera; bounding on map edges will be performed during the render cycle
-        gameCam.position.set(activeArea.getInitialCharacterPosition(), 0);
-        gameCam.update();
-    }
-
-    /**
-     * Advances the day, or finishes the game as appropriate. The {@link MetricController.Metric#Sleep} is always
-     * incremented, since the game is over after the final sleep, on the morning of the exam!
-     *
-     * @see MetricController#advanceDOWMetric()
-     * @see GameState
+     * @see FrameProfiler#setEnabled(boolean)
      */
-    public void advanceDay() {
-        metricController.incrementPlayerMetric(MetricController.Metric.Sleep, 1);
-
-        if (metricController.isFinalDay())
-            state = GameState.GAME_OVER;
-        else
-            metricController.advanceDOWMetric();
+    private void toggleProfiler() {
+        profiler.setEnabled(!profiler.isEnabled());
     }
 
     /**
@@ -294,11 +283,14 @@ public class PlayScreen implements Screen {
      */
     @Override
     public void dispose() {
-        for (Area area : areas.values())
-            area.dispose();
+        if (recorder != null)
+            recorder.dispose();
 
-        character.dispose();
+        // Wait for any autosave still being written before tearing down the simulation
+        saveManager.dispose();
+        simulation.dispose();
         hud.dispose();
+        profilerOverlay.dispose();
     }
 
     /**
@@ -310,38 +302,72 @@ public class PlayScreen implements Screen {
      * @param delta The time in seconds since the last render
      * @see Area
      * @see Character
-     * @implNote In the future, the time-delta parameter should be used for consistent cross-platform rendering and
-     *           input-handling; see {@link #handleInput()}.
+     * @implNote The time-delta parameter drives the fixed-timestep {@link Simulation}, such that gameplay speed is
+     *           independent of the frame rate; see {@link Simulation#update(float)}.
      */
     @Override
     public void render(float delta) {
+        final FrameEvent frameEvent = new FrameEvent();
+        frameEvent.begin();
+
+        profiler.begin(FrameProfiler.Phase.Input);
         handleInput();
-        update();
+        profiler.end(FrameProfiler.Phase.Input);
+
+        update(delta);
 
         batch.setProjectionMatrix(gameCam.combined);
         batch.begin();
-        activeArea.render(batch);
-        character.render(batch);
+
+        profiler.begin(FrameProfiler.Phase.Map);
+        simulation.getActiveArea().renderMap(batch);
+        profiler.end(FrameProfiler.Phase.Map);
+
+        profiler.begin(FrameProfiler.Phase.Drawables);
+        simulation.getActiveArea().renderDrawables(batch);
+        simulation.getCharacter().render(batch);
         batch.end();
+        profiler.end(FrameProfiler.Phase.Drawables);
+
+        profiler.begin(FrameProfiler.Phase.HUD);
         hud.render(batch);
+        profiler.end(FrameProfiler.Phase.HUD);
 
         if (state == GameState.GAME_PAUSED)
             pauseMenu.render(batch);
         else if (state == GameState.GAME_OVER)
             gameOverMenu.render(batch);
+
+        if (profiler.isEnabled())
+            profilerOverlay.render(batch);
+
+        profiler.endFrame();
+
+        if (frameEvent.shouldCommit()) {
+            frameEvent.delta = delta;
+            frameEvent.area = simulation.getActiveAreaName().toString();
+            frameEvent.commit();
+        }
     }
 
     /**
-     * Instantiates a new {@link PlayScreen} to be used for the playing area of the game. This constructor loads all
-     * assets for all stages of the playing area, to be manipulated and rendered when required.
+     * Instantiates a new {@link PlayScreen} to be used for the playing area of the game. This constructor loads the
+     * assets of the initial stage of the playing area, and queues all others to stream in during gameplay.
      *
      * @param batch The LibGDX {@link SpriteBatch} to use for batch object rendering
+     * @param input The source of the {@link Command}s of each frame
+     * @param recorder The {@link InputRecorder} to which every frame should be written, or null, in which case the
+     *                 session is not recorded
+     * @param resume Should the game continue from the save file, if there is one, rather than start afresh?
      * @throws InvalidAreaException At least one {@link Area} required by the {@link PlayScreen} could not be properly
-     *                              instantiated by the {@link AreaFactory}
+     *                              instantiated by the {@link AreaLoader}
      */
-    PlayScreen(SpriteBatch batch) throws InvalidAreaException {
+    PlayScreen(SpriteBatch batch, InputSource input, InputRecorder recorder, boolean resume)
+        throws InvalidAreaException {
         // LibGDX core components
         this.batch = batch;
+        this.input = input;
+        this.recorder = recorder;
         gameCam = new OrthographicCamera();
         viewport = new StretchViewport(HeslingtonHustle.scaleToMetres(Gdx.graphics.getWidth()),
             HeslingtonHustle.scaleToMetres(Gdx.graphics.getHeight()), gameCam);
@@ -366,18 +392,27 @@ public class PlayScreen implements Screen {
             }
         );
 
-        // Create the controller assigned with the standard updater, thus linking the controller and the HUD
-        final MetricUpdater metricUpdater = new MetricUpdater((MetricListener) hud);
-        metricController = new MetricController(metricUpdater);
+        // Initialise final-stage gameplay elements, linking the metric controller and the HUD
+        simulation = new Simulation((MetricListener) hud);
+        profiler = simulation.getProfiler();
+        profilerOverlay = overlayFactory.createProfiler(profiler);
+
+        if (resume && saveManager.hasSave())
+            try {
+                simulation.restore(saveManager.load());
+            } catch (IOException | IllegalArgumentException e) {
+                // An unreadable save is reported, and the game starts afresh
+                //noinspection CallToPrintStackTrace
+                e.printStackTrace();
+            }
 
-        // Initialise final-stage gameplay elements
-        initialiseAreas();
-        character = new Character(areas, DEFAULT_AREA);
-        activeArea = areas.get(DEFAULT_AREA);
-        switchArea(DEFAULT_AREA);
+        // A recorded or replayed session must not overwrite the save of the player
+        if (recorder == null && !(input instanceof InputReplay))
+            simulation.setAutosave(saveManager);
 
-        // Send an initial pulse of each established metric to the updater
-        for (MetricController.Metric metric : MetricController.Metric.values())
-            metricUpdater.sendUpdate(metric, metricController.getMetricStringValue(metric));
+        // Place the game camera over the spawn position; bounding on map edges will be performed during the render
+        // cycle
+        gameCam.position.set(simulation.getCharacter().getPosition(), 0);
+        gameCam.update();
     }
 }
@@ -0,0 +1,122 @@
+package bytemusketeers.heslingtonhustle;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The {@link SaveManager} persists {@link GameSnapshot}s to a single save file. Writes are performed on a dedicated
+ * background thread, such that saving never stalls the render thread, and are atomic, such that a save interrupted
+ * part-way, e.g. by the process being killed, never corrupts the previous save.
+ *
+ * @implNote Each write goes to a temporary sibling of the save file, which is then moved over it. Writes are executed
+ *           in submission order by a single thread, so the latest submitted {@link GameSnapshot} always prevails.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see GameSnapshot
+ */
+public final class SaveManager implements Disposable {
+    /**
+     * The path of the save file
+     */
+    private final Path path;
+
+    /**
+     * The path of the temporary file into which each save is written before replacing the {@link #path}
+     */
+    private final Path temporaryPath;
+
+    /**
+     * The single background thread on which saves are written
+     */
+    private final AsyncExecutor executor = new AsyncExecutor(1, "SaveManager");
+
+    /**
+     * Writes the given {@link GameSnapshot} to the save file, replacing it atomically
+     *
+     * @param snapshot The {@link GameSnapshot} to write
+     * @throws IOException The save could not be written
+     */
+    private void write(GameSnapshot snapshot) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+            Files.newOutputStream(temporaryPath)))) {
+            snapshot.write(out);
+        }
+
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioe) {
+            // Some file-systems cannot replace atomically, in which case a plain replacement is the best available
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Queues the given {@link GameSnapshot} to be written in the background
+     *
+     * @param snapshot The {@link GameSnapshot} to save, which must not be altered thereafter
+     * @apiNote A failed save is reported to the standard error stream, since it cannot be propagated to the caller,
+     *          and leaves the previous save intact
+     */
+    public void save(GameSnapshot snapshot) {
+        executor.submit(() -> {
+            try {
+                write(snapshot);
+            } catch (IOException ioe) {
+                //noinspection CallToPrintStackTrace
+                ioe.printStackTrace();
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Does a save file exist?
+     *
+     * @return Is there a save to {@link #load()}?
+     */
+    public boolean hasSave() {
+        return Files.exists(path);
+    }
+
+    /**
+     * Reads the save file synchronously
+     *
+     * @return The saved {@link GameSnapshot}
+     * @throws IOException The save file could not be read, or is invalid
+     * @apiNote Any save queued through {@link #save(GameSnapshot)} may not yet have been written; loading is intended
+     *          to take place upon start-up, before any save has been queued
+     */
+    public GameSnapshot load() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return GameSnapshot.read(in);
+        }
+    }
+
+    /**
+     * Waits for every queued save to be written, and stops the background thread
+     */
+    @Override
+    public void dispose() {
+        executor.dispose();
+    }
+
+    /**
+     * Instantiates a new {@link SaveManager} persisting to the given save file
+     *
+     * @param path The file-system path of the save file, which need not yet exist
+     */
+    public SaveManager(String path) {
+        this.path = Paths.get(path);
+        temporaryPath = Paths.get(path + ".tmp");
+    }
+}
@@ -0,0 +1,518 @@
+package bytemusketeers.heslingtonhustle;
+
+import bytemusketeers.heslingtonhustle.diagnostics.AreaSwitchEvent;
+import bytemusketeers.heslingtonhustle.input.Command;
+import bytemusketeers.heslingtonhustle.metrics.MetricController;
+import bytemusketeers.heslingtonhustle.metrics.MetricListener;
+import bytemusketeers.heslingtonhustle.metrics.MetricUpdater;
+import bytemusketeers.heslingtonhustle.scene.Area;
+import bytemusketeers.heslingtonhustle.scene.AreaLoader;
+import bytemusketeers.heslingtonhustle.scene.Character;
+import bytemusketeers.heslingtonhustle.scene.InvalidAreaException;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * The {@link Simulation} owns the gameplay state of a single playthrough: the {@link Area} vector, the
+ * {@link Character}, and the {@link MetricController}. It performs no rendering and polls no input devices, such that
+ * it may be driven either by the {@link PlayScreen} at the display refresh rate, or by a headless backend at an
+ * uncapped tick rate.
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see PlayScreen
+ */
+public class Simulation implements Disposable {
+    /**
+     * The initial {@link Area} into which the {@link Character} should spawn upon starting the game
+     */
+    private static final Area.Name DEFAULT_AREA = Area.Name.OutdoorMap;
+
+    /**
+     * The maximum frame duration, in seconds, that {@link #update(float)} will simulate. Longer frames, e.g. following a
+     * window drag or a debugger breakpoint, are clamped, such that the number of catch-up sub-steps remains bounded.
+     */
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    /**
+     * The loading pipeline through which every {@link Area} is streamed in and retrieved
+     *
+     * @see Area
+     * @see Area.Name
+     */
+    private final AreaLoader areaLoader;
+
+    /**
+     * The player-controlled {@link com.badlogic.gdx.graphics.g2d.Sprite}
+     *
+     * @see Character
+     */
+    private final Character character;
+
+    /**
+     * The {@link MetricController} stores and provides means of manipulating and updating
+     * {@link MetricController.Metric} values
+     *
+     * @see MetricListener
+     * @see MetricUpdater
+     */
+    private final MetricController metricController;
+
+    /**
+     * The {@link MetricUpdater} bus through which {@link MetricController} updates are delivered to every
+     * {@link MetricListener} subscriber
+     *
+     * @see #addMetricListener(MetricListener)
+     */
+    private final MetricUpdater metricUpdater;
+
+    /**
+     * The {@link FrameProfiler} measuring the phases of each frame, which is disabled unless requested
+     *
+     * @see #getProfiler()
+     */
+    private final FrameProfiler profiler = new FrameProfiler();
+
+    /**
+     * The {@link Area} subject to world collision and interaction
+     *
+     * @see Area#step()
+     * @see #step()
+     */
+    private Area activeArea;
+
+    /**
+     * The outdoor {@link Area}, which is the {@link #DEFAULT_AREA}, whose initial {@link Character} position is the
+     * point of return upon leaving a building
+     */
+    private final Area outdoorArea;
+
+    /**
+     * The {@link Area.Name} of the {@link #activeArea}
+     */
+    private Area.Name activeAreaName = DEFAULT_AREA;
+
+    /**
+     * The simulated time, in seconds, that has elapsed but not yet been consumed by an {@link Area#step()}
+     *
+     * @see #update(float)
+     */
+    private float accumulator = 0;
+
+    /**
+     * Has the final day been slept through?
+     *
+     * @see #advanceDay()
+     */
+    private boolean gameOver = false;
+
+    /**
+     * The {@link SaveManager} to which a {@link GameSnapshot} is written upon each {@link #advanceDay()}, or null if
+     * autosaving is disabled
+     *
+     * @see #setAutosave(SaveManager)
+     */
+    private SaveManager autosave;
+
+    /**
+     * Queues the assets of every play {@link Area} for loading, with the {@link #DEFAULT_AREA} first, such that it may
+     * be created without waiting for any other {@link Area}
+     *
+     * @see AreaLoader#queue(Area.Name)
+     */
+    private void queueAreas() {
+        areaLoader.queue(DEFAULT_AREA);
+        for (Area.Name areaName : Area.Name.values())
+            areaLoader.queue(areaName);
+    }
+
+    /**
+     * Steps the active {@link Area} world by a single {@link Area#TIME_STEP}, recording the prior {@link Character}
+     * position for interpolation, and first bringing the collision geometry about the {@link Character} into residency
+     *
+     * @see Character#savePreviousPosition()
+     * @see Area#streamAround(com.badlogic.gdx.math.Vector2)
+     */
+    private void advance() {
+        activeArea.streamAround(character.getPosition());
+        character.savePreviousPosition();
+
+        profiler.begin(FrameProfiler.Phase.Step);
+        activeArea.step();
+        profiler.end(FrameProfiler.Phase.Step);
+
+        character.animate(Area.TIME_STEP);
+    }
+
+    /**
+     * Interpolates the drawn state of the {@link Character}, and of the {@link Area} crowd, between the two most recent
+     * physics states
+     *
+     * @param alpha The proportion of a {@link Area#TIME_STEP} elapsed since the latest tick, in [0, 1]
+     * @see Character#interpolate(float)
+     * @see Area#interpolate(float)
+     */
+    private void interpolate(float alpha) {
+        character.interpolate(alpha);
+        activeArea.interpolate(alpha);
+    }
+
+    /**
+     * Applies the {@link Character} velocity accumulated since the previous tick
+     *
+     * @see Character#move()
+     */
+    private void move() {
+        profiler.begin(FrameProfiler.Phase.Move);
+        character.move();
+        profiler.end(FrameProfiler.Phase.Move);
+    }
+
+    /**
+     * Advances the {@link Simulation} by a single fixed tick: the {@link Character} velocity accumulated since the
+     * previous tick is applied, and the active {@link Area} world is stepped by one {@link Area#TIME_STEP}
+     *
+     * @see Area#step()
+     * @see Character#move()
+     * @see #update(float)
+     */
+    public void step() {
+        activeArea.beginFrame();
+        areaLoader.update();
+        move();
+        advance();
+        interpolate(1);
+        metricController.flushUpdates();
+    }
+
+    /**
+     * Advances the {@link Simulation} by the given frame duration: the {@link Character} velocity accumulated during the
+     * frame is applied, and the active {@link Area} world is stepped by as many whole {@link Area#TIME_STEP}s as have
+     * elapsed, which may be none. The remainder is carried to the next frame, and used to interpolate the
+     * {@link Character} draw position between the two most recent physics states.
+     *
+     * @param delta The time in seconds since the last frame
+     * @return The number of whole {@link Area#TIME_STEP}s stepped, e.g. for recording by an
+     *         {@link bytemusketeers.heslingtonhustle.input.InputRecorder}
+     * @see #step()
+     * @see Character#interpolate(float)
+     */
+    public int update(float delta) {
+        int ticks = 0;
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+        activeArea.beginFrame();
+
+        // Continue streaming in the assets of any areas not yet visited
+        areaLoader.update();
+
+        // Handle movement and update the character velocity accordingly; this persists across all sub-steps
+        move();
+
+        while (accumulator >= Area.TIME_STEP) {
+            advance();
+            accumulator -= Area.TIME_STEP;
+            ticks++;
+        }
+
+        interpolate(accumulator / Area.TIME_STEP);
+
+        // Deliver the metric alterations made during the frame, e.g. by interaction actions, as a single batch
+        metricController.flushUpdates();
+        return ticks;
+    }
+
+    /**
+     * Advances the {@link Simulation} by a frame of exactly the given number of fixed ticks, as {@link #update(float)}
+     * would for a frame of that duration, irrespective of the time actually elapsed
+     *
+     * @param ticks The number of {@link Area#TIME_STEP}s to step, which may be zero
+     * @see bytemusketeers.heslingtonhustle.input.InputReplay
+     */
+    public void updateTicks(int ticks) {
+        activeArea.beginFrame();
+        areaLoader.update();
+        move();
+
+        for (int i = 0; i < ticks; i++)
+            advance();
+
+        interpolate(1);
+        metricController.flushUpdates();
+    }
+
+    /**
+     * Applies the movement and interaction {@link Command}s of a frame to the {@link Character}
+     *
+     * @param commands The command bit-mask of the frame
+     * @see bytemusketeers.heslingtonhustle.input.InputSource#poll()
+     */
+    public void control(int commands) {
+        if (Command.Up.isIn(commands)) character.moveUp();
+        if (Command.Down.isIn(commands)) character.moveDown();
+        if (Command.Left.isIn(commands)) character.moveLeft();
+        if (Command.Right.isIn(commands)) character.moveRight();
+
+        if (Command.Interact.isIn(commands))
+            interact();
+    }
+
+    /**
+     * Interact with any interactable objects close to the {@link Character} in the active {@link Area}
+     *
+     * @see Area#triggerInteractables(com.badlogic.gdx.math.Vector2)
+     */
+    public void interact() {
+        activeArea.triggerInteractables(character.getPosition());
+    }
+
+    /**
+     * Determines whether {@link #interact()} would reach any interactable object close to the {@link Character} in the
+     * active {@link Area}
+     *
+     * @return Can the {@link Character} interact with anything from its current position?
+     * @see Area#isInteractableInReach(com.badlogic.gdx.math.Vector2)
+     */
+    public boolean canInteract() {
+        return activeArea.isInteractableInReach(character.getPosition());
+    }
+
+    /**
+     * Switch to the {@link Area} identified by the given {@link Area.Name} key. If the {@link Area} has not finished
+     * streaming in, the remainder of its assets are loaded synchronously.
+     *
+     * @param areaName The {@link Area.Name} of the new {@link Area}
+     * @apiNote If the {@link Area} cannot be loaded, e.g. due to an externally corrupted TMX tile-map, the switch is
+     *          abandoned and the {@link Character} remains in the current {@link Area}, since throwing in the LibGDX
+     *          render thread is undesirable.
+     * @see Area
+     * @see AreaLoader#get(Area.Name)
+     */
+    public void switchArea(Area.Name areaName) {
+        final AreaSwitchEvent event = new AreaSwitchEvent();
+        event.begin();
+        event.preloaded = areaLoader.isLoaded(areaName);
+
+        final Area area;
+
+        try {
+            area = areaLoader.get(areaName);
+        } catch (InvalidAreaException iae) {
+            //noinspection CallToPrintStackTrace
+            iae.printStackTrace();
+            return;
+        }
+
+        if (areaName != Area.Name.OutdoorMap)
+            // If going inside, save the outdoor position for when exiting the building
+            activeArea.setInitialCharacterPosition(character.getPosition().cpy());
+
+        // Switch the active area, putting the bodies of the former to rest, and inform the character of its body
+        // context change
+        activeArea.setActive(false);
+        activeArea = area;
+        activeArea.setActive(true);
+        metricController.changeAreaMetric(areaName);
+        character.switchCharacterContext(area);
+        character.setPosition(activeArea.getInitialCharacterPosition());
+
+        event.from = activeAreaName.toString();
+        event.to = areaName.toString();
+        activeAreaName = areaName;
+        event.commit();
+    }
+
+    /**
+     * Advances the day, or finishes the game as appropriate. The {@link MetricController.Metric#Sleep} is always
+     * incremented, since the game is over after the final sleep, on the morning of the exam! The crowd of every created
+     * {@link Area} is sent home to sleep likewise.
+     *
+     * @see MetricController#advanceDOWMetric()
+     * @see AreaLoader#sendCrowdsHome()
+     * @see #isGameOver()
+     */
+    public void advanceDay() {
+        metricController.incrementPlayerMetric(MetricController.Metric.Sleep, 1);
+
+        if (metricController.isFinalDay())
+            gameOver = true;
+        else
+            metricController.advanceDOWMetric();
+
+        areaLoader.sendCrowdsHome();
+
+        // Only the capture occupies the render thread; the write is performed in the background. A finished game is not
+        // saved, lest resuming it lead straight back to the end
+        if (autosave != null && !gameOver)
+            autosave.save(snapshot());
+    }
+
+    /**
+     * Enables, or disables, saving a {@link GameSnapshot} upon each {@link #advanceDay()} which does not end the game
+     *
+     * @param autosave The {@link SaveManager} to which each day should be saved, or null to disable autosaving
+     */
+    public void setAutosave(SaveManager autosave) {
+        this.autosave = autosave;
+    }
+
+    /**
+     * Captures the persistent state of the {@link Simulation}
+     *
+     * @return A {@link GameSnapshot}, independent of the {@link Simulation}, which may be written from any thread
+     * @implNote This copies a handful of fields, so it is cheap enough to call from within a frame
+     * @see #restore(GameSnapshot)
+     */
+    public GameSnapshot snapshot() {
+        final Vector2 outdoorPosition = (activeAreaName == Area.Name.OutdoorMap)
+            ? character.getPosition() : outdoorArea.getInitialCharacterPosition();
+        final GameSnapshot snapshot =
+            new GameSnapshot(activeAreaName, character.getPosition(), outdoorPosition, gameOver);
+
+        metricController.captureStates(snapshot.metrics);
+        return snapshot;
+    }
+
+    /**
+     * Restores the persistent state of the {@link Simulation} from the given {@link GameSnapshot}. Only the saved
+     * {@link Area} is created, if it has not been already; every other {@link Area} continues to stream in.
+     *
+     * @param snapshot The {@link GameSnapshot} to restore
+     * @throws IllegalArgumentException The {@link GameSnapshot} holds an invalid metric value
+     * @see #snapshot()
+     */
+    public void restore(GameSnapshot snapshot) {
+        metricController.restoreStates(snapshot.metrics);
+        gameOver = snapshot.gameOver;
+
+        switchArea(snapshot.area);
+        outdoorArea.setInitialCharacterPosition(snapshot.outdoorPosition.cpy());
+        character.setPosition(snapshot.position);
+        character.savePreviousPosition();
+        interpolate(1);
+    }
+
+    /**
+     * Has the game finished?
+     *
+     * @return Has the final day been slept through?
+     * @see #advanceDay()
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Retrieves the loading progress of the {@link Area}s streaming in the background, e.g. for display to the player
+     *
+     * @return The proportion of queued {@link Area} assets that have finished loading, in [0, 1]
+     * @see AreaLoader#getProgress()
+     */
+    public float getLoadingProgress() {
+        return areaLoader.getProgress();
+    }
+
+    /**
+     * Subscribes an additional {@link MetricListener}, e.g. for persistence or telemetry, to every subsequent
+     * {@link MetricController} update. The current value of every metric is delivered to it upon the next frame.
+     *
+     * @param metricListener The {@link MetricListener} to subscribe
+     * @see MetricUpdater#addListener(MetricListener)
+     */
+    public void addMetricListener(MetricListener metricListener) {
+        metricUpdater.addListener(metricListener);
+    }
+
+    /**
+     * Unsubscribes the given {@link MetricListener} from every subsequent {@link MetricController} update
+     *
+     * @param metricListener The {@link MetricListener} to unsubscribe
+     * @see MetricUpdater#removeListener(MetricListener)
+     */
+    public void removeMetricListener(MetricListener metricListener) {
+        metricUpdater.removeListener(metricListener);
+    }
+
+    /**
+     * Retrieves the {@link FrameProfiler} through which the phases of each frame are measured, including the
+     * {@link FrameProfiler.Phase#Step} and {@link FrameProfiler.Phase#Move} phases within the {@link Simulation}
+     *
+     * @return The {@link FrameProfiler} owned by the {@link Simulation}
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Retrieves the player-controlled {@link Character}
+     *
+     * @return The {@link Character} owned by the {@link Simulation}
+     */
+    public Character getCharacter() {
+        return character;
+    }
+
+    /**
+     * Retrieves the {@link Area} currently subject to world collision, interaction, and rendering
+     *
+     * @return The active {@link Area}
+     */
+    public Area getActiveArea() {
+        return activeArea;
+    }
+
+    /**
+     * Retrieves the {@link Area.Name} of the {@link Area} currently subject to world collision, interaction, and
+     * rendering
+     *
+     * @return The {@link Area.Name} of the active {@link Area}
+     * @see #getActiveArea()
+     */
+    public Area.Name getActiveAreaName() {
+        return activeAreaName;
+    }
+
+    /**
+     * Releases all resources used by the {@link Simulation}
+     */
+    @Override
+    public void dispose() {
+        areaLoader.dispose();
+        character.dispose();
+    }
+
+    /**
+     * Instantiates a new {@link Simulation} in which every {@link Area} shares a single physics world
+     *
+     * @param metricListener The recipient of all {@link MetricController} updates, e.g. the heads-up display
+     * @throws InvalidAreaException The default {@link Area} could not be properly instantiated by the
+     *                              {@link AreaLoader}
+     * @see #Simulation(MetricListener, AreaLoader.WorldMode)
+     */
+    public Simulation(MetricListener metricListener) throws InvalidAreaException {
+        this(metricListener, AreaLoader.WorldMode.Shared);
+    }
+
+    /**
+     * Instantiates a new {@link Simulation}, loading the default {@link Area} and spawning the {@link Character} into
+     * it. All other {@link Area}s are queued to stream in during subsequent ticks.
+     *
+     * @param metricListener The recipient of all {@link MetricController} updates, e.g. the heads-up display
+     * @param worldMode The arrangement of physics worlds across the {@link Area}s
+     * @throws InvalidAreaException The default {@link Area} could not be properly instantiated by the
+     *                              {@link AreaLoader}
+     */
+    public Simulation(MetricListener metricListener, AreaLoader.WorldMode worldMode) throws InvalidAreaException {
+        // Create the controller assigned with the standard updater, thus linking the controller and the listener
+        metricUpdater = new MetricUpdater(metricListener);
+        metricController = new MetricController(metricUpdater);
+
+        areaLoader = new AreaLoader(metricController, this, worldMode);
+        queueAreas();
+        activeArea = outdoorArea = areaLoader.get(DEFAULT_AREA);
+        character = new Character(activeArea, areaLoader.getAnimation(Character.ANIMATION_NAME));
+        switchArea(DEFAULT_AREA);
+
+        // Send an initial pulse of each established metric to the listener
+        metricUpdater.postAll();
+        metricController.flushUpdates();
+    }
+}
@@ -0,0 +1,40 @@
+package bytemusketeers.heslingtonhustle.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An {@link AreaSwitchEvent} spans the switch of the {@link bytemusketeers.heslingtonhustle.scene.Character} from one
+ * {@link bytemusketeers.heslingtonhustle.scene.Area} to another, including any synchronous loading of the latter
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see bytemusketeers.heslingtonhustle.Simulation#switchArea(bytemusketeers.heslingtonhustle.scene.Area.Name)
+ */
+@Name("bytemusketeers.heslingtonhustle.AreaSwitch")
+@Label("Area Switch")
+@Category({"Heslington Hustle", "Scene"})
+@Description("A switch between areas, including any synchronous loading of the destination")
+public final class AreaSwitchEvent extends Event {
+    /**
+     * The human-readable name of the departed {@link bytemusketeers.heslingtonhustle.scene.Area}
+     */
+    @Label("From")
+    public String from;
+
+    /**
+     * The human-readable name of the destination {@link bytemusketeers.heslingtonhustle.scene.Area}
+     */
+    @Label("To")
+    public String to;
+
+    /**
+     * Had the destination {@link bytemusketeers.heslingtonhustle.scene.Area} already been created, such that the
+     * switch did not wait upon any loading?
+     */
+    @Label("Preloaded")
+    @Description("Had the destination already streamed in?")
+    public boolean preloaded;
+}
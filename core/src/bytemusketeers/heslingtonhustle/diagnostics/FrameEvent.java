@@ -0,0 +1,34 @@
+package bytemusketeers.heslingtonhustle.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A {@link FrameEvent} spans a single rendered frame of the {@link bytemusketeers.heslingtonhustle.PlayScreen}
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see PhaseEvent
+ */
+@Name("bytemusketeers.heslingtonhustle.Frame")
+@Label("Frame")
+@Category({"Heslington Hustle", "Game Loop"})
+@Description("A single rendered frame")
+@StackTrace(false)
+public final class FrameEvent extends Event {
+    /**
+     * The time since the previous frame, as reported by LibGDX
+     */
+    @Label("Delta")
+    @Description("The time since the previous frame, in seconds")
+    public float delta;
+
+    /**
+     * The human-readable name of the active {@link bytemusketeers.heslingtonhustle.scene.Area}
+     */
+    @Label("Area")
+    public String area;
+}
@@ -0,0 +1,53 @@
+package bytemusketeers.heslingtonhustle.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@link MapLoadEvent} spans the loading of a single tile-map, from the {@link com.badlogic.gdx.assets.AssetManager}
+ * beginning upon it until it is available; the time for which it was queued behind other assets beforehand is
+ * recorded separately
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see bytemusketeers.heslingtonhustle.scene.AreaLoader#queue(bytemusketeers.heslingtonhustle.scene.Area.Name)
+ */
+@Name("bytemusketeers.heslingtonhustle.MapLoad")
+@Label("Map Load")
+@Category({"Heslington Hustle", "Assets"})
+@Description("The loading of a tile-map, from its loader beginning upon it until available")
+public final class MapLoadEvent extends Event {
+    /**
+     * The path of the tile-map, relative to the assets directory
+     */
+    @Label("Path")
+    public String path;
+
+    /**
+     * Was the tile-map read from its build-time compiled form, rather than its TMX source?
+     */
+    @Label("Compiled")
+    public boolean compiled;
+
+    /**
+     * The width of the tile-map, in tiles
+     */
+    @Label("Width")
+    public int width;
+
+    /**
+     * The height of the tile-map, in tiles
+     */
+    @Label("Height")
+    public int height;
+
+    /**
+     * The time for which the tile-map was queued behind other assets before its loading began, in nanoseconds
+     */
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueWait;
+}
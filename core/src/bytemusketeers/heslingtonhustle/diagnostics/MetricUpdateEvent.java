@@ -0,0 +1,32 @@
+package bytemusketeers.heslingtonhustle.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A {@link MetricUpdateEvent} marks the alteration of a single
+ * {@link bytemusketeers.heslingtonhustle.metrics.MetricController.Metric}
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see bytemusketeers.heslingtonhustle.metrics.MetricController
+ */
+@Name("bytemusketeers.heslingtonhustle.MetricUpdate")
+@Label("Metric Update")
+@Category({"Heslington Hustle", "Metrics"})
+@Description("The alteration of a player or game metric")
+public final class MetricUpdateEvent extends Event {
+    /**
+     * The human-readable name of the altered metric
+     */
+    @Label("Metric")
+    public String metric;
+
+    /**
+     * The human-readable value of the metric following the alteration
+     */
+    @Label("Value")
+    public String value;
+}
@@ -0,0 +1,29 @@
+package bytemusketeers.heslingtonhustle.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A {@link PhaseEvent} spans a single phase of a frame, e.g. input handling, a physics step, or the rendering of the
+ * map
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see bytemusketeers.heslingtonhustle.FrameProfiler.Phase
+ * @see FrameEvent
+ */
+@Name("bytemusketeers.heslingtonhustle.Phase")
+@Label("Frame Phase")
+@Category({"Heslington Hustle", "Game Loop"})
+@Description("A single phase of a frame")
+@StackTrace(false)
+public final class PhaseEvent extends Event {
+    /**
+     * The human-readable name of the phase
+     */
+    @Label("Phase")
+    public String phase;
+}
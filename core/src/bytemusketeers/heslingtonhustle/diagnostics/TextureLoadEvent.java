@@ -0,0 +1,40 @@
+package bytemusketeers.heslingtonhustle.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A {@link TextureLoadEvent} spans the creation of a texture, or texture atlas, from being queued upon the
+ * {@link com.badlogic.gdx.assets.AssetManager} until it is uploaded to the GPU
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see bytemusketeers.heslingtonhustle.scene.AreaLoader
+ */
+@Name("bytemusketeers.heslingtonhustle.TextureLoad")
+@Label("Texture Load")
+@Category({"Heslington Hustle", "Assets"})
+@Description("The creation of a texture or texture atlas, from being queued until uploaded")
+public final class TextureLoadEvent extends Event {
+    /**
+     * The path of the texture, or texture atlas, relative to the assets directory
+     */
+    @Label("Path")
+    public String path;
+
+    /**
+     * The number of texture pages created
+     */
+    @Label("Pages")
+    public int pages;
+
+    /**
+     * The approximate GPU memory occupied by the created texture pages, assuming four bytes per texel
+     */
+    @Label("Size")
+    @DataAmount
+    public long size;
+}
@@ -0,0 +1,7 @@
+/**
+ * Provides the custom JDK Flight Recorder events through which the game loop, area switches, asset loads, and metric
+ * updates appear in a recording alongside the garbage collection and JIT activity of the JVM
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ */
+package bytemusketeers.heslingtonhustle.diagnostics;
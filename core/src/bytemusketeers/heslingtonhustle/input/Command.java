@@ -0,0 +1,61 @@
+package bytemusketeers.heslingtonhustle.input;
+
+/**
+ * Distinguishes between the commands a player may issue during a frame. The commands of a frame are represented as a
+ * bit-mask, in which each {@link Command} occupies the bit of its ordinal.
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see InputSource#poll()
+ */
+public enum Command {
+    Up(true),
+    Down(true),
+    Left(true),
+    Right(true),
+    Interact(false),
+    Pause(false),
+    Profiler(false),
+    Quit(false);
+
+    /**
+     * Is the {@link Command} issued for as long as its key is held, rather than once upon its key being pressed?
+     */
+    private final boolean held;
+
+    /**
+     * Is the {@link Command} issued for as long as its key is held?
+     *
+     * @return True if the {@link Command} is continuous, e.g. movement, or false if it is issued once per key-press
+     */
+    boolean isHeld() {
+        return held;
+    }
+
+    /**
+     * Retrieves the bit of the {@link Command} within a command bit-mask
+     *
+     * @return The single-bit mask of the {@link Command}
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Is the {@link Command} present in the given command bit-mask?
+     *
+     * @param commands The command bit-mask of a frame
+     * @return Was the {@link Command} issued during the frame?
+     */
+    public boolean isIn(int commands) {
+        return (commands & getMask()) != 0;
+    }
+
+    /**
+     * Instantiates a new {@link Command}
+     *
+     * @param held Is the {@link Command} issued for as long as its key is held?
+     */
+    Command(boolean held) {
+        this.held = held;
+    }
+}
@@ -0,0 +1,129 @@
+package bytemusketeers.heslingtonhustle.input;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * The {@link InputRecorder} writes the {@link Command}s of every frame of a session, alongside the number of fixed
+ * ticks by which each frame advanced the simulation, such that the session may be replayed exactly by an
+ * {@link InputReplay}.
+ *
+ * @implNote The file begins with the {@link #MAGIC} number and {@link #VERSION}, followed by runs of identical frames,
+ *           each being a command bit-mask byte, a tick count byte, and a variable-length run length. Since the
+ *           simulation advances on a fixed timestep, consecutive frames rarely differ, and a session of play is
+ *           typically recorded in a few bytes per second.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see InputReplay
+ */
+public final class InputRecorder implements Disposable {
+    /**
+     * The magic number with which every input recording begins: the ASCII characters {@code HHIR}
+     */
+    static final int MAGIC = 0x48484952;
+
+    /**
+     * The version of the recording format written by the {@link InputRecorder}
+     */
+    static final short VERSION = 1;
+
+    /**
+     * The buffered stream to which the recording is written
+     */
+    private final DataOutputStream out;
+
+    /**
+     * The command bit-mask of the frames in the current run
+     */
+    private int runCommands = 0;
+
+    /**
+     * The tick count of the frames in the current run
+     */
+    private int runTicks = 0;
+
+    /**
+     * The number of frames in the current run, which is yet to be written
+     */
+    private int runLength = 0;
+
+    /**
+     * Writes the given non-negative integer in the variable-length form, seven bits per byte with the high bit marking
+     * continuation
+     *
+     * @param value The integer to write
+     * @throws IOException The recording could not be written
+     * @see InputReplay#readVarInt()
+     */
+    private void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.writeByte(value);
+    }
+
+    /**
+     * Writes the current run, if it holds any frames
+     */
+    private void writeRun() {
+        if (runLength == 0)
+            return;
+
+        try {
+            out.writeByte(runCommands);
+            out.writeByte(runTicks);
+            writeVarInt(runLength);
+        } catch (IOException ioe) {
+            throw new GdxRuntimeException("Could not write input recording", ioe);
+        }
+
+        runLength = 0;
+    }
+
+    /**
+     * Records a single frame
+     *
+     * @param commands The command bit-mask of the frame
+     * @param ticks The number of fixed ticks by which the frame advanced the simulation, which is at most 255
+     */
+    public void record(int commands, int ticks) {
+        if (commands != runCommands || ticks != runTicks)
+            writeRun();
+
+        runCommands = commands;
+        runTicks = ticks;
+        runLength++;
+    }
+
+    /**
+     * Writes the final run, and closes the recording
+     */
+    @Override
+    public void dispose() {
+        writeRun();
+
+        try {
+            out.close();
+        } catch (IOException ioe) {
+            throw new GdxRuntimeException("Could not write input recording", ioe);
+        }
+    }
+
+    /**
+     * Instantiates a new {@link InputRecorder}, creating or truncating the recording at the given path
+     *
+     * @param path The file-system path of the recording
+     * @throws IOException The recording could not be created
+     */
+    public InputRecorder(String path) throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+    }
+}
@@ -0,0 +1,137 @@
+package bytemusketeers.heslingtonhustle.input;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * The {@link InputReplay} supplies the {@link Command}s of a session previously written by an {@link InputRecorder},
+ * advancing the simulation by exactly the recorded number of ticks each frame. Since the simulation is otherwise
+ * deterministic on its fixed timestep, a replay reproduces the recorded session regardless of the frame rate at which
+ * it is presented, and so serves as a repeatable benchmark workload.
+ *
+ * @implNote The recording is compact, so it is read wholly upon construction, such that no I/O is performed during
+ *           the frames being measured
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see InputRecorder
+ */
+public final class InputReplay implements InputSource {
+    /**
+     * The contents of the recording, positioned at the next run
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The command bit-mask of the frames in the current run
+     */
+    private int commands = 0;
+
+    /**
+     * The tick count of the frames in the current run
+     */
+    private int ticks = 0;
+
+    /**
+     * The number of frames of the current run not yet polled
+     */
+    private int remaining = 0;
+
+    /**
+     * The number of frames polled thus far
+     */
+    private long frames = 0;
+
+    /**
+     * Have all recorded frames been polled?
+     */
+    private boolean finished = false;
+
+    /**
+     * Reads a variable-length non-negative integer from the current position of the {@link #buffer}
+     *
+     * @return The integer read
+     * @see InputRecorder
+     */
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        int part;
+
+        do {
+            part = buffer.get();
+            value |= (part & 0x7F) << shift;
+            shift += 7;
+        } while ((part & 0x80) != 0);
+
+        return value;
+    }
+
+    /**
+     * Advances to the next recorded frame
+     *
+     * @return The command bit-mask of the frame, or zero if the recording has been exhausted
+     */
+    @Override
+    public int poll() {
+        if (remaining == 0) {
+            if (!buffer.hasRemaining()) {
+                finished = true;
+                commands = 0;
+                ticks = 0;
+                return 0;
+            }
+
+            commands = buffer.get() & 0xFF;
+            ticks = buffer.get() & 0xFF;
+            remaining = readVarInt();
+        }
+
+        remaining--;
+        frames++;
+        return commands;
+    }
+
+    /**
+     * Retrieves the recorded number of ticks of the most recently polled frame
+     *
+     * @return The number of ticks, which is zero once the recording has been exhausted
+     */
+    @Override
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Has every recorded frame been polled?
+     *
+     * @return True once a frame beyond the end of the recording has been polled
+     */
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Retrieves the number of recorded frames polled thus far
+     *
+     * @return The number of frames replayed
+     */
+    public long getFrameCount() {
+        return frames;
+    }
+
+    /**
+     * Instantiates a new {@link InputReplay}, reading the recording at the given path
+     *
+     * @param path The file-system path of the recording
+     * @throws IOException The recording could not be read, or was not written by a compatible {@link InputRecorder}
+     */
+    public InputReplay(String path) throws IOException {
+        buffer = ByteBuffer.wrap(Files.readAllBytes(Paths.get(path)));
+
+        if (buffer.remaining() < Integer.BYTES + Short.BYTES || buffer.getInt() != InputRecorder.MAGIC
+            || buffer.getShort() != InputRecorder.VERSION)
+            throw new IOException("Not a version " + InputRecorder.VERSION + " input recording: " + path);
+    }
+}
@@ -0,0 +1,40 @@
+package bytemusketeers.heslingtonhustle.input;
+
+/**
+ * An {@link InputSource} supplies the {@link Command}s issued during each frame, e.g. from the keyboard, or from a
+ * prior recording
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see KeyboardInput
+ * @see InputReplay
+ */
+public interface InputSource {
+    /**
+     * Denotes, through {@link #getTicks()}, that the frame should advance the simulation by the elapsed time, rather
+     * than by a predetermined number of ticks
+     */
+    int REAL_TIME = -1;
+
+    /**
+     * Advances to the next frame, and retrieves the {@link Command}s issued during it
+     *
+     * @return The command bit-mask of the frame
+     * @apiNote This should be called exactly once per frame
+     * @see Command#isIn(int)
+     */
+    int poll();
+
+    /**
+     * Retrieves the number of fixed ticks by which the most recently polled frame should advance the simulation
+     *
+     * @return The number of ticks, or {@link #REAL_TIME} if the simulation should be advanced by the elapsed time
+     */
+    int getTicks();
+
+    /**
+     * Has the {@link InputSource} been exhausted, such that the session should end?
+     *
+     * @return True if no further frames remain
+     */
+    boolean isFinished();
+}
@@ -0,0 +1,72 @@
+package bytemusketeers.heslingtonhustle.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * The {@link KeyboardInput} polls the keyboard for the {@link Command}s of each frame, advancing the simulation in
+ * real time
+ *
+ * @implNote The key-bindings are held in a table indexed by {@link Command} ordinal, such that they may later be
+ *           re-bound at runtime without altering any consumer of the {@link Command}s
+ * @author ENG1 Team 23 (Cohort 3)
+ */
+public final class KeyboardInput implements InputSource {
+    /**
+     * The {@link Input.Keys} code bound to each {@link Command}, indexed by ordinal
+     */
+    private static final int[] BINDINGS = {
+        Input.Keys.W,
+        Input.Keys.S,
+        Input.Keys.A,
+        Input.Keys.D,
+        Input.Keys.E,
+        Input.Keys.ESCAPE,
+        Input.Keys.F3,
+        Input.Keys.Q
+    };
+
+    /**
+     * Every {@link Command}, cached to avoid cloning the {@link Command#values()} array each frame
+     */
+    private static final Command[] COMMANDS = Command.values();
+
+    /**
+     * Polls the keyboard for the {@link Command}s of the current frame
+     *
+     * @return The command bit-mask of the frame
+     */
+    @Override
+    public int poll() {
+        int commands = 0;
+
+        for (Command command : COMMANDS) {
+            final int key = BINDINGS[command.ordinal()];
+
+            if (command.isHeld() ? Gdx.input.isKeyPressed(key) : Gdx.input.isKeyJustPressed(key))
+                commands |= command.getMask();
+        }
+
+        return commands;
+    }
+
+    /**
+     * Keyboard play is always advanced in real time
+     *
+     * @return {@link #REAL_TIME}
+     */
+    @Override
+    public int getTicks() {
+        return REAL_TIME;
+    }
+
+    /**
+     * The keyboard is never exhausted
+     *
+     * @return False
+     */
+    @Override
+    public boolean isFinished() {
+        return false;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Provides the abstraction over player input, such that a session may be driven by the keyboard, recorded to a file,
+ * or replayed deterministically from one
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ */
+package bytemusketeers.heslingtonhustle.input;
@@ -1,6 +1,7 @@
 package bytemusketeers.heslingtonhustle.metrics;
 
 import bytemusketeers.heslingtonhustle.scene.Area;
+import com.badlogic.gdx.utils.StringBuilder;
 
 /**
  * An {@link AreaMetric} represents an {@link Area} as a {@link MetricEntry} to be managed by the
@@ -26,6 +27,43 @@ class AreaMetric implements MetricEntry {
         return area.toString();
     }
 
+    /**
+     * Appends the human-readable name of the {@link #area} to the given buffer
+     *
+     * @param out The buffer to which the name is appended
+     * @implNote The name is a constant, so nothing is allocated
+     */
+    @Override
+    public void appendValue(StringBuilder out) {
+        out.append(area.toString());
+    }
+
+    /**
+     * Retrieves the ordinal of the {@link #area}
+     *
+     * @return The {@link Area.Name} ordinal
+     */
+    @Override
+    public int getState() {
+        return area.ordinal();
+    }
+
+    /**
+     * Replaces the {@link #area}
+     *
+     * @param state The {@link Area.Name} ordinal
+     * @throws IllegalArgumentException The ordinal denotes no {@link Area.Name}
+     */
+    @Override
+    public void setState(int state) {
+        final Area.Name[] values = Area.Name.values();
+
+        if (state < 0 || state >= values.length)
+            throw new IllegalArgumentException("No area has ordinal " + state);
+
+        area = values[state];
+    }
+
     /**
      * Updates the current {@link #area} with the given {@link Area.Name}
      *
@@ -1,5 +1,7 @@
 package bytemusketeers.heslingtonhustle.metrics;
 
+import com.badlogic.gdx.utils.StringBuilder;
+
 /**
  * A {@link DOWMetric} represents a singular day of the week to be managed by the {@link MetricController}
  *
@@ -28,6 +30,43 @@ class DOWMetric implements MetricEntry {
         return value.toString();
     }
 
+    /**
+     * Appends the human-readable name of the embedded {@link DayOfWeek} to the given buffer
+     *
+     * @param out The buffer to which the name is appended
+     * @implNote The name is a constant, so nothing is allocated
+     */
+    @Override
+    public void appendValue(StringBuilder out) {
+        out.append(value.toString());
+    }
+
+    /**
+     * Retrieves the ordinal of the embedded {@link DayOfWeek}
+     *
+     * @return The ordinal, counting from Monday
+     */
+    @Override
+    public int getState() {
+        return value.ordinal();
+    }
+
+    /**
+     * Replaces the embedded {@link DayOfWeek}
+     *
+     * @param state The ordinal of the {@link DayOfWeek}, counting from Monday
+     * @throws IllegalArgumentException The ordinal denotes no {@link DayOfWeek}
+     */
+    @Override
+    public void setState(int state) {
+        final DayOfWeek[] values = DayOfWeek.values();
+
+        if (state < 0 || state >= values.length)
+            throw new IllegalArgumentException("No day of the week has ordinal " + state);
+
+        value = values[state];
+    }
+
     /**
      * Increments the {@link #value} in the expected fashion, assuming the order specified in {@link DayOfWeek}. If the
      * final day is reached, the first day is silently selected.
@@ -1,6 +1,8 @@
 package bytemusketeers.heslingtonhustle.metrics;
 
+import bytemusketeers.heslingtonhustle.diagnostics.MetricUpdateEvent;
 import bytemusketeers.heslingtonhustle.scene.Area;
+import com.badlogic.gdx.utils.StringBuilder;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -10,6 +12,9 @@ import java.util.Map;
  * keys, providing a unified interface through which higher-level controllers may manipulate the values of
  * {@link MetricEntry} objects and post runtime alteration updates to the {@link MetricUpdater}.
  *
+ * @apiNote Alterations are not delivered to the {@link MetricListener} subscribers until {@link #flushUpdates()} is
+ *          invoked, which the owner of the {@link MetricController} should do once per frame.
+ *
  * @author ENG1 Team 23 (Cohort 3)
  * @see MetricEntry
  * @see MetricUpdater
@@ -63,6 +68,25 @@ public class MetricController {
      */
     private final Map<Metric, MetricEntry> metrics = new EnumMap<>(Metric.class);
 
+    /**
+     * Announces the alteration of the given {@link Metric}, both to the {@link #updateAction} and, as a
+     * {@link MetricUpdateEvent}, to any Flight Recorder recording enabling it
+     *
+     * @param metric The altered {@link Metric}
+     * @implNote The value of the {@link MetricEntry} is only formatted if the event is to be committed
+     */
+    private void post(Metric metric) {
+        final MetricUpdateEvent event = new MetricUpdateEvent();
+
+        if (event.shouldCommit()) {
+            event.metric = metric.toString();
+            event.value = metrics.get(metric).getValue();
+            event.commit();
+        }
+
+        updateAction.post(metric);
+    }
+
     /**
      * Retrieves a {@link MetricEntry} of the given variety associated with the given {@link Metric} key
      *
@@ -88,10 +112,8 @@ public class MetricController {
      */
     public void incrementPlayerMetric(Metric metric, int multiplier) {
         PlayerMetric entry = (PlayerMetric) getDynamicMetricEntry(PlayerMetric.class, metric);
-        if (entry != null) {
-            entry.incrementMetric(multiplier);
-            updateAction.sendUpdate(metric, getMetricStringValue(metric));
-        }
+        if (entry != null && entry.incrementMetric(multiplier))
+            post(metric);
     }
 
     /**
@@ -103,10 +125,8 @@ public class MetricController {
      */
     public void decrementPlayerMetric(Metric metric, int multiplier) {
         PlayerMetric entry = (PlayerMetric) getDynamicMetricEntry(PlayerMetric.class, metric);
-        if (entry != null) {
-            entry.decrementMetric(multiplier);
-            updateAction.sendUpdate(metric, getMetricStringValue(metric));
-        }
+        if (entry != null && entry.decrementMetric(multiplier))
+            post(metric);
     }
 
     /**
@@ -118,7 +138,7 @@ public class MetricController {
         DOWMetric entry = (DOWMetric) getDynamicMetricEntry(DOWMetric.class, Metric.Day);
         if (entry != null) {
             entry.nextDay();
-            updateAction.sendUpdate(Metric.Day, getMetricStringValue(Metric.Day));
+            post(Metric.Day);
         }
     }
 
@@ -143,10 +163,20 @@ public class MetricController {
         AreaMetric entry = (AreaMetric) getDynamicMetricEntry(AreaMetric.class, Metric.Area);
         if (entry != null) {
             entry.setArea(areaName);
-            updateAction.sendUpdate(Metric.Area, getMetricStringValue(Metric.Area));
+            post(Metric.Area);
         }
     }
 
+    /**
+     * Delivers every {@link Metric} altered since the previous flush to the {@link MetricListener} subscribers of the
+     * {@link MetricUpdater}, as a single coalesced batch
+     *
+     * @see MetricUpdater#flush(MetricController)
+     */
+    public void flushUpdates() {
+        updateAction.flush(this);
+    }
+
     /**
      * Retrieves the {@link String} value of the {@link MetricEntry} associated with the given {@link Metric} key
      *
@@ -158,9 +188,49 @@ public class MetricController {
         return metrics.get(metric).getValue();
     }
 
+    /**
+     * Appends the value of the {@link MetricEntry} associated with the given {@link Metric} key to the given buffer
+     *
+     * @param metric The {@link Metric} key associated with the desired {@link MetricEntry}
+     * @param out The buffer to which the human-readable value is appended
+     * @implNote Unlike {@link #getMetricStringValue(Metric)}, this allocates no memory
+     * @see MetricEntry#appendValue(StringBuilder)
+     */
+    void appendMetricValue(Metric metric, StringBuilder out) {
+        metrics.get(metric).appendValue(out);
+    }
+
+    /**
+     * Captures the value of every {@link MetricEntry} into the given array, in compact integral form
+     *
+     * @param states The destination, indexed by {@link Metric} ordinal, of at least one entry per {@link Metric}
+     * @see MetricEntry#getState()
+     * @see #restoreStates(int[])
+     */
+    public void captureStates(int[] states) {
+        for (Map.Entry<Metric, MetricEntry> entry : metrics.entrySet())
+            states[entry.getKey().ordinal()] = entry.getValue().getState();
+    }
+
+    /**
+     * Replaces the value of every {@link MetricEntry} with the given captured states, and posts every {@link Metric} as
+     * altered
+     *
+     * @param states The captured states, indexed by {@link Metric} ordinal
+     * @throws IllegalArgumentException A state does not denote a valid value of its {@link MetricEntry}
+     * @see #captureStates(int[])
+     */
+    public void restoreStates(int[] states) {
+        for (Map.Entry<Metric, MetricEntry> entry : metrics.entrySet())
+            entry.getValue().setState(states[entry.getKey().ordinal()]);
+
+        updateAction.postAll();
+    }
+
     /**
      * Instantiates a new {@link MetricController} and populates the {@link #metrics} with sensible defaults
      *
+     * @param updateAction The {@link MetricUpdater} bus to which alterations should be posted
      * @see MetricEntry
      */
     public MetricController(MetricUpdater updateAction) {
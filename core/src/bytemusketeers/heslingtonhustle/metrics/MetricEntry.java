@@ -1,5 +1,7 @@
 package bytemusketeers.heslingtonhustle.metrics;
 
+import com.badlogic.gdx.utils.StringBuilder;
+
 /**
  * A {@link MetricEntry} implementation denotes a metric of a particular type, e.g. numerical or textual
  *
@@ -12,4 +14,27 @@ interface MetricEntry {
      * @return The requested value, formatted as a {@link String}
      */
     String getValue();
+
+    /**
+     * Appends the human-readable value of the {@link MetricEntry} to the given buffer, without allocating
+     *
+     * @param out The buffer to which the value is appended
+     * @see #getValue()
+     */
+    void appendValue(StringBuilder out);
+
+    /**
+     * Retrieves the value of the {@link MetricEntry} in a compact integral form, e.g. for saving
+     *
+     * @return The integral state, which {@link #setState(int)} accepts
+     */
+    int getState();
+
+    /**
+     * Replaces the value of the {@link MetricEntry} with the given integral state, e.g. upon restoring a save
+     *
+     * @param state A state previously retrieved through {@link #getState()}
+     * @throws IllegalArgumentException The state does not denote a valid value of the {@link MetricEntry}
+     */
+    void setState(int state);
 }
@@ -14,6 +14,9 @@ public interface MetricListener {
      *
      * @param metric The key of the {@link MetricController.Metric} to be updated
      * @param text The revised text
+     * @apiNote The text is held in a buffer reused by the {@link MetricUpdater}, such that no garbage is generated; the
+     *          implementor must copy it, e.g. with {@link CharSequence#toString()}, if it is to be retained beyond the
+     *          call
      */
-    void updateMetricText(MetricController.Metric metric, String text);
+    void updateMetricText(MetricController.Metric metric, CharSequence text);
 }
@@ -1,36 +1,136 @@
 package bytemusketeers.heslingtonhustle.metrics;
 
+import com.badlogic.gdx.utils.StringBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * The {@link MetricUpdater} provides a common controller to link a single {@link MetricController} and
- * {@link MetricListener}, by means of enabling the former to post updates to the latter
+ * The {@link MetricUpdater} provides a coalescing event bus to link a single {@link MetricController} with any number
+ * of {@link MetricListener} subscribers, e.g. the heads-up display, persistence, and telemetry. Updates posted by the
+ * {@link MetricController} merely mark the {@link MetricController.Metric} as dirty; the dirty set is delivered to
+ * every subscriber in a single batch by {@link #flush(MetricController)}, which should occur once per frame.
  *
- * @implNote Future implementors may wish to make {@link #metricListener} a {@link java.util.List} of
- *           {@link MetricListener} listeners, but for this simple initial implementation, a single listener will
- *           suffice.
+ * @implNote However many times a {@link MetricController.Metric} is altered between flushes, each subscriber receives
+ *           one update bearing its final value, and the text of that value is built only once, into a reused buffer,
+ *           such that flushing generates no garbage.
  * @author ENG1 Team 23 (Cohort 3)
  */
 public class MetricUpdater {
     /**
-     * The recipient of the {@link MetricController} updates
+     * Every {@link MetricController.Metric}, cached to avoid cloning the {@link MetricController.Metric#values()} array
+     * upon every {@link #flush(MetricController)}
+     */
+    private static final MetricController.Metric[] METRICS = MetricController.Metric.values();
+
+    /**
+     * The recipients of the {@link MetricController} updates, in order of subscription
+     *
+     * @see #addListener(MetricListener)
+     */
+    private final List<MetricListener> metricListeners = new ArrayList<>();
+
+    /**
+     * Has the {@link MetricController.Metric} of each ordinal been altered since the last
+     * {@link #flush(MetricController)}?
+     */
+    private final boolean[] dirty = new boolean[METRICS.length];
+
+    /**
+     * Has any {@link MetricController.Metric} been altered since the last {@link #flush(MetricController)}?
      */
-    private final MetricListener metricListener;
+    private boolean anyDirty = false;
 
     /**
-     * Sends an update of a single {@link MetricController.Metric} to the registered {@link MetricListener}
+     * The reusable buffer into which the text of each delivered {@link MetricController.Metric} is written
      *
-     * @see #metricListener
+     * @see MetricListener#updateMetricText(MetricController.Metric, CharSequence)
      */
-    public void sendUpdate(MetricController.Metric metric, String value) {
-        metricListener.updateMetricText(metric, value);
+    private final StringBuilder text = new StringBuilder(32);
+
+    /**
+     * Subscribes the given {@link MetricListener} to all subsequent updates. Every {@link MetricController.Metric} is
+     * marked as dirty, such that the new subscriber is brought up to date upon the next
+     * {@link #flush(MetricController)}.
+     *
+     * @param metricListener The {@link MetricListener} to subscribe
+     */
+    public void addListener(MetricListener metricListener) {
+        metricListeners.add(metricListener);
+        postAll();
     }
 
+    /**
+     * Unsubscribes the given {@link MetricListener} from all subsequent updates
+     *
+     * @param metricListener The {@link MetricListener} to unsubscribe
+     */
+    public void removeListener(MetricListener metricListener) {
+        metricListeners.remove(metricListener);
+    }
+
+    /**
+     * Marks a single {@link MetricController.Metric} as altered, to be delivered upon the next
+     * {@link #flush(MetricController)}
+     *
+     * @param metric The altered {@link MetricController.Metric}
+     */
+    void post(MetricController.Metric metric) {
+        dirty[metric.ordinal()] = true;
+        anyDirty = true;
+    }
+
+    /**
+     * Marks every {@link MetricController.Metric} as altered, e.g. to send an initial pulse of all values
+     *
+     * @see #post(MetricController.Metric)
+     */
+    public void postAll() {
+        for (MetricController.Metric metric : METRICS)
+            post(metric);
+    }
+
+    /**
+     * Delivers every {@link MetricController.Metric} altered since the previous flush to every subscribed
+     * {@link MetricListener}, in {@link MetricController.Metric} declaration order
+     *
+     * @param source The {@link MetricController} holding the current {@link MetricController.Metric} values
+     * @implNote When nothing has been altered, as is the case in almost every frame, this returns immediately
+     */
+    void flush(MetricController source) {
+        if (!anyDirty)
+            return;
+
+        anyDirty = false;
+
+        for (int i = 0; i < METRICS.length; i++) {
+            if (!dirty[i])
+                continue;
+
+            dirty[i] = false;
+
+            text.setLength(0);
+            source.appendMetricValue(METRICS[i], text);
+
+            for (int j = 0; j < metricListeners.size(); j++)
+                metricListeners.get(j).updateMetricText(METRICS[i], text);
+        }
+    }
+
+    /**
+     * Instantiates a new {@link MetricUpdater} without any {@link MetricListener} subscribers
+     *
+     * @see #addListener(MetricListener)
+     */
+    public MetricUpdater() { }
+
     /**
      * Instantiates a new {@link MetricUpdater} to provide updates to a {@link MetricListener} on the transient states
      * of a {@link MetricController}
      *
-     * @param metricListener The data-recipient {@link MetricListener}
+     * @param metricListener The initial data-recipient {@link MetricListener}
      */
     public MetricUpdater(MetricListener metricListener) {
-        this.metricListener = metricListener;
+        addListener(metricListener);
     }
 }
@@ -1,5 +1,7 @@
 package bytemusketeers.heslingtonhustle.metrics;
 
+import com.badlogic.gdx.utils.StringBuilder;
+
 /**
  * A {@link PlayerMetric} represents a {@link MetricEntry} pertaining to the player-controlled character to be managed
  * by the {@link MetricController}.
@@ -17,37 +19,73 @@ class PlayerMetric implements MetricEntry {
     private static final int STANDARD_INCREMENT = 1;
 
     /**
-     * The integral value of the {@link PlayerMetric}
+     * The integral value of the {@link PlayerMetric}, held as a primitive such that updates never allocate
      */
-    private Integer value;
+    private int value;
 
     /**
-     * Retrieves the {@link Integer} associated with the {@link PlayerMetric}
+     * Retrieves the integer associated with the {@link PlayerMetric}
      *
      * @return A {@link String} representation of the {@link #value}
      */
     @Override
     public String getValue() {
-        return value.toString();
+        return Integer.toString(value);
+    }
+
+    /**
+     * Appends the decimal digits of the {@link #value} to the given buffer, without allocating
+     *
+     * @param out The buffer to which the digits are appended
+     */
+    @Override
+    public void appendValue(StringBuilder out) {
+        out.append(value);
+    }
+
+    /**
+     * Retrieves the raw {@link #value}
+     *
+     * @return The integral value of the {@link PlayerMetric}
+     */
+    @Override
+    public int getState() {
+        return value;
+    }
+
+    /**
+     * Replaces the raw {@link #value}
+     *
+     * @param state The integral value of the {@link PlayerMetric}
+     */
+    @Override
+    public void setState(int state) {
+        value = state;
     }
 
     /**
      * Increments the {@link PlayerMetric#value} by the given multiple of the {@link #STANDARD_INCREMENT}
      *
      * @param multiplier An integer multiplier of the {@link #STANDARD_INCREMENT}
+     * @return Was the {@link #value} changed?
      */
-    void incrementMetric(int multiplier) {
+    boolean incrementMetric(int multiplier) {
         value += STANDARD_INCREMENT * multiplier;
+        return multiplier != 0;
     }
 
     /**
      * Decrements the {@link PlayerMetric#value} by the given multiple of the {@link #STANDARD_INCREMENT}
      *
      * @param multiplier An integer multiplier of the {@link #STANDARD_INCREMENT}
+     * @return Was the {@link #value} changed? It is not decremented once it reaches zero.
      */
-    void decrementMetric(int multiplier) {
-        if (value > 0)
-            value -= STANDARD_INCREMENT * multiplier;
+    boolean decrementMetric(int multiplier) {
+        if (value <= 0 || multiplier == 0)
+            return false;
+
+        value -= STANDARD_INCREMENT * multiplier;
+        return true;
     }
 
     /**
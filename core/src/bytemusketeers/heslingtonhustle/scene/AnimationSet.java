@@ -0,0 +1,109 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * An {@link AnimationSet} holds the walking cycle of an entity in each {@link Direction}, sliced once from a sprite
+ * sheet into {@link TextureRegion}s of the shared texture atlas page. Each row of the sheet holds the cycle of one
+ * {@link Direction}, and its first frame doubles as the idle pose.
+ *
+ * @implNote Every frame is a region of the same texture as every other atlas sprite, so animated entities incur no
+ *           additional texture binds, and selecting a frame is pure arithmetic over the precomputed regions, so
+ *           nothing is allocated at render-time
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Animator
+ * @see AreaLoader#getAnimation(String)
+ */
+public final class AnimationSet {
+    /**
+     * The frames of the cycle in each {@link Direction}, indexed by {@link Direction} ordinal and then by frame
+     */
+    private final TextureRegion[][] frames = new TextureRegion[Direction.values().length][];
+
+    /**
+     * The duration for which each frame is shown, in seconds
+     */
+    private final float frameDuration;
+
+    /**
+     * The duration of a whole cycle, in seconds
+     */
+    private final float cycleDuration;
+
+    /**
+     * The ratio of the width of each frame to its height
+     */
+    private final float aspectRatio;
+
+    /**
+     * Retrieves the frame to draw at the given time into the cycle
+     *
+     * @param facing The {@link Direction} in which the entity faces
+     * @param moving Is the entity moving? If not, the idle pose is drawn.
+     * @param stateTime The time into the cycle, in seconds
+     * @return The {@link TextureRegion} of the frame
+     */
+    TextureRegion getFrame(Direction facing, boolean moving, float stateTime) {
+        final TextureRegion[] cycle = frames[facing.ordinal()];
+
+        if (!moving)
+            return cycle[0];
+
+        return cycle[(int) (stateTime / frameDuration) % cycle.length];
+    }
+
+    /**
+     * Retrieves the duration of a whole cycle, such that the time into the cycle may be wrapped
+     *
+     * @return The cycle duration, in seconds
+     */
+    float getCycleDuration() {
+        return cycleDuration;
+    }
+
+    /**
+     * Retrieves the ratio of the width of each frame to its height, such that frames may be drawn undistorted
+     *
+     * @return The aspect ratio of the frames
+     */
+    float getAspectRatio() {
+        return aspectRatio;
+    }
+
+    /**
+     * Slices the given sprite sheet in accordance with the given definition
+     *
+     * @param sheet The {@link TextureRegion} of the whole sprite sheet
+     * @param definition The definition of the sheet: its {@code columns} and {@code rows}, the {@code frameDuration} in
+     *                   seconds, and the {@link Direction} name of each row in {@code directions}
+     * @throws InvalidAreaException The definition is malformed, or does not cover every {@link Direction}
+     */
+    AnimationSet(TextureRegion sheet, JsonValue definition) throws InvalidAreaException {
+        final int columns = definition.getInt("columns", 0);
+        final int rows = definition.getInt("rows", 0);
+        final JsonValue directions = definition.get("directions");
+
+        frameDuration = definition.getFloat("frameDuration", 0);
+
+        if (columns <= 0 || rows <= 0 || frameDuration <= 0 || directions == null || directions.size != rows)
+            throw new InvalidAreaException("Animation '" + definition.name + "' is malformed");
+
+        final TextureRegion[][] grid =
+            sheet.split(sheet.getRegionWidth() / columns, sheet.getRegionHeight() / rows);
+
+        for (int row = 0; row < rows; row++)
+            try {
+                frames[Direction.valueOf(directions.getString(row)).ordinal()] = grid[row];
+            } catch (IllegalArgumentException iae) {
+                throw new InvalidAreaException("Animation '" + definition.name + "' names an unknown direction");
+            }
+
+        for (TextureRegion[] cycle : frames)
+            if (cycle == null)
+                throw new InvalidAreaException("Animation '" + definition.name + "' lacks a direction");
+
+        cycleDuration = frameDuration * columns;
+        aspectRatio = (float) grid[0][0].getRegionWidth() / grid[0][0].getRegionHeight();
+    }
+}
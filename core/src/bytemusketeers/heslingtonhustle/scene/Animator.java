@@ -0,0 +1,82 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * An {@link Animator} tracks the progress of a single entity through its {@link AnimationSet}: the {@link Direction}
+ * in which it faces, whether it is moving, and the time into the current cycle. Many {@link Animator}s may share one
+ * {@link AnimationSet}, e.g. a crowd of identical characters.
+ *
+ * @implNote The {@link Animator} is advanced by the fixed simulation timestep, rather than the frame time, such that
+ *           the animation of a replayed session is identical to that recorded
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see AnimationSet
+ */
+public final class Animator {
+    /**
+     * The frames through which the {@link Animator} progresses
+     */
+    private final AnimationSet animations;
+
+    /**
+     * The {@link Direction} in which the entity faces, which is retained whilst it is stationary
+     */
+    private Direction facing = Direction.Down;
+
+    /**
+     * Was the entity moving as of the latest {@link #update(Vector2, float)}?
+     */
+    private boolean moving = false;
+
+    /**
+     * The time into the current cycle, in seconds
+     */
+    private float stateTime = 0;
+
+    /**
+     * Advances the {@link Animator} in accordance with the given velocity of the entity
+     *
+     * @param velocity The current velocity of the entity
+     * @param delta The time elapsed since the previous update, in seconds
+     */
+    public void update(Vector2 velocity, float delta) {
+        final Direction direction = Direction.of(velocity.x, velocity.y);
+        final boolean nowMoving = direction != null;
+
+        if (nowMoving)
+            facing = direction;
+
+        // Restart the cycle upon setting off, such that every walk begins on the same stride
+        stateTime = (nowMoving == moving) ? (stateTime + delta) % animations.getCycleDuration() : 0;
+        moving = nowMoving;
+    }
+
+    /**
+     * Retrieves the frame to draw for the current state
+     *
+     * @return The {@link TextureRegion} of the frame, owned by the {@link AnimationSet}
+     */
+    public TextureRegion getFrame() {
+        return animations.getFrame(facing, moving, stateTime);
+    }
+
+    /**
+     * Retrieves the ratio of the width of each frame to its height
+     *
+     * @return The aspect ratio of the frames
+     * @see AnimationSet#getAspectRatio()
+     */
+    public float getAspectRatio() {
+        return animations.getAspectRatio();
+    }
+
+    /**
+     * Instantiates a new {@link Animator}, facing downwards and stationary
+     *
+     * @param animations The {@link AnimationSet} through which the {@link Animator} should progress
+     */
+    public Animator(AnimationSet animations) {
+        this.animations = animations;
+    }
+}
@@ -8,8 +8,13 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,6 +23,10 @@ import java.util.List;
  * An {@link Area} is a single room or outdoor scene in which the player can exist, containing its own {@link TiledMap}
  * texture and set of {@link Interactable} objects.
  *
+ * @implNote The {@link World} of an {@link Area} may be shared with every other {@link Area}; see
+ *           {@link AreaLoader.WorldMode}. Each {@link Area} then confines its bodies to collide only amongst themselves
+ *           through its {@link #categoryBits}, and only the bodies of the active {@link Area} participate in the
+ *           simulation.
  * @author ENG1 Team 23 (Cohort 3)
  */
 public class Area implements Drawable {
@@ -57,6 +66,36 @@ public class Area implements Drawable {
         }
     }
 
+    /**
+     * The fixed duration, in seconds, by which every {@link #step()} advances the {@link World}. The simulation rate is
+     * therefore independent of the display refresh rate.
+     *
+     * @see bytemusketeers.heslingtonhustle.Simulation#update(float)
+     */
+    public static final float TIME_STEP = 1/60f;
+
+    /**
+     * The number of velocity constraint-solver iterations per {@link #step()}
+     *
+     * @see World#step(float, int, int)
+     */
+    private static final int VELOCITY_ITERATIONS = 6;
+
+    /**
+     * The number of position constraint-solver iterations per {@link #step()}
+     *
+     * @see World#step(float, int, int)
+     */
+    private static final int POSITION_ITERATIONS = 2;
+
+    /**
+     * The number of distinct Box2D collision categories, and hence the greatest number of {@link Area}s which may share
+     * a single {@link World}
+     *
+     * @see Filter#categoryBits
+     */
+    private static final int MAX_SHARED_AREAS = Short.SIZE;
+
     /**
      * The list of {@link Interactable} objects existing in the {@link Area}
      *
@@ -64,6 +103,25 @@ public class Area implements Drawable {
      */
     private final List<Interactable> interactables = new ArrayList<>();
 
+    /**
+     * The spatial index over the {@link #interactables}, against which every proximity query is answered
+     *
+     * @see InteractableIndex
+     */
+    private final InteractableIndex interactableIndex = new InteractableIndex();
+
+    /**
+     * The reusable result buffer of {@link #triggerInteractables(Vector2)}, such that triggering allocates no memory
+     */
+    private final Array<Interactable> reachableInteractables = new Array<>(false, 4);
+
+    /**
+     * The culling and sorting stage through which the {@link #interactables} are drawn
+     *
+     * @see #render(SpriteBatch)
+     */
+    private final RenderQueue renderQueue = new RenderQueue();
+
     /**
      * The LibGDX world responsible for holding {@link com.badlogic.gdx.physics.box2d.BodyDef.BodyType#StaticBody}
      * and {@link com.badlogic.gdx.physics.box2d.BodyDef.BodyType#DynamicBody} collision zones, generally used for
@@ -71,6 +129,76 @@ public class Area implements Drawable {
      */
     private final World world;
 
+    /**
+     * Does the {@link Area} own its {@link #world}, or is it shared with the other {@link Area}s?
+     *
+     * @see AreaLoader.WorldMode
+     */
+    private final boolean ownsWorld;
+
+    /**
+     * The Box2D collision category, and mask, of every fixture registered by the {@link Area}, such that bodies of
+     * different {@link Area}s never collide in a shared {@link #world}
+     *
+     * @see Filter
+     */
+    private final short categoryBits;
+
+    /**
+     * Every static {@link Body} registered by the {@link Area}, excluding that of the {@link Character}
+     *
+     * @see #setActive(boolean)
+     */
+    private final List<Body> bodies = new ArrayList<>();
+
+    /**
+     * The greatest number of routes, besides those pinned by {@link #precomputeRoutes()}, retained by the
+     * {@link #pathFinder}
+     */
+    private static final int ROUTE_CACHE_CAPACITY = 512;
+
+    /**
+     * The {@link NavigationGrid} rasterised from the static collision geometry, or null if the {@link GameMap} is
+     * streamed, in which case its geometry is never wholly resident
+     *
+     * @see #generateCollision()
+     */
+    private NavigationGrid navigationGrid;
+
+    /**
+     * The {@link PathFinder} routing through the {@link #navigationGrid}, or null if there is no grid
+     *
+     * @see #findRoute(Vector2, Vector2, FloatArray)
+     */
+    private PathFinder pathFinder;
+
+    /**
+     * The {@link FlowField} towards each destination of the {@link #crowd}, or null if there is no grid
+     *
+     * @see #precomputeRoutes()
+     */
+    private FlowFields flowFields;
+
+    /**
+     * The non-player students of the {@link Area}, or null if it is unpopulated
+     *
+     * @see #populate(int, AnimationSet)
+     */
+    private Crowd crowd;
+
+    /**
+     * The seed from which the random streams of the {@link #crowd} are derived, such that each {@link Area} is
+     * populated differently, but identically upon every run
+     */
+    private final long crowdSeed;
+
+    /**
+     * Does the {@link Area} currently participate in the simulation?
+     *
+     * @see #setActive(boolean)
+     */
+    private boolean active = true;
+
     /**
      * The initial position of the player-controlled {@link Character} upon being spawned into the {@link Area}. This
      * position {@link Vector2} is specified in in-game metres.
@@ -88,12 +216,88 @@ public class Area implements Drawable {
     private final GameMap map;
 
     /**
-     * Adds an {@link Interactable} to the set of interactable tiles in the current {@link Area}.
+     * Adds an {@link Interactable} to the set of interactable tiles in the current {@link Area}, blocking its
+     * collision bounds in the {@link NavigationGrid}, and refreshing the routes and {@link FlowField}s through the
+     * newly blocked cells
      *
      * @param interactable The {@link Interactable} to add
      */
     void addInteractable(Interactable interactable) {
         interactables.add(interactable);
+        interactableIndex.add(interactable);
+
+        if (navigationGrid == null)
+            return;
+
+        final IntArray changed = new IntArray();
+        navigationGrid.block(interactable.getBounds(new Rectangle()), changed);
+
+        if (changed.notEmpty()) {
+            pathFinder.invalidate();
+            flowFields.refresh(changed);
+        }
+    }
+
+    /**
+     * Computes, and pins, the routes between every pair of {@link Interactable} objects, and from the initial
+     * {@link Character} position to each, such that the most common queries never search, and builds the
+     * {@link FlowField} towards each {@link Interactable}, by which the {@link Crowd} heads for it; this is a no-op if
+     * the {@link GameMap} is streamed
+     *
+     * @apiNote This should be called once every {@link Interactable} has been added, since each addition discards
+     *          every route, and must refresh every field
+     * @see PathFinder#pin(int, int)
+     * @see FlowFields#get(int)
+     */
+    void precomputeRoutes() {
+        if (navigationGrid == null)
+            return;
+
+        final Vector2 approach = new Vector2();
+        final int[] cells = new int[interactables.size() + 1];
+
+        // Each Interactable blocks its own cells, so it is approached from the nearest unblocked cell
+        for (int i = 0; i < interactables.size(); i++) {
+            final Vector2 position = interactables.get(i).getPosition();
+            navigationGrid.findNearestUnblocked(position.x, position.y, approach);
+            cells[i] = navigationGrid.getCell(approach.x, approach.y);
+            flowFields.get(cells[i]);
+        }
+
+        cells[interactables.size()] = navigationGrid.getCell(initialCharacterPosition.x, initialCharacterPosition.y);
+
+        for (int start : cells)
+            for (int goal : cells)
+                if (start != goal)
+                    pathFinder.pin(start, goal);
+    }
+
+    /**
+     * Finds the cheapest route between the given positions through the {@link NavigationGrid}, e.g. to move the
+     * {@link Character} to a clicked position
+     *
+     * @param from The start position, in in-game metres
+     * @param to The goal position, in in-game metres
+     * @param waypoints The array into which the centre of each cell along the route is written, as consecutive
+     *                  horizontal and vertical components, in in-game metres; it is cleared first
+     * @return Was a route found? If not, the goal is blocked or unreachable, or the {@link GameMap} is streamed.
+     * @implNote Common routes are answered from the {@link PathFinder} cache without searching, and nothing is
+     *           allocated unless a search is required
+     */
+    public boolean findRoute(Vector2 from, Vector2 to, FloatArray waypoints) {
+        waypoints.clear();
+
+        if (pathFinder == null)
+            return false;
+
+        final int[] route = pathFinder.find(navigationGrid.getCell(from.x, from.y), navigationGrid.getCell(to.x, to.y));
+        if (route == null)
+            return false;
+
+        for (int cell : route)
+            waypoints.add(navigationGrid.getCentreX(cell), navigationGrid.getCentreY(cell));
+
+        return true;
     }
 
     /**
@@ -101,11 +305,39 @@ public class Area implements Drawable {
      *
      * @param characterPosition The position of the player-controlled {@link Character}
      * @see Interactable#interact()
+     * @see InteractableIndex#findInReach(Vector2, Array)
      */
     public void triggerInteractables(Vector2 characterPosition) {
-        for (Interactable interactable : interactables)
-            if (interactable.isClose(characterPosition))
-                interactable.interact();
+        interactableIndex.findInReach(characterPosition, reachableInteractables);
+
+        for (int i = 0; i < reachableInteractables.size; i++)
+            reachableInteractables.get(i).interact();
+
+        reachableInteractables.clear();
+    }
+
+    /**
+     * Determines whether an interaction from the given position of the {@link Character} would reach any
+     * {@link Interactable} object
+     *
+     * @param characterPosition The position of the player-controlled {@link Character}
+     * @return Would {@link #triggerInteractables(Vector2)} interact with anything?
+     * @implNote This allocates no memory and inspects only the nearby {@link Interactable} objects, so is intended to
+     *           be queried every frame; for example, to prompt the player to interact
+     * @see InteractableIndex#anyInReach(Vector2)
+     */
+    public boolean isInteractableInReach(Vector2 characterPosition) {
+        return interactableIndex.anyInReach(characterPosition);
+    }
+
+    /**
+     * Retrieves the {@link InteractableIndex} over every {@link Interactable} object in the {@link Area}, for nearest
+     * and radius queries
+     *
+     * @return The {@link InteractableIndex} of the {@link Area}
+     */
+    InteractableIndex getInteractableIndex() {
+        return interactableIndex;
     }
 
     /**
@@ -130,23 +362,106 @@ public class Area implements Drawable {
     }
 
     /**
-     * Instructs the {@link GameMap} rendering object to update its viewing position with respect to the
-     * {@link OrthographicCamera} game camera
+     * Instructs the {@link GameMap} rendering object, and the {@link RenderQueue} culling region, to update their
+     * viewing position with respect to the {@link OrthographicCamera} game camera
      *
      * @param gameCam The {@link OrthographicCamera} game camera against which the {@link Area} viewport should be
      *                aligned
      */
     public void updateView(OrthographicCamera gameCam) {
         map.updateView(gameCam);
+        renderQueue.setView(gameCam);
+    }
+
+    /**
+     * Begins a new frame, against which the recency of the parts of a streamed {@link GameMap} is measured; this is a
+     * no-op unless the tile-map is large enough to be streamed
+     *
+     * @see GameMap#beginFrame()
+     */
+    public void beginFrame() {
+        map.beginFrame();
+    }
+
+    /**
+     * Brings the parts of a streamed {@link GameMap} about the given position into residency, including their
+     * collision geometry; this is a no-op unless the tile-map is large enough to be streamed
+     *
+     * @param position The position of interest, typically that of the {@link Character}, in in-game metres
+     * @apiNote This must not be called during a {@link #step()}
+     * @see GameMap#streamAround(Vector2)
+     */
+    public void streamAround(Vector2 position) {
+        map.streamAround(position);
     }
 
     /**
-     * Steps the {@link World} associated with the {@link Area}
+     * Steps the {@link World} associated with the {@link Area}, and its {@link Crowd} if populated, by a single
+     * {@link #TIME_STEP}
      *
      * @see World#step(float, int, int)
+     * @see Crowd#step()
      */
     public void step() {
-        world.step(1/60f, 6, 2);
+        world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+
+        if (crowd != null)
+            crowd.step();
+    }
+
+    /**
+     * Sets the interpolation factor at which the {@link Crowd} is next drawn, between its two most recent states
+     *
+     * @param alpha The proportion of a {@link #TIME_STEP} elapsed since the latest {@link #step()}, in [0, 1]
+     * @see Character#interpolate(float)
+     */
+    public void interpolate(float alpha) {
+        if (crowd != null)
+            crowd.interpolate(alpha);
+    }
+
+    /**
+     * Populates the {@link Area} with the given number of non-player students, replacing any existing {@link Crowd}.
+     * Every {@link Interactable} already added is a destination of the students.
+     *
+     * @param population The number of students
+     * @param animations The frames from which every student is drawn
+     * @param home The {@link Interactable} at which the students sleep, or null if they should not
+     * @throws InvalidAreaException The {@link GameMap} is streamed, or has nowhere unblocked to place a student
+     * @see Crowd
+     */
+    void populate(int population, AnimationSet animations, Interactable home) throws InvalidAreaException {
+        if (navigationGrid == null)
+            throw new InvalidAreaException("Streamed areas may not be populated");
+
+        if (navigationGrid.isFullyBlocked())
+            throw new InvalidAreaException("Area has nowhere unblocked to place a crowd");
+
+        final Array<Vector2> destinations = new Array<>(interactables.size());
+        for (Interactable interactable : interactables)
+            destinations.add(interactable.getPosition().cpy());
+
+        crowd = new Crowd(population, animations, navigationGrid, pathFinder, flowFields, destinations,
+            interactables.indexOf(home), crowdSeed);
+    }
+
+    /**
+     * Retrieves the non-player students of the {@link Area}
+     *
+     * @return The {@link Crowd} of the {@link Area}, or null if it is unpopulated
+     */
+    Crowd getCrowd() {
+        return crowd;
+    }
+
+    /**
+     * Sends the {@link Crowd} of the {@link Area}, if any, home to sleep
+     *
+     * @see Crowd#sendHome()
+     */
+    void sendCrowdHome() {
+        if (crowd != null)
+            crowd.sendHome();
     }
 
     /**
@@ -159,6 +474,25 @@ public class Area implements Drawable {
      * @return The newly registered body
      */
     Body registerCollisionBody(Vector2 initialPosition, BodyDef.BodyType type, float width, float height) {
+        Body body = createBody(initialPosition, type, width, height);
+
+        if (type == BodyDef.BodyType.StaticBody)
+            bodies.add(body);
+
+        return body;
+    }
+
+    /**
+     * Creates a new body with a standard collision box in the {@link World} corresponding to the {@link Area}, confined
+     * to the collision category of the {@link Area}
+     *
+     * @param initialPosition The initial position of the body, specified as in-game metre components
+     * @param type The type of the body, according to {@link com.badlogic.gdx.physics.box2d.BodyDef.BodyType}
+     * @param width The fixed width of the body, in in-game metres
+     * @param height The fixed height of the body, in in-game metres
+     * @return The newly created body
+     */
+    private Body createBody(Vector2 initialPosition, BodyDef.BodyType type, float width, float height) {
         BodyDef bodyDefinition = new BodyDef();
 
         bodyDefinition.position.set(initialPosition);
@@ -171,9 +505,39 @@ public class Area implements Drawable {
         body.createFixture(collisionBox,0.0f);
         collisionBox.dispose();
 
+        confine(body);
         return body;
     }
 
+    /**
+     * Confines every fixture of the given {@link Body} to the collision category of the {@link Area}
+     *
+     * @param body The {@link Body} to confine, which must belong to the {@link #world}
+     * @see #categoryBits
+     */
+    private void confine(Body body) {
+        for (Fixture fixture : body.getFixtureList()) {
+            final Filter filter = fixture.getFilterData();
+            filter.categoryBits = categoryBits;
+            filter.maskBits = categoryBits;
+            fixture.setFilterData(filter);
+        }
+    }
+
+    /**
+     * Activates, or deactivates, every static {@link Body} of the {@link Area}. Inactive bodies are removed from the
+     * Box2D broad-phase, so take no part in collision detection nor the {@link World} step.
+     *
+     * @param active Should the {@link Area} participate in the simulation?
+     * @apiNote This must not be called during a {@link #step()}
+     */
+    public void setActive(boolean active) {
+        this.active = active;
+
+        for (Body body : bodies)
+            body.setActive(active);
+    }
+
     /**
      * Registers a new {@link Character} of the given width and height to the current {@link Area}
      *
@@ -185,7 +549,23 @@ public class Area implements Drawable {
      */
     Body registerCharacter(@SuppressWarnings("SameParameterValue") float width,
                            @SuppressWarnings("SameParameterValue") float height) {
-        return registerCollisionBody(initialCharacterPosition, BodyDef.BodyType.DynamicBody, width, height);
+        return createBody(initialCharacterPosition, BodyDef.BodyType.DynamicBody, width, height);
+    }
+
+    /**
+     * Transfers the given {@link Character} {@link Body}, registered by another {@link Area}, into the current
+     * {@link Area}, if they share a {@link World}
+     *
+     * @param body The {@link Character} {@link Body}
+     * @return Could the {@link Body} be transferred? If not, a new {@link Body} must be registered instead.
+     * @see #registerCharacter(float, float)
+     */
+    boolean adoptCharacter(Body body) {
+        if (body.getWorld() != world)
+            return false;
+
+        confine(body);
+        return true;
     }
 
     /**
@@ -209,27 +589,89 @@ public class Area implements Drawable {
     }
 
     /**
-     * Generate the static collision bodies for all given border objects, as defined by the {@link TiledMap}
+     * Registers a single static {@link Body}, holding one box fixture per given rectangle, in the {@link World}
+     * corresponding to the {@link Area}
+     *
+     * @param rectangles The collision rectangles, specified in in-game metres
+     * @return The newly registered body, or null if there were no rectangles
+     * @see ChunkStreamer
+     */
+    Body registerStaticGeometry(Array<Rectangle> rectangles) {
+        if (rectangles.isEmpty())
+            return null;
+
+        final Body body = world.createBody(new BodyDef());
+        final PolygonShape collisionBox = new PolygonShape();
+        final Vector2 centre = new Vector2();
+
+        for (Rectangle rectangle : rectangles) {
+            collisionBox.setAsBox(rectangle.width / 2, rectangle.height / 2, rectangle.getCenter(centre), 0);
+            body.createFixture(collisionBox, 0.0f);
+        }
+
+        collisionBox.dispose();
+        confine(body);
+        body.setActive(active);
+        bodies.add(body);
+
+        return body;
+    }
+
+    /**
+     * Destroys a static {@link Body} previously registered through {@link #registerStaticGeometry(Array)}, e.g. that
+     * of an evicted chunk
+     *
+     * @param body The {@link Body} to destroy
+     * @apiNote This must not be called during a {@link #step()}
+     * @see ChunkStreamer
+     */
+    void unregisterStaticGeometry(Body body) {
+        bodies.remove(body);
+        world.destroyBody(body);
+    }
+
+    /**
+     * Generate the static collision geometry for all border objects and solid tiles, as defined by the
+     * {@link TiledMap}. Overlapping and adjacent rectangles are first merged, and the remainder registered as fixtures
+     * of a single static {@link Body}, rather than one {@link Body} per object or tile, and rasterised into the
+     * {@link #navigationGrid}.
      *
-     * @param borderObjects The array of {@link RectangleMapObject}s represented the border vector
+     * @throws InvalidAreaException The {@link TiledMap} defines no collision geometry whatsoever, nor streams any
+     * @implNote A compiled {@link TiledMap} carries its geometry already merged, which is registered directly; only a
+     *           {@link TiledMap} loaded from TMX is meshed and merged here
+     * @see GameMap#getCompiledCollision()
+     * @see GameMap#getBorderObjects()
+     * @see GameMap#getSolidTileRectangles()
+     * @see CollisionGeometry#merge(Array)
+     * @see NavigationGrid
      */
-    private void generateBorders(com.badlogic.gdx.utils.Array<RectangleMapObject> borderObjects) {
-        if (borderObjects != null)
-            for (RectangleMapObject borderObject : borderObjects) {
-                Rectangle bounds = borderObject.getRectangle();
+    private void generateCollision() throws InvalidAreaException {
+        Array<Rectangle> merged = map.getCompiledCollision();
 
-                // The TMX object coordinates are specified in pixels, so we have to scale the rectangle bounds to
-                // in-game metres
-                registerCollisionBody(
-                    new Vector2(
-                        map.scale(bounds.getX() + bounds.getWidth() / 2),
-                        map.scale(bounds.getY() + bounds.getHeight() / 2)
-                    ),
-                    BodyDef.BodyType.StaticBody,
-                    map.scale(bounds.getWidth()),
-                    map.scale(bounds.getHeight())
-                );
+        if (merged == null) {
+            final Array<Rectangle> geometry = map.getSolidTileRectangles();
+
+            // The TMX object coordinates are specified in pixels, so we have to scale the rectangle bounds to metres
+            for (RectangleMapObject borderObject : map.getBorderObjects()) {
+                final Rectangle bounds = borderObject.getRectangle();
+                geometry.add(new Rectangle(map.scale(bounds.x), map.scale(bounds.y), map.scale(bounds.width),
+                    map.scale(bounds.height)));
             }
+
+            merged = CollisionGeometry.merge(geometry);
+        }
+
+        if (merged.isEmpty() && !map.isStreamed())
+            throw new InvalidAreaException("Level does not contain any borders or solid tiles");
+
+        registerStaticGeometry(merged);
+
+        if (!map.isStreamed()) {
+            navigationGrid = new NavigationGrid(map.getWidth(), map.getHeight());
+            navigationGrid.block(merged);
+            pathFinder = new PathFinder(navigationGrid, ROUTE_CACHE_CAPACITY);
+            flowFields = new FlowFields(navigationGrid);
+        }
     }
 
     /**
@@ -241,34 +683,79 @@ public class Area implements Drawable {
             interactable.dispose();
 
         map.dispose();
-        world.dispose();
+
+        if (ownsWorld)
+            world.dispose();
+        else
+            for (Body body : bodies)
+                world.destroyBody(body);
     }
 
     /**
-     * Registers the current {@link Area} onto the given game instance {@link SpriteBatch}, including all
-     * {@link Interactable} objects
+     * Registers the current {@link Area} onto the given game instance {@link SpriteBatch}, including every
+     * {@link Interactable} object in view
      *
      * @param batch The {@link SpriteBatch} to which the {@link Area} should be polled
+     * @apiNote {@link #updateView(OrthographicCamera)} must have been invoked at least once beforehand
+     * @see RenderQueue
      */
     @Override
     public void render(SpriteBatch batch) {
+        renderMap(batch);
+        renderDrawables(batch);
+    }
+
+    /**
+     * Renders solely the {@link GameMap} background of the {@link Area}
+     *
+     * @param batch The {@link SpriteBatch} to which the {@link Area} should be polled
+     * @see #render(SpriteBatch)
+     */
+    public void renderMap(SpriteBatch batch) {
         map.render(batch);
-        for (Interactable interactable : interactables)
-            interactable.render(batch);
     }
 
     /**
-     * Constructs a new {@link Area} with a {@link TiledMap} with a TMX file at the given path
+     * Renders solely the {@link Interactable} objects and {@link Crowd} of the {@link Area} which are in view, above
+     * the {@link GameMap}
      *
-     * @param mapPath The path of the {@link Area}'s background texture
+     * @param batch The {@link SpriteBatch} to which the {@link Area} should be polled
+     * @see #render(SpriteBatch)
+     */
+    public void renderDrawables(SpriteBatch batch) {
+        for (int i = 0; i < interactables.size(); i++)
+            renderQueue.submit(interactables.get(i));
+
+        renderQueue.flush(batch);
+
+        if (crowd != null)
+            crowd.render(batch, renderQueue.getView());
+    }
+
+    /**
+     * Constructs a new {@link Area} with the given loaded {@link TiledMap}
+     *
+     * @param areaName The {@link Name} of the new {@link Area}, determining its collision category
+     * @param tiledMap The {@link Area}'s background tile-map, which remains owned by the caller
      * @param initialCharacterPosition The initial position of the {@link Character} on the {@link Area} map, specified
      *                                 by in-game metre components
+     * @param sharedWorld The {@link World} shared between all {@link Area}s, which remains owned by the caller, or null
+     *                    if the {@link Area} should own a {@link World} of its own
+     * @throws InvalidAreaException The TMX tile-map is invalid, or too many {@link Area}s share the {@link World}
      * @see Character
+     * @see AreaLoader
      */
-    Area(String mapPath, Vector2 initialCharacterPosition) throws InvalidAreaException {
-        map = new GameMap(mapPath);
-        world = new World(new Vector2(0, 0), true);
-        generateBorders(map.getBorderObjects());
+    Area(Name areaName, TiledMap tiledMap, Vector2 initialCharacterPosition, World sharedWorld)
+        throws InvalidAreaException {
+        if (sharedWorld != null && areaName.ordinal() >= MAX_SHARED_AREAS)
+            throw new InvalidAreaException("At most " + MAX_SHARED_AREAS + " areas may share a physics world");
+
+        map = new GameMap(tiledMap, this);
+        ownsWorld = sharedWorld == null;
+        world = ownsWorld ? new World(new Vector2(0, 0), true) : sharedWorld;
+        categoryBits = ownsWorld ? 1 : (short) (1 << areaName.ordinal());
+        crowdSeed = areaName.ordinal();
+        generateCollision();
         this.initialCharacterPosition = initialCharacterPosition;
     }
 }
@@ -1,19 +1,35 @@
 package bytemusketeers.heslingtonhustle.scene;
 
-import bytemusketeers.heslingtonhustle.PlayScreen;
+import bytemusketeers.heslingtonhustle.Simulation;
 import bytemusketeers.heslingtonhustle.metrics.MetricController;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /**
  * The {@link AreaFactory} provides a non-static factory for initialising particular {@link Area} objects, populated
- * with {@link Interactable} objects
+ * with {@link Interactable} objects declared by the {@value #SCENE_LAYER} object layer of each tile-map: an object
+ * named {@code spawn} marks the initial position of the {@link Character}, and every other object is an
+ * {@link Interactable}, centred upon the object, bearing a {@code sprite} name, a {@code scale}, and an {@code action}
+ * identifier, and optionally a draw {@value #LAYER_PROPERTY}. The scene layer may also bear a
+ * {@value #CROWD_PROPERTY} population of non-player students, whose home is the object bearing a true
+ * {@value #HOME_PROPERTY}.
  *
  * @see Area
  * @see Interactable
- * @implNote Any future programmer wishing to add {@link Area} initialisers should note that all coordinate vectors are
- *           specified by components described in in-game metres, not pixels.
+ * @implNote The scene is compiled into each tile-map by the {@code compileMaps} Gradle task alongside its tiles, so an
+ *           {@link Area} is built directly from its objects, in one pass for the spawn and then one for every
+ *           {@link Interactable}, with each action resolved by identifier from a table built once per
+ *           {@link AreaFactory}. Adding content thus requires only tile-map edits; every TMX
+ *           tile-map must be declared in {@link #getMapPath(Area.Name)}, such that the {@link AreaLoader} can stream it
+ *           in before the {@link Area} is created, and every sprite must be packed into the texture atlas by the
+ *           {@code packTextures} Gradle task.
  * @apiNote Every initialiser contained herein may throw an {@link InvalidAreaException} in event of the requested TMX
  *          tile-map file being externally corrupt. Users of the {@link AreaFactory} should deal with such cases
  *          gracefully, as continuing with an uninitialised area will invoke undefined GPU behaviour from LibGDX during
@@ -22,175 +38,230 @@ import com.badlogic.gdx.math.Vector2;
  */
 final public class AreaFactory {
     /**
-     * The {@link MetricController} belonging to the parental {@link PlayScreen}, generally used when registering
+     * The name of the object layer declaring the contents of each {@link Area}
+     */
+    static final String SCENE_LAYER = "scene";
+
+    /**
+     * The name of the scene object marking the initial position of the {@link Character}
+     */
+    private static final String SPAWN_OBJECT = "spawn";
+
+    /**
+     * The string property of a scene object naming its sprite in the texture atlas
+     */
+    private static final String SPRITE_PROPERTY = "sprite";
+
+    /**
+     * The float property of a scene object scaling its sprite, preserving aspect ratio
+     */
+    private static final String SCALE_PROPERTY = "scale";
+
+    /**
+     * The optional integer property of a scene object giving the draw layer of its {@link Interactable}, which is zero
+     * if absent
+     *
+     * @see Item#setLayer(int)
+     */
+    private static final String LAYER_PROPERTY = "layer";
+
+    /**
+     * The string property of a scene object identifying the action executed upon interaction
+     *
+     * @see #registerActions()
+     */
+    private static final String ACTION_PROPERTY = "action";
+
+    /**
+     * The integer property of the {@link #SCENE_LAYER} giving the number of non-player students in the {@link Area},
+     * which is zero if absent
+     *
+     * @see Area#populate(int, AnimationSet, Interactable)
+     */
+    private static final String CROWD_PROPERTY = "crowd";
+
+    /**
+     * The boolean property of a scene object marking its {@link Interactable} as the home of the crowd, at which the
+     * students sleep
+     *
+     * @see Area#populate(int, AnimationSet, Interactable)
+     */
+    private static final String HOME_PROPERTY = "home";
+
+    /**
+     * The prefix of every action identifier switching to an {@link Area}, which is followed by its {@link Area.Name}
+     */
+    private static final String ENTER_ACTION = "enter:";
+
+    /**
+     * Every action which a scene object may reference, keyed by identifier
+     */
+    private final ObjectMap<String, Runnable> actions = new ObjectMap<>();
+
+    /**
+     * The {@link MetricController} belonging to the parental {@link Simulation}, generally used when registering
      * {@link Runnable} actions on {@link Interactable}s in the created {@link Area}
      */
     private final MetricController metricController;
 
     /**
-     * The {@link PlayScreen} on which the {@link Area} objects generated by the {@link AreaFactory} should be rendered.
+     * The {@link Simulation} in which the {@link Area} objects generated by the {@link AreaFactory} should exist.
      *
      * @implNote This is required to correctly register the {@link Interactable} update actions
      * @see Interactable#interact()
      */
-    private final PlayScreen playScreen;
+    private final Simulation simulation;
+
+    /**
+     * The {@link AreaLoader} from which all loaded tile-map and sprite assets are retrieved
+     */
+    private final AreaLoader loader;
 
     /**
-     * Crates an {@link Area} of the Campus East outdoors area
+     * Retrieves the path of the TMX tile-map forming the background of the given {@link Area}
      *
-     * @return The generated test map
-     */
-    public Area createOutdoorMap() throws InvalidAreaException {
-        Area area = new Area("Maps/outdoor-map.tmx", new Vector2(2, 2));
-
-        // The Piazza building entrance
-        area.addInteractable(new Interactable(
-            new Vector2(4, 7),
-            new Texture("Piazza-Building.png"),
-            area, 2,
-            () -> playScreen.switchArea(Area.Name.PiazzaBuilding)
-        ));
-
-        // The university accommodation/bedroom building entrance
-        area.addInteractable(new Interactable(
-            new Vector2(23, 11),
-            new Texture("Bedroom-Building.png"),
-            area, 2,
-            () -> playScreen.switchArea(Area.Name.BedroomBuilding)
-        ));
-
-        // The computer science building entrance
-        area.addInteractable(new Interactable(
-            new Vector2(12, 17),
-            new Texture("Comp-Sci-Building.png"),
-            area, 2,
-            () -> playScreen.switchArea(Area.Name.CompSciBuilding)
-        ));
+     * @param areaName The {@link Area.Name} of the requested {@link Area}
+     * @return The path of the TMX file, relative to the assets directory
+     */
+    static String getMapPath(Area.Name areaName) {
+        switch (areaName) {
+            case PiazzaBuilding:  return "Maps/piazza-map.tmx";
+            case CompSciBuilding: return "Maps/comp-sci-map.tmx";
+            case BedroomBuilding: return "Maps/bedroom-map.tmx";
+            default:              return "Maps/outdoor-map.tmx";
+        }
+    }
 
-        return area;
+    /**
+     * Retrieves the named sprite from the texture atlas
+     *
+     * @param name The name of the sprite, being the file name of its source image sans extension
+     * @return The {@link TextureRegion} of the sprite, drawn from the shared atlas texture page
+     * @throws InvalidAreaException The sprite is missing from the texture atlas
+     * @see AreaLoader#getSprite(String)
+     */
+    private TextureRegion sprite(String name) throws InvalidAreaException {
+        return loader.getSprite(name);
     }
 
     /**
-     * Creates an {@link Area} of the Piazza building
+     * Converts the given scene object into its position, being the centre of its rectangle
      *
-     * @return The generated Piazza map
-     */
-    public Area createPiazzaMap() throws InvalidAreaException {
-        Area area = new Area("Maps/piazza-map.tmx", new Vector2(19, 3));
-
-        // Study opportunity (south wing)
-        area.addInteractable(new Interactable(
-            new Vector2(25.5f, 7.5f),
-            new Texture("Paper.png"),
-            area, 4,
-            () -> metricController.incrementPlayerMetric(MetricController.Metric.Study, 1)
-        ));
-
-        // Meal opportunity #1 (east wing)
-        area.addInteractable(new Interactable(
-            new Vector2(17.5f, 15.5f),
-            new Texture("Food-Plate.png"),
-            area, 4,
-            () -> metricController.incrementPlayerMetric(MetricController.Metric.Eat, 1)
-        ));
-
-        // Recreational opportunity (west wing)
-        area.addInteractable(new Interactable(
-            new Vector2(5, 15.5f),
-            new Texture("Alcohol-1.png"),
-            area, 4, () -> {
-                metricController.incrementPlayerMetric(MetricController.Metric.Play, 1);
-                metricController.decrementPlayerMetric(MetricController.Metric.Study, 1);
-            }
-        ));
-
-        // Return to the outside
-        area.addInteractable(new Interactable(
-            new Vector2(19, 0.2f),
-            new Texture("Piazza-Door.png"),
-            area, 6.23f,
-            () -> playScreen.switchArea(Area.Name.OutdoorMap)
-        ));
+     * @param object The {@link RectangleMapObject}, in y-up tile-map pixels
+     * @return The position, in in-game metres
+     */
+    private static Vector2 getPosition(RectangleMapObject object) {
+        final Rectangle rectangle = object.getRectangle();
 
-        return area;
+        return new Vector2(rectangle.x + rectangle.width / 2, rectangle.y + rectangle.height / 2)
+            .scl(GameMap.UNIT_SCALE);
     }
 
     /**
-     * Creates an {@link Area} of the Ian Wand Computer Science building
+     * Retrieves the named property of the given scene object
      *
-     * @return The generated Computer Science building
-     */
-    public Area createCSMap() throws InvalidAreaException {
-        Area area = new Area("Maps/comp-sci-map.tmx", new Vector2(25, 3));
-
-        // Study opportunity (east wing)
-        area.addInteractable(new Interactable(
-            new Vector2(45, 11),
-            new Texture("Paper.png"),
-            area, 4,
-            () -> metricController.incrementPlayerMetric(MetricController.Metric.Study, 1)
-        ));
-
-        // Study opportunity (east wing)
-        area.addInteractable(new Interactable(
-            new Vector2(42, 15.5f),
-            new Texture("Paper.png"),
-            area, 4,
-            () -> metricController.incrementPlayerMetric(MetricController.Metric.Study, 1)
-        ));
-
-        // Meal opportunity (west wing)
-        area.addInteractable(new Interactable(
-            new Vector2(7, 15.5f),
-            new Texture("Food-Plate.png"),
-            area, 4,
-            () -> metricController.incrementPlayerMetric(MetricController.Metric.Eat, 1)
-        ));
-
-        // Return to the outside
-        area.addInteractable(new Interactable(
-            new Vector2(25, 0.2f),
-            new Texture("Comp-Sci-Door.png"),
-            area, 6.23f,
-            () -> playScreen.switchArea(Area.Name.OutdoorMap)
-        ));
+     * @param object The scene object
+     * @param key The name of the property
+     * @param type The expected type of the property
+     * @param <T> The type of the property
+     * @return The value of the property
+     * @throws InvalidAreaException The object lacks the property, or it is of another type
+     */
+    private static <T> T getProperty(MapObject object, String key, Class<T> type) throws InvalidAreaException {
+        final Object value = object.getProperties().get(key);
 
-        return area;
+        if (!type.isInstance(value))
+            throw new InvalidAreaException("Scene object '" + object.getName() + "' lacks a valid '" + key + "'");
+
+        return type.cast(value);
     }
 
     /**
-     * Creates an {@link Area} of the bedroom building
+     * Registers every action which a scene object may reference by identifier
      *
-     * @return The generated bedroom building
-     */
-    public Area createBedroomMap() throws InvalidAreaException {
-        Area area = new Area("Maps/bedroom-map.tmx", new Vector2(6, 3));
-
-        // A bed for advancing the day
-        area.addInteractable(new Interactable(
-            new Vector2(6, 7),
-            new Texture("Bed-1.png"),
-            area, 4.5f,
-            playScreen::advanceDay
-        ));
-
-        // Recreational opportunity
-        area.addInteractable(new Interactable(
-            new Vector2(2, 3),
-            new Texture("Alcohol-1.png"),
-            area, 4, () -> {
+     * @see #ACTION_PROPERTY
+     */
+    private void registerActions() {
+        actions.put("study", () -> metricController.incrementPlayerMetric(MetricController.Metric.Study, 1));
+        actions.put("eat", () -> metricController.incrementPlayerMetric(MetricController.Metric.Eat, 1));
+        actions.put("play", () -> {
             metricController.incrementPlayerMetric(MetricController.Metric.Play, 1);
             metricController.decrementPlayerMetric(MetricController.Metric.Study, 1);
+        });
+        actions.put("sleep", simulation::advanceDay);
+
+        for (Area.Name areaName : Area.Name.values())
+            actions.put(ENTER_ACTION + areaName.name(), () -> simulation.switchArea(areaName));
+    }
+
+    /**
+     * Creates the {@link Interactable} declared by the given scene object
+     *
+     * @param area The {@link Area} into which the {@link Interactable} should be placed
+     * @param object The scene object, bearing the {@link #SPRITE_PROPERTY}, {@link #SCALE_PROPERTY}, and
+     *               {@link #ACTION_PROPERTY}, and optionally the {@link #LAYER_PROPERTY}
+     * @return The new {@link Interactable}
+     * @throws InvalidAreaException The object is incomplete, or references an unknown sprite or action
+     */
+    private Interactable createInteractable(Area area, RectangleMapObject object) throws InvalidAreaException {
+        final String actionName = getProperty(object, ACTION_PROPERTY, String.class);
+        final Runnable action = actions.get(actionName);
+
+        if (action == null)
+            throw new InvalidAreaException("Scene object '" + object.getName() + "' references unknown action '"
+                + actionName + "'");
+
+        final Interactable interactable = new Interactable(getPosition(object),
+            sprite(getProperty(object, SPRITE_PROPERTY, String.class)), area,
+            getProperty(object, SCALE_PROPERTY, Float.class), action);
+        interactable.setLayer(object.getProperties().get(LAYER_PROPERTY, 0, Integer.class));
+
+        return interactable;
+    }
+
+    /**
+     * Creates the {@link Area} identified by the given {@link Area.Name} from the {@link #SCENE_LAYER} of its tile-map;
+     * all of its assets must already be loaded
+     *
+     * @param areaName The {@link Area.Name} of the requested {@link Area}
+     * @return The generated {@link Area}
+     * @throws InvalidAreaException The loaded TMX tile-map is invalid, or its scene is incomplete
+     */
+    Area create(Area.Name areaName) throws InvalidAreaException {
+        final MapLayer scene = loader.getTiledMap(areaName).getLayers().get(SCENE_LAYER);
+
+        if (scene == null)
+            throw new InvalidAreaException("Area '" + areaName + "' lacks a '" + SCENE_LAYER + "' layer");
+
+        final Array<RectangleMapObject> objects = scene.getObjects().getByType(RectangleMapObject.class);
+        RectangleMapObject spawn = null;
+
+        for (RectangleMapObject object : objects)
+            if (SPAWN_OBJECT.equals(object.getName()))
+                spawn = object;
+
+        if (spawn == null)
+            throw new InvalidAreaException("Area '" + areaName + "' lacks a '" + SPAWN_OBJECT + "' object");
+
+        final Area area = loader.newArea(areaName, getPosition(spawn));
+        Interactable home = null;
+
+        for (RectangleMapObject object : objects) {
+            if (object == spawn)
+                continue;
+
+            final Interactable interactable = createInteractable(area, object);
+            area.addInteractable(interactable);
+
+            if (object.getProperties().get(HOME_PROPERTY, false, Boolean.class))
+                home = interactable;
         }
-        ));
 
-        // Return to the outside
-        area.addInteractable(new Interactable(
-            new Vector2(6, 0.2f),
-            new Texture("Bedroom-Door.png"),
-            area, 6.23f,
-            () -> playScreen.switchArea(Area.Name.OutdoorMap)
-        ));
+        area.precomputeRoutes();
+
+        final int population = scene.getProperties().get(CROWD_PROPERTY, 0, Integer.class);
+        if (population > 0)
+            area.populate(population, loader.getAnimation(Character.ANIMATION_NAME), home);
 
         return area;
     }
@@ -198,10 +269,14 @@ final public class AreaFactory {
     /**
      * Instantiates a new {@link AreaFactory} with the given contextual {@link MetricController}
      *
-     * @param metricController The {@link MetricController} belonging to the parental {@link com.badlogic.gdx.Screen}
+     * @param metricController The {@link MetricController} belonging to the parental {@link Simulation}
+     * @param simulation The {@link Simulation} to which the {@link Interactable} actions should be directed
+     * @param loader The {@link AreaLoader} holding the loaded assets of every created {@link Area}
      */
-    public AreaFactory(MetricController metricController, PlayScreen playScreen) {
+    AreaFactory(MetricController metricController, Simulation simulation, AreaLoader loader) {
         this.metricController = metricController;
-        this.playScreen = playScreen;
+        this.simulation = simulation;
+        this.loader = loader;
+        registerActions();
     }
 }
@@ -0,0 +1,411 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import bytemusketeers.heslingtonhustle.Simulation;
+import bytemusketeers.heslingtonhustle.diagnostics.MapLoadEvent;
+import bytemusketeers.heslingtonhustle.diagnostics.TextureLoadEvent;
+import bytemusketeers.heslingtonhustle.metrics.MetricController;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureAtlasLoader;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.SerializationException;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@link AreaLoader} streams the assets of each {@link Area} in through an {@link AssetManager}, and lazily creates
+ * each {@link Area} through the {@link AreaFactory} upon its first request. Tile-map reading and image decoding are
+ * performed on the {@link AssetManager} worker thread; only the final GPU upload occupies the render thread.
+ *
+ * @implNote Each tile-map is read from its build-time compiled form through the {@link CompiledMapLoader} whenever that
+ *           form is present, falling back to parsing the TMX source otherwise, e.g. when run from an IDE without the
+ *           {@code compileMaps} Gradle task. Likewise, each sprite is drawn from the packed {@link TextureAtlas}
+ *           whenever it is present, falling back to its individual source image otherwise. Every tile-map and texture
+ *           load is recorded as a {@link MapLoadEvent} or {@link TextureLoadEvent} respectively, through the loaded
+ *           callbacks of the {@link AssetManager}; each {@link MapLoadEvent} begins only once its tile-map's loader
+ *           does, as arranged by the {@link MapLoadParameters}.
+ *
+ * @apiNote An {@link Area} may be requested before its assets have finished streaming in, in which case
+ *          {@link #get(Area.Name)} blocks until they have. Requesting the first {@link Area} immediately after
+ *          {@link #queue(Area.Name)} thus loads only that {@link Area} synchronously.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see AreaFactory
+ */
+public final class AreaLoader implements Disposable {
+    /**
+     * Distinguishes between the arrangements of Box2D {@link World}s across the created {@link Area}s
+     */
+    public enum WorldMode {
+        /**
+         * Every {@link Area} owns a {@link World} of its own
+         */
+        PerArea,
+
+        /**
+         * Every {@link Area} shares a single {@link World}, scoped to each {@link Area} by collision filtering, such that
+         * the native heap holds one {@link World} and one {@link Character} body however many {@link Area}s exist
+         */
+        Shared
+    }
+
+    /**
+     * The path of the {@link TextureAtlas} packing every sprite, relative to the assets directory
+     *
+     * @implNote The atlas is generated at build-time by the {@code packTextures} Gradle task
+     */
+    private static final String ATLAS_PATH = "sprites.atlas";
+
+    /**
+     * Has the {@link TextureAtlas} at {@link #ATLAS_PATH} been packed? If not, each sprite is loaded from its
+     * individual source image instead.
+     *
+     * @see #getSprite(String)
+     */
+    private final boolean packed;
+
+    /**
+     * The path of the definitions of every sprite sheet animation, relative to the assets directory
+     *
+     * @see AnimationSet
+     */
+    private static final String ANIMATIONS_PATH = "animations.json";
+
+    /**
+     * The {@link AssetManager} owning every {@link TiledMap} and the {@link TextureAtlas} used by the created
+     * {@link Area}s; all assets are reference-counted, so those shared between {@link Area}s are loaded once
+     */
+    private final AssetManager assets = new AssetManager(new InternalFileHandleResolver());
+
+    /**
+     * The {@link AreaFactory} used to create each {@link Area} once its assets are loaded
+     */
+    private final AreaFactory factory;
+
+    /**
+     * The {@link Area.Name} of every {@link Area} whose assets have been queued for loading
+     *
+     * @see #queue(Area.Name)
+     */
+    private final Set<Area.Name> queued = EnumSet.noneOf(Area.Name.class);
+
+    /**
+     * The relationship between {@link Area.Name} and every {@link Area} created thus far
+     *
+     * @see #get(Area.Name)
+     */
+    private final Map<Area.Name, Area> areas = new EnumMap<>(Area.Name.class);
+
+    /**
+     * The relationship between {@link Area.Name} and the resolved path of its tile-map, compiled or otherwise
+     *
+     * @see #getMapPath(Area.Name)
+     */
+    private final Map<Area.Name, String> mapPaths = new EnumMap<>(Area.Name.class);
+
+    /**
+     * Every {@link AnimationSet} sliced thus far, keyed by the name of its sprite sheet
+     *
+     * @see #getAnimation(String)
+     */
+    private final ObjectMap<String, AnimationSet> animations = new ObjectMap<>();
+
+    /**
+     * The parsed {@link #ANIMATIONS_PATH} definitions, or null if they are yet to be read
+     */
+    private JsonValue animationDefinitions;
+
+    /**
+     * The {@link World} shared between every created {@link Area} under {@link WorldMode#Shared}, or null under
+     * {@link WorldMode#PerArea}
+     */
+    private final World sharedWorld;
+
+    /**
+     * Resolves the path of the tile-map of the given {@link Area}, preferring its compiled form if it exists and is
+     * no older than the TMX tile-map, which may have been edited since the {@code compileMaps} Gradle task last ran
+     *
+     * @param areaName The {@link Area.Name} of the {@link Area} in question
+     * @return The path of the tile-map to load, relative to the assets directory
+     * @see CompiledMapLoader#getCompiledPath(String)
+     * @see CompiledMapLoader#isStale(FileHandle, FileHandle)
+     */
+    private String getMapPath(Area.Name areaName) {
+        String path = mapPaths.get(areaName);
+
+        if (path == null) {
+            final String tmxPath = AreaFactory.getMapPath(areaName);
+            final String compiledPath = CompiledMapLoader.getCompiledPath(tmxPath);
+
+            final FileHandle compiled = assets.getFileHandleResolver().resolve(compiledPath);
+            final FileHandle tmx = assets.getFileHandleResolver().resolve(tmxPath);
+
+            path = compiled.exists() && !CompiledMapLoader.isStale(compiled, tmx) ? compiledPath : tmxPath;
+            mapPaths.put(areaName, path);
+        }
+
+        return path;
+    }
+
+    /**
+     * Begins a {@link TextureLoadEvent}, to be committed once the {@link Texture} or {@link TextureAtlas} to which the
+     * returned callback is attached has finished loading
+     *
+     * @return The callback to attach to the {@link AssetLoaderParameters} of the texture asset
+     */
+    static AssetLoaderParameters.LoadedCallback createTextureLoadCallback() {
+        final TextureLoadEvent event = new TextureLoadEvent();
+        event.begin();
+
+        return (assetManager, fileName, type) -> {
+            if (!event.shouldCommit())
+                return;
+
+            event.path = fileName;
+
+            if (type == TextureAtlas.class)
+                for (Texture texture : assetManager.<TextureAtlas>get(fileName).getTextures())
+                    recordTexture(event, texture);
+            else
+                recordTexture(event, assetManager.get(fileName, Texture.class));
+
+            event.commit();
+        };
+    }
+
+    /**
+     * Adds the given texture page to the given {@link TextureLoadEvent}
+     *
+     * @param event The {@link TextureLoadEvent} spanning the load of the texture
+     * @param texture The loaded texture page
+     */
+    private static void recordTexture(TextureLoadEvent event, Texture texture) {
+        event.pages++;
+        event.size += (long) texture.getWidth() * texture.getHeight() * Integer.BYTES;
+    }
+
+    /**
+     * Queues every asset of the given {@link Area} for background loading, unless they have already been queued
+     *
+     * @param areaName The {@link Area.Name} of the {@link Area} to load
+     * @see #update()
+     */
+    public void queue(Area.Name areaName) {
+        if (!queued.add(areaName))
+            return;
+
+        assets.load(getMapPath(areaName), TiledMap.class, new MapLoadParameters());
+    }
+
+    /**
+     * Advances the loading of the queued assets by a single step; this should be called once per frame
+     *
+     * @return Have all queued assets finished loading?
+     * @see AssetManager#update()
+     */
+    public boolean update() {
+        return assets.update();
+    }
+
+    /**
+     * Retrieves the loading progress of all queued assets
+     *
+     * @return The proportion of queued assets that have finished loading, in [0, 1]
+     * @see AssetManager#getProgress()
+     */
+    public float getProgress() {
+        return assets.getProgress();
+    }
+
+    /**
+     * Has the given {@link Area} been created?
+     *
+     * @param areaName The {@link Area.Name} of the {@link Area} in question
+     * @return Will {@link #get(Area.Name)} return without blocking?
+     */
+    public boolean isLoaded(Area.Name areaName) {
+        return areas.containsKey(areaName);
+    }
+
+    /**
+     * Retrieves the given {@link Area}, creating it if required. Any of its assets which have not yet streamed in are
+     * loaded synchronously.
+     *
+     * @param areaName The {@link Area.Name} of the requested {@link Area}
+     * @return The requested {@link Area}
+     * @throws InvalidAreaException The TMX tile-map of the {@link Area} is invalid
+     */
+    public Area get(Area.Name areaName) throws InvalidAreaException {
+        Area area = areas.get(areaName);
+
+        if (area == null) {
+            queue(areaName);
+
+            assets.finishLoadingAsset(ATLAS_PATH);
+            assets.finishLoadingAsset(getMapPath(areaName));
+
+            area = factory.create(areaName);
+            areas.put(areaName, area);
+        }
+
+        return area;
+    }
+
+    /**
+     * Sends the crowd of every created {@link Area} home to sleep, e.g. upon the day advancing
+     *
+     * @see Area#sendCrowdHome()
+     */
+    public void sendCrowdsHome() {
+        for (Area area : areas.values())
+            area.sendCrowdHome();
+    }
+
+    /**
+     * Retrieves the loaded {@link TiledMap} of the given {@link Area}
+     *
+     * @param areaName The {@link Area.Name} of the requested {@link Area}
+     * @return The {@link TiledMap}, owned by the {@link #assets}
+     * @see #getMapPath(Area.Name)
+     */
+    TiledMap getTiledMap(Area.Name areaName) {
+        return assets.get(getMapPath(areaName), TiledMap.class);
+    }
+
+    /**
+     * Constructs a new {@link Area} over the loaded {@link TiledMap} of the given {@link Area.Name}, in accordance with
+     * the {@link WorldMode}
+     *
+     * @param areaName The {@link Area.Name} of the new {@link Area}
+     * @param initialCharacterPosition The initial position of the {@link Character}, in in-game metres
+     * @return The new {@link Area}
+     * @throws InvalidAreaException The TMX tile-map of the {@link Area} is invalid
+     * @see AreaFactory
+     */
+    Area newArea(Area.Name areaName, Vector2 initialCharacterPosition) throws InvalidAreaException {
+        return new Area(areaName, getTiledMap(areaName), initialCharacterPosition, sharedWorld);
+    }
+
+    /**
+     * Retrieves the named sprite from the {@link TextureAtlas}, or from its source image if the atlas has not been
+     * packed, loading either synchronously if required
+     *
+     * @param name The name of the sprite, being the file name of its source image sans extension
+     * @return The {@link TextureRegion} of the sprite, drawn from the shared atlas texture page where packed, which is
+     *         owned by the {@link #assets}
+     * @throws InvalidAreaException The sprite is missing from the {@link TextureAtlas}, or, if the atlas has not been
+     *                              packed, its source image is missing
+     * @implNote The atlas lookup is a linear search, so this should be called at creation-time, not render-time
+     */
+    public TextureRegion getSprite(String name) throws InvalidAreaException {
+        if (packed) {
+            final TextureRegion region = assets.<TextureAtlas>finishLoadingAsset(ATLAS_PATH).findRegion(name);
+
+            if (region == null)
+                throw new InvalidAreaException("Sprite '" + name + "' is missing from the texture atlas");
+
+            return region;
+        }
+
+        // Without the atlas, e.g. when run from an IDE without the packTextures Gradle task, each sprite is a texture
+        final String path = name + ".png";
+
+        if (!assets.getFileHandleResolver().resolve(path).exists())
+            throw new InvalidAreaException("Sprite '" + name + "' is missing: neither " + ATLAS_PATH
+                + ", packed by the packTextures Gradle task, nor " + path + " exists");
+
+        if (!assets.contains(path)) {
+            final TextureLoader.TextureParameter parameter = new TextureLoader.TextureParameter();
+            parameter.loadedCallback = createTextureLoadCallback();
+            assets.load(path, Texture.class, parameter);
+        }
+
+        return new TextureRegion(assets.<Texture>finishLoadingAsset(path));
+    }
+
+    /**
+     * Retrieves the {@link AnimationSet} of the named sprite sheet, slicing it upon its first request in accordance
+     * with its definition in {@link #ANIMATIONS_PATH}
+     *
+     * @param name The name of the sprite sheet, being the file name of its source image sans extension
+     * @return The {@link AnimationSet}, whose frames are drawn from the shared atlas texture page
+     * @throws InvalidAreaException The sprite sheet, or its definition, is missing or malformed
+     * @implNote The sheet is sliced once and the result retained, so every requester shares the same frames
+     */
+    public AnimationSet getAnimation(String name) throws InvalidAreaException {
+        AnimationSet animation = animations.get(name);
+
+        if (animation == null) {
+            if (animationDefinitions == null)
+                try {
+                    animationDefinitions = new JsonReader().parse(
+                        assets.getFileHandleResolver().resolve(ANIMATIONS_PATH));
+                } catch (SerializationException se) {
+                    throw new InvalidAreaException("Animation definitions are malformed: " + se.getMessage());
+                }
+
+            final JsonValue definition = animationDefinitions.get(name);
+            if (definition == null)
+                throw new InvalidAreaException("Animation '" + name + "' is not defined");
+
+            animation = new AnimationSet(getSprite(name), definition);
+            animations.put(name, animation);
+        }
+
+        return animation;
+    }
+
+    /**
+     * Releases every created {@link Area}, followed by the shared {@link World}, if any, and all loaded assets
+     */
+    @Override
+    public void dispose() {
+        for (Area area : areas.values())
+            area.dispose();
+
+        if (sharedWorld != null)
+            sharedWorld.dispose();
+
+        assets.dispose();
+    }
+
+    /**
+     * Instantiates a new {@link AreaLoader} with only the {@link TextureAtlas}, if it has been packed, in its loading
+     * queue
+     *
+     * @param metricController The {@link MetricController} belonging to the parental {@link Simulation}
+     * @param simulation The {@link Simulation} to which the {@link Interactable} actions should be directed
+     * @param worldMode The arrangement of Box2D {@link World}s across the created {@link Area}s
+     */
+    public AreaLoader(MetricController metricController, Simulation simulation, WorldMode worldMode) {
+        sharedWorld = worldMode == WorldMode.Shared ? new World(new Vector2(0, 0), true) : null;
+        final FileHandleResolver resolver = assets.getFileHandleResolver();
+        assets.setLoader(TiledMap.class, new MapLoadParameters.TimedTmxMapLoader(resolver));
+        assets.setLoader(TiledMap.class, CompiledMapLoader.SUFFIX, new CompiledMapLoader(resolver));
+        packed = resolver.resolve(ATLAS_PATH).exists();
+
+        if (packed) {
+            final TextureAtlasLoader.TextureAtlasParameter atlasParameter =
+                new TextureAtlasLoader.TextureAtlasParameter();
+            atlasParameter.loadedCallback = createTextureLoadCallback();
+            assets.load(ATLAS_PATH, TextureAtlas.class, atlasParameter);
+        }
+
+        factory = new AreaFactory(metricController, simulation, this);
+    }
+}
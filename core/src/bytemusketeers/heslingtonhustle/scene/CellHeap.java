@@ -0,0 +1,138 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+/**
+ * A {@link CellHeap} is a binary min-heap of the cells of a {@link NavigationGrid}, ordered by an integer priority per
+ * cell, which supports lowering the priority of a cell already in the heap
+ *
+ * @implNote Every array is sized to the grid upon instantiation, so no operation allocates memory
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see PathFinder
+ * @see FlowField
+ */
+final class CellHeap {
+    /**
+     * The cells in the heap, in heap order
+     */
+    private final int[] heap;
+
+    /**
+     * The index of each cell in the {@link #heap}, valid only whilst the cell is in the heap
+     */
+    private final int[] heapIndex;
+
+    /**
+     * The priority of each cell, valid only whilst the cell is in the heap
+     */
+    private final int[] priority;
+
+    /**
+     * The number of cells in the heap
+     */
+    private int size = 0;
+
+    /**
+     * Swaps the given entries of the {@link #heap}, updating their {@link #heapIndex}
+     *
+     * @param i The index of one entry
+     * @param j The index of the other entry
+     */
+    private void swap(int i, int j) {
+        final int cell = heap[i];
+        heap[i] = heap[j];
+        heap[j] = cell;
+        heapIndex[heap[i]] = i;
+        heapIndex[heap[j]] = j;
+    }
+
+    /**
+     * Restores the heap order above the given entry, e.g. after its priority has decreased
+     *
+     * @param i The index of the entry in the {@link #heap}
+     */
+    private void siftUp(int i) {
+        while (i > 0 && priority[heap[(i - 1) / 2]] > priority[heap[i]]) {
+            swap(i, (i - 1) / 2);
+            i = (i - 1) / 2;
+        }
+    }
+
+    /**
+     * Is the heap empty?
+     *
+     * @return Are there no cells in the heap?
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Empties the heap
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Adds the given cell to the heap
+     *
+     * @param cell The index of the cell, which must not already be in the heap
+     * @param cellPriority The priority of the cell, where lesser priorities are removed first
+     */
+    void add(int cell, int cellPriority) {
+        priority[cell] = cellPriority;
+        heap[size] = cell;
+        heapIndex[cell] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the priority of the given cell
+     *
+     * @param cell The index of the cell, which must be in the heap
+     * @param cellPriority The new priority of the cell, which must not exceed its current priority
+     */
+    void decrease(int cell, int cellPriority) {
+        priority[cell] = cellPriority;
+        siftUp(heapIndex[cell]);
+    }
+
+    /**
+     * Removes the cell of least priority from the heap
+     *
+     * @return The index of the removed cell
+     * @apiNote The heap must not be empty
+     */
+    int pop() {
+        final int cell = heap[0];
+        heap[0] = heap[--size];
+        heapIndex[heap[0]] = 0;
+
+        int i = 0;
+        while (true) {
+            final int left = 2 * i + 1;
+            final int right = left + 1;
+            int least = i;
+
+            if (left < size && priority[heap[left]] < priority[heap[least]])
+                least = left;
+            if (right < size && priority[heap[right]] < priority[heap[least]])
+                least = right;
+            if (least == i)
+                return cell;
+
+            swap(i, least);
+            i = least;
+        }
+    }
+
+    /**
+     * Instantiates a new, empty, {@link CellHeap}
+     *
+     * @param cells The number of cells in the grid, i.e. the greatest number of cells which may be in the heap
+     */
+    CellHeap(int cells) {
+        heap = new int[cells];
+        heapIndex = new int[cells];
+        priority = new int[cells];
+    }
+}
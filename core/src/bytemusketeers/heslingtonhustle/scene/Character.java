@@ -1,20 +1,16 @@
 package bytemusketeers.heslingtonhustle.scene;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
-import java.util.EnumMap;
-import java.util.Map;
-
 /**
  * The {@link Character} class represents the avatar of the player in the game, extending the {@link Sprite}.
  *
  * @apiNote The {@link Character} is a unique given its ability to exist in multiple {@link Area}s across gameplay; the
  *          {@link com.badlogic.gdx.Screen} implementation must inform {@link Character} of any {@link Area} changes;
- *          see {@link #switchCharacterContext(Area.Name)}.
+ *          see {@link #switchCharacterContext(Area)}.
  * @author ENG1 Team 23 (Cohort 3)
  */
 public class Character extends Sprite implements Drawable {
@@ -50,19 +46,21 @@ public class Character extends Sprite implements Drawable {
     private static final float MOVEMENT_VELOCITY_CORRECTION = (float) Math.sqrt(2);
 
     /**
-     * The file path of the {@link Character}
+     * The name of the {@link Character} sprite sheet in the texture atlas
      *
-     * @see #playerTexture
+     * @see #animator
+     * @see AreaLoader#getAnimation(String)
      */
-    private static final String TEXTURE_PATH = "character.png";
+    public static final String ANIMATION_NAME = "Player-Frames";
 
     /**
-     * The visual representation of the {@link Character}
+     * The visual representation of the {@link Character}: the walking cycle in the direction of travel, drawn from the
+     * shared texture atlas page, which is owned by the {@link AreaLoader}
      *
-     * @see #TEXTURE_PATH
+     * @see #ANIMATION_NAME
      * @see #render(SpriteBatch)
      */
-    private final Texture playerTexture;
+    private final Animator animator;
 
     /**
      * The transient velocity of the {@link Character}
@@ -73,20 +71,28 @@ public class Character extends Sprite implements Drawable {
     private final Vector2 velocity = new Vector2();
 
     /**
-     * The relationship between the {@link Area} and the {@link Body}, with standard area keys
+     * The sole {@link Body} of the {@link Character}, belonging to the current {@link Area} context
      *
-     * @see #activeBody
-     * @see #switchCharacterContext(Area.Name)
+     * @see #switchCharacterContext(Area)
      */
-    private final Map<Area.Name, Body> bodies = new EnumMap<>(Area.Name.class);
+    private Body activeBody;
 
     /**
-     * The {@link Body} reference belonging to the current {@link Area} context
+     * The position of the {@link #activeBody} prior to the most recent {@link Area#step()}, in in-game metres
      *
-     * @see #bodies
-     * @see #switchCharacterContext(Area.Name)
+     * @see #savePreviousPosition()
+     * @see #interpolate(float)
      */
-    private Body activeBody;
+    private final Vector2 previousPosition = new Vector2();
+
+    /**
+     * The position at which the {@link Character} is drawn, interpolated between the previous and current physics
+     * states, in in-game metres
+     *
+     * @see #interpolate(float)
+     * @see #render(SpriteBatch)
+     */
+    private final Vector2 renderPosition = new Vector2();
 
     /**
      * Moves the {@link Character} upwards on the Y-axis
@@ -135,6 +141,17 @@ public class Character extends Sprite implements Drawable {
         velocity.setZero();
     }
 
+    /**
+     * Advances the walking animation of the {@link Character} by the given time, in accordance with the velocity of
+     * its {@link Body}
+     *
+     * @param delta The time elapsed, in seconds; this should be the fixed timestep, once per {@link Area#step()}
+     * @see Animator#update(Vector2, float)
+     */
+    public void animate(float delta) {
+        animator.update(activeBody.getLinearVelocity(), delta);
+    }
+
     /**
      * Retrieves the {@link Character} position
      *
@@ -145,30 +162,75 @@ public class Character extends Sprite implements Drawable {
     }
 
     /**
-     * Sets the position of the {@link Character}
+     * Sets the position of the {@link Character}. The move is instantaneous, so no interpolation is performed from the
+     * former position.
      *
      * @param position The new position
      */
     public void setPosition(Vector2 position) {
         activeBody.setTransform(position, 0);
+        previousPosition.set(position);
+        renderPosition.set(position);
     }
 
     /**
-     * Switch the {@link Character} context to {@link Area} identified by the given index
+     * Records the current physics position as the previous physics state; this must be called immediately before every
+     * {@link Area#step()}
      *
-     * @param areaName The {@link Area.Name} of the new {@link Area}
+     * @see #interpolate(float)
      */
-    public void switchCharacterContext(Area.Name areaName) {
-        activeBody = bodies.get(areaName);
+    public void savePreviousPosition() {
+        previousPosition.set(activeBody.getPosition());
+    }
+
+    /**
+     * Updates the {@link #renderPosition} by linear interpolation between the previous and current physics states
+     *
+     * @param alpha The proportion of a {@link Area#TIME_STEP} elapsed since the current physics state, in [0, 1]
+     * @see #savePreviousPosition()
+     */
+    public void interpolate(float alpha) {
+        renderPosition.set(previousPosition).lerp(activeBody.getPosition(), alpha);
+    }
+
+    /**
+     * Retrieves the position at which the {@link Character} is drawn
+     *
+     * @return The interpolated position; this should not be modified by the caller
+     * @see #interpolate(float)
+     */
+    public Vector2 getRenderPosition() {
+        return renderPosition;
+    }
+
+    /**
+     * Switch the {@link Character} context to the given {@link Area}. If the new {@link Area} shares the
+     * {@link com.badlogic.gdx.physics.box2d.World} of the current {@link Body}, the {@link Body} is transferred into
+     * it; otherwise, the {@link Body} is destroyed, and a new one registered at the initial {@link Area}-local
+     * position. Either way, the {@link Character} holds exactly one {@link Body} at any time.
+     *
+     * @param area The new {@link Area}
+     * @apiNote This must not be called during an {@link Area#step()}
+     * @see Area#adoptCharacter(Body)
+     */
+    public void switchCharacterContext(Area area) {
+        if (activeBody != null && area.adoptCharacter(activeBody))
+            return;
+
+        if (activeBody != null)
+            activeBody.getWorld().destroyBody(activeBody);
+
+        activeBody = area.registerCharacter(WIDTH, HEIGHT);
     }
 
     /**
      * Releases all resources used by the {@link Character}
+     *
+     * @implNote The {@link #animator} texture is released by the {@link AreaLoader}, and the {@link #activeBody} by
+     *           its {@link com.badlogic.gdx.physics.box2d.World}, so there is nothing for the {@link Character} to release
      */
     @Override
-    public void dispose() {
-        playerTexture.dispose();
-    }
+    public void dispose() { }
 
     /**
      * Registers the current {@link Character} onto the given game instance {@link SpriteBatch}
@@ -177,20 +239,20 @@ public class Character extends Sprite implements Drawable {
      */
     @Override
     public void render(SpriteBatch batch) {
-        Vector2 position = getPosition();
-        batch.draw(playerTexture, position.x - WIDTH / 2, position.y - HEIGHT / 2, WIDTH, HEIGHT);
+        // The frames are drawn at the height of the body, and as wide as their aspect ratio demands
+        final float width = HEIGHT * animator.getAspectRatio();
+        batch.draw(animator.getFrame(), renderPosition.x - width / 2, renderPosition.y - HEIGHT / 2, width, HEIGHT);
     }
 
     /**
-     * Initialises a new {@link Character} body as a player-movable {@link Sprite}
+     * Initialises a new {@link Character} as a player-movable {@link Sprite}, spawned into the given {@link Area}
      *
-     * @param areas All {@link Area}s in which the {@link Character} should exist
+     * @param area The {@link Area} into which the {@link Character} should spawn
+     * @param animations The {@link AnimationSet} of the {@link Character} sprite sheet
+     * @see #ANIMATION_NAME
      */
-    public Character(Map<Area.Name, Area> areas, Area.Name defaultArea) {
-        for (Map.Entry<Area.Name, Area> area : areas.entrySet())
-            bodies.put(area.getKey(), area.getValue().registerCharacter(WIDTH, HEIGHT));
-
-        switchCharacterContext(defaultArea);
-        playerTexture = new Texture(TEXTURE_PATH);
+    public Character(Area area, AnimationSet animations) {
+        switchCharacterContext(area);
+        animator = new Animator(animations);
     }
 }
@@ -0,0 +1,585 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+
+/**
+ * The {@link ChunkStreamer} keeps resident only those parts of a {@link GameMap} near a focus, e.g. the
+ * {@link OrthographicCamera} or the {@link Character}, such that memory remains bounded however large the tile-map. The
+ * {@link StreamedTileLayer}s are divided into square chunks of {@link #CHUNK_SIZE} tiles; each chunk near the focus is
+ * read on a background thread, along with its greedily-meshed solid-tile collision geometry, and is then registered
+ * with the {@link Area} {@link com.badlogic.gdx.physics.box2d.World}, and compiled into {@link SpriteCache} geometry
+ * once it is in view. Beyond {@link #MAX_RESIDENT_CHUNKS} resident chunks, the least recently focused chunk is evicted.
+ *
+ * @implNote The chunks immediately under the focus are completed synchronously should they not have streamed in, such
+ *           that the {@link Character} can never walk through collision geometry which has yet to arrive; only the
+ *           margin surrounding the focus is read ahead in the background. Recency is measured in frames, rather than
+ *           {@link #focus(float, float, float, float)} calls, since several foci, e.g. the {@link Character} and the
+ *           camera, are brought into residency each frame; every chunk focused during the current frame is pinned.
+ *           Each resident chunk owns a pooled {@link SpriteCache}, sharing a single {@link ShaderProgram}, which is
+ *           cleared and reused upon eviction.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see StreamedTileLayer
+ * @see GameMap
+ */
+final class ChunkStreamer implements Disposable {
+    /**
+     * The side length of each square chunk, in tiles
+     */
+    static final int CHUNK_SIZE = 16;
+
+    /**
+     * The number of resident chunks beyond which chunks which have fallen out of focus are evicted
+     *
+     * @implNote This comfortably exceeds the chunks spanned by both the camera view and the read-ahead
+     *           {@link #MARGIN}. Should every resident chunk have been focused during the current frame, read-ahead
+     *           chunks are skipped, but chunks under a focus are still admitted beyond this limit, since their
+     *           collision geometry must never be missing.
+     */
+    static final int MAX_RESIDENT_CHUNKS = 64;
+
+    /**
+     * The number of chunks beyond the focus, in every direction, which are read ahead in the background
+     */
+    private static final int MARGIN = 1;
+
+    /**
+     * A resident, or streaming, square of {@link #CHUNK_SIZE} by {@link #CHUNK_SIZE} tiles
+     */
+    private static final class Chunk {
+        /**
+         * The horizontal chunk coordinate
+         */
+        final int column;
+
+        /**
+         * The vertical chunk coordinate
+         */
+        final int row;
+
+        /**
+         * The width of the chunk, in tiles, which is less than {@link #CHUNK_SIZE} at the right edge of the tile-map
+         */
+        final int width;
+
+        /**
+         * The height of the chunk, in tiles, which is less than {@link #CHUNK_SIZE} at the top edge of the tile-map
+         */
+        final int height;
+
+        /**
+         * The global tile identifiers of every layer, layer-major and then bottom row first, read by the background
+         * thread
+         */
+        int[] identifiers;
+
+        /**
+         * The solid-tile collision rectangles, in in-game metres, derived by the background thread; this is released
+         * once registered
+         */
+        Array<Rectangle> collision;
+
+        /**
+         * The outstanding background read of the chunk, or null once the chunk has been completed
+         *
+         * @see #complete(Chunk)
+         */
+        AsyncResult<Void> pending;
+
+        /**
+         * The static {@link Body} holding the {@link #collision} geometry, or null if the chunk has none
+         */
+        Body body;
+
+        /**
+         * The pooled {@link SpriteCache} holding the geometry of the chunk, or null if it has not been in view
+         */
+        SpriteCache cache;
+
+        /**
+         * The identifier of the chunk geometry within its {@link #cache}
+         */
+        int cacheId;
+
+        /**
+         * The {@link #tick} of the frame during which the chunk was last within focus
+         */
+        long lastFocused;
+
+        /**
+         * Instantiates a new {@link Chunk}, which has yet to be read
+         *
+         * @param column The horizontal chunk coordinate
+         * @param row The vertical chunk coordinate
+         * @param width The width of the chunk, in tiles
+         * @param height The height of the chunk, in tiles
+         */
+        Chunk(int column, int row, int width, int height) {
+            this.column = column;
+            this.row = row;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * The streamed tile layers, in rendering order
+     */
+    private final StreamedTileLayer[] layers;
+
+    /**
+     * The {@link Area} into whose {@link com.badlogic.gdx.physics.box2d.World} the collision geometry of each chunk is
+     * registered, or null if collision should not be streamed
+     */
+    private final Area owner;
+
+    /**
+     * The side length of each tile, in in-game metres
+     */
+    private final float tileSize;
+
+    /**
+     * The width of the tile-map, in chunks
+     */
+    private final int columns;
+
+    /**
+     * The height of the tile-map, in chunks
+     */
+    private final int rows;
+
+    /**
+     * Every resident, or streaming, {@link Chunk}, keyed by its packed coordinates
+     *
+     * @see #key(int, int)
+     */
+    private final LongMap<Chunk> chunks = new LongMap<>();
+
+    /**
+     * Every {@link Chunk} whose background read has yet to be completed
+     */
+    private final Array<Chunk> streaming = new Array<>(false, 16);
+
+    /**
+     * The single background thread upon which chunks are read and meshed
+     */
+    private final AsyncExecutor executor = new AsyncExecutor(1, "ChunkStreamer");
+
+    /**
+     * The {@link SpriteCache}s released by evicted chunks, awaiting reuse
+     */
+    private final Array<SpriteCache> freeCaches = new Array<>();
+
+    /**
+     * The scratch {@link TiledMapTileLayer.Cell} through which each tile is decoded whilst compiling geometry
+     */
+    private final TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+
+    /**
+     * The {@link ShaderProgram} shared by every pooled {@link SpriteCache}, created upon the first
+     * {@link #prepareView(OrthographicCamera)}
+     */
+    private ShaderProgram shader;
+
+    /**
+     * The combined projection and view {@link Matrix4} of the camera, as of the last
+     * {@link #prepareView(OrthographicCamera)}
+     */
+    private Matrix4 projection;
+
+    /**
+     * The number of frames begun thus far, against which chunk recency is measured
+     *
+     * @see #beginFrame()
+     */
+    private long tick = 0;
+
+    /**
+     * The least horizontal chunk coordinate in the camera view
+     */
+    private int viewMinColumn = 0;
+
+    /**
+     * The greatest horizontal chunk coordinate in the camera view
+     */
+    private int viewMaxColumn = -1;
+
+    /**
+     * The least vertical chunk coordinate in the camera view
+     */
+    private int viewMinRow = 0;
+
+    /**
+     * The greatest vertical chunk coordinate in the camera view
+     */
+    private int viewMaxRow = -1;
+
+    /**
+     * Packs the given chunk coordinates into a single {@link LongMap} key
+     *
+     * @param column The horizontal chunk coordinate
+     * @param row The vertical chunk coordinate
+     * @return The packed key
+     */
+    private static long key(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Determines the chunk coordinate containing the given in-game metre coordinate
+     *
+     * @param coordinate The coordinate along either axis, in in-game metres
+     * @return The corresponding chunk coordinate along the same axis, which may lie outside the tile-map
+     */
+    private int chunkOf(float coordinate) {
+        return MathUtils.floor(coordinate / (CHUNK_SIZE * tileSize));
+    }
+
+    /**
+     * Reads the identifiers and meshes the collision geometry of the given {@link Chunk}
+     *
+     * @param chunk The {@link Chunk} to read
+     * @implNote This runs on the background thread, and touches nothing but the {@link Chunk} and the read-only
+     *           {@link #layers}
+     */
+    private void read(Chunk chunk) {
+        final int area = chunk.width * chunk.height;
+        final int[] identifiers = new int[layers.length * area];
+        final boolean[] solid = new boolean[area];
+        final int originColumn = chunk.column * CHUNK_SIZE;
+        final int originRow = chunk.row * CHUNK_SIZE;
+
+        for (int layer = 0; layer < layers.length; layer++)
+            for (int row = 0; row < chunk.height; row++)
+                for (int column = 0; column < chunk.width; column++) {
+                    final int identifier = layers[layer].getIdentifier(originColumn + column, originRow + row);
+                    final TiledMapTile tile = layers[layer].getTile(identifier);
+
+                    identifiers[layer * area + row * chunk.width + column] = identifier;
+
+                    if (tile != null && tile.getProperties().get(GameMap.SOLID_PROPERTY, false, Boolean.class))
+                        solid[row * chunk.width + column] = true;
+                }
+
+        final Array<Rectangle> collision = CollisionGeometry.greedyMesh(solid, chunk.width, chunk.height, tileSize);
+        for (Rectangle rectangle : collision)
+            rectangle.setPosition(rectangle.x + originColumn * tileSize, rectangle.y + originRow * tileSize);
+
+        chunk.identifiers = identifiers;
+        chunk.collision = collision;
+    }
+
+    /**
+     * Completes the background read of the given {@link Chunk}, waiting for it if required, and registers its
+     * collision geometry with the {@link #owner}
+     *
+     * @param chunk The streaming {@link Chunk}
+     */
+    private void complete(Chunk chunk) {
+        // Waiting upon the result publishes the fields written by the background thread
+        chunk.pending.get();
+        chunk.pending = null;
+        streaming.removeValue(chunk, true);
+
+        if (owner != null && !chunk.collision.isEmpty())
+            chunk.body = owner.registerStaticGeometry(chunk.collision);
+
+        chunk.collision = null;
+    }
+
+    /**
+     * Completes the background read of every {@link Chunk} which has finished streaming in, without waiting
+     */
+    private void completeStreamed() {
+        for (int i = streaming.size - 1; i >= 0; i--)
+            if (streaming.get(i).pending.isDone())
+                complete(streaming.get(i));
+    }
+
+    /**
+     * Releases the collision geometry and {@link SpriteCache} of the given resident {@link Chunk}
+     *
+     * @param chunk The {@link Chunk} to release, which must have been completed
+     */
+    private void release(Chunk chunk) {
+        if (chunk.body != null)
+            owner.unregisterStaticGeometry(chunk.body);
+
+        if (chunk.cache != null)
+            freeCaches.add(chunk.cache);
+
+        chunk.body = null;
+        chunk.cache = null;
+        chunk.identifiers = null;
+    }
+
+    /**
+     * Evicts the least recently focused completed {@link Chunk}, provided it has not been focused during the current
+     * frame
+     *
+     * @return Was a {@link Chunk} evicted?
+     */
+    private boolean evictLeastRecentlyFocused() {
+        Chunk victim = null;
+
+        for (Chunk chunk : chunks.values())
+            if (chunk.pending == null && chunk.lastFocused < tick
+                && (victim == null || chunk.lastFocused < victim.lastFocused))
+                victim = chunk;
+
+        if (victim == null)
+            return false;
+
+        release(victim);
+        chunks.remove(key(victim.column, victim.row));
+        return true;
+    }
+
+    /**
+     * Retrieves the given {@link Chunk}, queueing it for a background read if it is not already resident or streaming
+     *
+     * @param column The horizontal chunk coordinate, within the tile-map
+     * @param row The vertical chunk coordinate, within the tile-map
+     * @param required Is the {@link Chunk} under a focus, rather than merely read ahead? A required {@link Chunk} is
+     *                 admitted even if every resident {@link Chunk} has been focused during the current frame.
+     * @return The {@link Chunk}, or null if it is not required, and every resident {@link Chunk} has been focused
+     *         during the current frame
+     */
+    private Chunk request(int column, int row, boolean required) {
+        Chunk chunk = chunks.get(key(column, row));
+
+        if (chunk == null) {
+            if (chunks.size >= MAX_RESIDENT_CHUNKS && !evictLeastRecentlyFocused() && !required)
+                return null;
+
+            final Chunk created = new Chunk(column, row,
+                Math.min(CHUNK_SIZE, layers[0].getWidth() - column * CHUNK_SIZE),
+                Math.min(CHUNK_SIZE, layers[0].getHeight() - row * CHUNK_SIZE));
+
+            created.pending = executor.submit(() -> {
+                read(created);
+                return null;
+            });
+
+            chunks.put(key(column, row), created);
+            streaming.add(created);
+            chunk = created;
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Begins a new frame, such that the chunks focused during the previous frame may be evicted once they fall out of
+     * focus
+     *
+     * @apiNote This should be called once per frame, before any {@link #focus(float, float, float, float)}
+     */
+    void beginFrame() {
+        tick++;
+    }
+
+    /**
+     * Brings every {@link Chunk} overlapping the given focus rectangle, and a {@link #MARGIN} about it, into residency.
+     * Those overlapping the rectangle itself are completed before returning; the margin streams in the background.
+     *
+     * @param x The horizontal centre of the focus, in in-game metres
+     * @param y The vertical centre of the focus, in in-game metres
+     * @param halfWidth Half the width of the focus, in in-game metres
+     * @param halfHeight Half the height of the focus, in in-game metres
+     * @apiNote This must not be called during a {@link com.badlogic.gdx.physics.box2d.World} step
+     */
+    void focus(float x, float y, float halfWidth, float halfHeight) {
+        completeStreamed();
+
+        final int minColumn = chunkOf(x - halfWidth);
+        final int maxColumn = chunkOf(x + halfWidth);
+        final int minRow = chunkOf(y - halfHeight);
+        final int maxRow = chunkOf(y + halfHeight);
+
+        final int lastColumn = Math.min(columns - 1, maxColumn + MARGIN);
+        final int lastRow = Math.min(rows - 1, maxRow + MARGIN);
+
+        for (int column = Math.max(0, minColumn - MARGIN); column <= lastColumn; column++)
+            for (int row = Math.max(0, minRow - MARGIN); row <= lastRow; row++) {
+                final boolean required = column >= minColumn && column <= maxColumn && row >= minRow && row <= maxRow;
+                final Chunk chunk = request(column, row, required);
+                if (chunk == null)
+                    continue;
+
+                chunk.lastFocused = tick;
+                if (required && chunk.pending != null)
+                    complete(chunk);
+            }
+    }
+
+    /**
+     * Compiles the tiles of the given completed {@link Chunk} into a pooled {@link SpriteCache}
+     *
+     * @param chunk The {@link Chunk} to compile
+     * @see GameMap#cacheTile(SpriteCache, TiledMapTileLayer.Cell, float, float)
+     */
+    private void compile(Chunk chunk) {
+        final int area = chunk.width * chunk.height;
+        final SpriteCache cache = freeCaches.isEmpty()
+            ? new SpriteCache(CHUNK_SIZE * CHUNK_SIZE * layers.length, shader,
+                CHUNK_SIZE * CHUNK_SIZE * layers.length <= GameMap.MAX_INDEXED_SPRITES)
+            : freeCaches.pop();
+
+        cache.clear();
+        cache.beginCache();
+
+        for (int layer = 0; layer < layers.length; layer++) {
+            if (!layers[layer].isVisible())
+                continue;
+
+            final float tileWidth = layers[layer].getTileWidth() * GameMap.UNIT_SCALE;
+            final float tileHeight = layers[layer].getTileHeight() * GameMap.UNIT_SCALE;
+            final float originX = chunk.column * CHUNK_SIZE * tileWidth + layers[layer].getRenderOffsetX()
+                * GameMap.UNIT_SCALE;
+            final float originY = chunk.row * CHUNK_SIZE * tileHeight - layers[layer].getRenderOffsetY()
+                * GameMap.UNIT_SCALE;
+
+            cache.setColor(1, 1, 1, layers[layer].getOpacity());
+
+            for (int row = 0; row < chunk.height; row++)
+                for (int column = 0; column < chunk.width; column++) {
+                    final int identifier = chunk.identifiers[layer * area + row * chunk.width + column];
+                    final TiledMapTile tile = layers[layer].getTile(identifier);
+                    if (tile == null)
+                        continue;
+
+                    CompiledMapLoader.setFlips(cell, identifier).setTile(tile);
+                    GameMap.cacheTile(cache, cell, originX + column * tileWidth, originY + row * tileHeight);
+                }
+        }
+
+        chunk.cache = cache;
+        chunk.cacheId = cache.endCache();
+    }
+
+    /**
+     * Records the view of the given camera, and compiles the geometry of every completed {@link Chunk} in view which
+     * has not yet been compiled
+     *
+     * @param camera The {@link OrthographicCamera} through which the tile-map is rendered
+     * @apiNote The view should first have been brought into focus through {@link #focus(float, float, float, float)}
+     */
+    void prepareView(OrthographicCamera camera) {
+        if (shader == null)
+            shader = SpriteCache.createDefaultShader();
+
+        final float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        final float halfHeight = camera.viewportHeight * camera.zoom / 2;
+
+        projection = camera.combined;
+        viewMinColumn = Math.max(0, chunkOf(camera.position.x - halfWidth));
+        viewMaxColumn = Math.min(columns - 1, chunkOf(camera.position.x + halfWidth));
+        viewMinRow = Math.max(0, chunkOf(camera.position.y - halfHeight));
+        viewMaxRow = Math.min(rows - 1, chunkOf(camera.position.y + halfHeight));
+
+        for (int column = viewMinColumn; column <= viewMaxColumn; column++)
+            for (int row = viewMinRow; row <= viewMaxRow; row++) {
+                final Chunk chunk = chunks.get(key(column, row));
+                if (chunk != null && chunk.pending == null && chunk.cache == null)
+                    compile(chunk);
+            }
+    }
+
+    /**
+     * Renders the compiled geometry of every {@link Chunk} in view
+     *
+     * @apiNote {@link #prepareView(OrthographicCamera)} must have been invoked at least once beforehand
+     */
+    void render() {
+        // The cache does not manage blending itself; upper layers may be partially transparent
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        for (int column = viewMinColumn; column <= viewMaxColumn; column++)
+            for (int row = viewMinRow; row <= viewMaxRow; row++) {
+                final Chunk chunk = chunks.get(key(column, row));
+                if (chunk == null || chunk.cache == null)
+                    continue;
+
+                chunk.cache.setProjectionMatrix(projection);
+                chunk.cache.begin();
+                chunk.cache.draw(chunk.cacheId);
+                chunk.cache.end();
+            }
+    }
+
+    /**
+     * Is the {@link Chunk} containing the given position resident and completed, such that its collision geometry has
+     * been registered?
+     *
+     * @param x The horizontal position, in in-game metres
+     * @param y The vertical position, in in-game metres
+     * @return Has the {@link Chunk} been completed?
+     */
+    boolean isCompleted(float x, float y) {
+        final Chunk chunk = chunks.get(key(chunkOf(x), chunkOf(y)));
+        return chunk != null && chunk.pending == null;
+    }
+
+    /**
+     * Retrieves the number of resident, or streaming, chunks
+     *
+     * @return The number of chunks, which only exceeds {@link #MAX_RESIDENT_CHUNKS} whilst the foci of the current
+     *         frame span more chunks than that
+     */
+    int getResidentCount() {
+        return chunks.size;
+    }
+
+    /**
+     * Releases the background thread and all GPU resources used by the {@link ChunkStreamer}
+     *
+     * @implNote The collision geometry of every resident chunk remains registered with the {@link #owner}, which
+     *           releases it alongside its other static bodies
+     */
+    @Override
+    public void dispose() {
+        executor.dispose();
+
+        for (Chunk chunk : chunks.values())
+            if (chunk.cache != null)
+                chunk.cache.dispose();
+
+        for (SpriteCache cache : freeCaches)
+            cache.dispose();
+
+        if (shader != null)
+            shader.dispose();
+    }
+
+    /**
+     * Instantiates a new {@link ChunkStreamer} over the given layers, with no chunks yet resident
+     *
+     * @param layers The streamed tile layers, in rendering order, which must share their dimensions
+     * @param owner The {@link Area} into whose {@link com.badlogic.gdx.physics.box2d.World} the collision geometry of
+     *              each chunk is registered, or null if collision should not be streamed
+     * @param tileSize The side length of each tile, in in-game metres
+     */
+    ChunkStreamer(StreamedTileLayer[] layers, Area owner, float tileSize) {
+        this.layers = layers;
+        this.owner = owner;
+        this.tileSize = tileSize;
+        columns = (layers[0].getWidth() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        rows = (layers[0].getHeight() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+}
@@ -0,0 +1,169 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The {@link CollisionGeometry} optimises the static collision rectangles of an {@link Area} before they are registered
+ * in its {@link com.badlogic.gdx.physics.box2d.World}, such that the Box2D broad-phase holds as few fixtures as
+ * possible.
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Area
+ */
+final class CollisionGeometry {
+    /**
+     * The tolerance, in in-game metres, within which the edges of two rectangles are deemed to coincide; this absorbs
+     * the imprecision of hand-drawn TMX objects, and is well below a single pixel
+     */
+    private static final float EPSILON = 1e-3f;
+
+    /**
+     * Does the first {@link Rectangle} wholly contain the second, within the {@link #EPSILON} tolerance?
+     *
+     * @param outer The containing candidate
+     * @param inner The contained candidate
+     * @return Is the inner {@link Rectangle} redundant given the outer?
+     */
+    private static boolean contains(Rectangle outer, Rectangle inner) {
+        return inner.x >= outer.x - EPSILON && inner.y >= outer.y - EPSILON
+            && inner.x + inner.width <= outer.x + outer.width + EPSILON
+            && inner.y + inner.height <= outer.y + outer.height + EPSILON;
+    }
+
+    /**
+     * Grows the first {@link Rectangle} to cover the second, if and only if their union is itself a rectangle; that is,
+     * if they share a pair of opposite edges, and overlap or abut along the other axis
+     *
+     * @param target The {@link Rectangle} to grow
+     * @param other The {@link Rectangle} to absorb
+     * @return Was the second {@link Rectangle} absorbed into the first?
+     */
+    private static boolean absorb(Rectangle target, Rectangle other) {
+        final boolean sameRows = Math.abs(target.y - other.y) <= EPSILON
+            && Math.abs(target.height - other.height) <= EPSILON;
+        final boolean sameColumns = Math.abs(target.x - other.x) <= EPSILON
+            && Math.abs(target.width - other.width) <= EPSILON;
+
+        if (sameRows && other.x <= target.x + target.width + EPSILON && target.x <= other.x + other.width + EPSILON) {
+            final float right = Math.max(target.x + target.width, other.x + other.width);
+            target.x = Math.min(target.x, other.x);
+            target.width = right - target.x;
+            return true;
+        }
+
+        if (sameColumns && other.y <= target.y + target.height + EPSILON
+            && target.y <= other.y + other.height + EPSILON) {
+            final float top = Math.max(target.y + target.height, other.y + other.height);
+            target.y = Math.min(target.y, other.y);
+            target.height = top - target.y;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Merges the given rectangles into an equivalent, and ordinarily smaller, set covering exactly the same region:
+     * degenerate and wholly-contained rectangles are discarded, and any pair whose union is a rectangle is replaced by
+     * that union, until no further merges are possible
+     *
+     * @param rectangles The rectangles to merge, which are not modified
+     * @return A new {@link Array} of merged rectangles
+     * @implNote This is quadratic in the number of rectangles per pass, which is negligible for hand-drawn border
+     *           layers, and is performed only once, upon the creation of each {@link Area}
+     */
+    static Array<Rectangle> merge(Array<Rectangle> rectangles) {
+        final Array<Rectangle> merged = new Array<>(rectangles.size);
+
+        for (Rectangle rectangle : rectangles)
+            if (rectangle.width > 0 && rectangle.height > 0)
+                merged.add(new Rectangle(rectangle));
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+
+            for (int i = 0; i < merged.size; i++)
+                for (int j = merged.size - 1; j >= 0; j--) {
+                    if (i == j)
+                        continue;
+
+                    if (contains(merged.get(i), merged.get(j)) || absorb(merged.get(i), merged.get(j))) {
+                        merged.removeIndex(j);
+                        if (j < i)
+                            i--;
+
+                        changed = true;
+                    }
+                }
+        }
+
+        return merged;
+    }
+
+    /**
+     * Covers the solid cells of the given grid with a small set of non-overlapping rectangles, by greedy meshing: from
+     * each uncovered solid cell in row-major order, a rectangle is grown as far as possible along the row, and then
+     * as far as possible along the column while every cell of the row span remains solid and uncovered
+     *
+     * @param solid The row-major grid of solid cells, whose first row is the lowest
+     * @param columns The number of cells per row
+     * @param rows The number of rows
+     * @param cellSize The side length of each square cell, in in-game metres
+     * @return A new {@link Array} of rectangles exactly covering the solid cells, in in-game metres
+     */
+    static Array<Rectangle> greedyMesh(boolean[] solid, int columns, int rows, float cellSize) {
+        final Array<Rectangle> rectangles = new Array<>();
+        final boolean[] covered = new boolean[solid.length];
+
+        for (int row = 0; row < rows; row++)
+            for (int column = 0; column < columns; column++) {
+                if (!solid[row * columns + column] || covered[row * columns + column])
+                    continue;
+
+                // Grow along the row
+                int spanWidth = 1;
+                while (column + spanWidth < columns && solid[row * columns + column + spanWidth]
+                    && !covered[row * columns + column + spanWidth])
+                    spanWidth++;
+
+                // Grow along the column, whilst the whole row span remains available
+                int spanHeight = 1;
+                while (row + spanHeight < rows
+                    && isAvailable(solid, covered, (row + spanHeight) * columns + column, spanWidth))
+                    spanHeight++;
+
+                for (int y = row; y < row + spanHeight; y++)
+                    for (int x = column; x < column + spanWidth; x++)
+                        covered[y * columns + x] = true;
+
+                rectangles.add(new Rectangle(column * cellSize, row * cellSize, spanWidth * cellSize,
+                    spanHeight * cellSize));
+            }
+
+        return rectangles;
+    }
+
+    /**
+     * Is every cell in the given run solid, and not yet covered?
+     *
+     * @param solid The row-major grid of solid cells
+     * @param covered The row-major grid of covered cells
+     * @param start The index of the first cell of the run
+     * @param length The number of cells in the run
+     * @return May the run be covered by a growing rectangle?
+     */
+    private static boolean isAvailable(boolean[] solid, boolean[] covered, int start, int length) {
+        for (int i = start; i < start + length; i++)
+            if (!solid[i] || covered[i])
+                return false;
+
+        return true;
+    }
+
+    /**
+     * The {@link CollisionGeometry} is a static utility, and should not be instantiated
+     */
+    private CollisionGeometry() { }
+}
@@ -0,0 +1,536 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@link CompiledMapLoader} loads a {@link TiledMap} from the compact binary form into which each TMX tile-map is
+ * compiled at build-time by the {@code compileMaps} Gradle task. No XML is parsed, and no tile payload decompressed:
+ * the file is memory-mapped, and the tile arrays are read directly from the mapping.
+ *
+ * <p>The format, version {@value #VERSION}, is big-endian throughout. A string is an unsigned short byte-length
+ * followed by that many bytes of UTF-8.</p>
+ * <pre>
+ * int     magic, 0x48484D50 ("HHMP")
+ * short   version
+ * int     width, height                      (in tiles)
+ * int     tileWidth, tileHeight              (in pixels)
+ * short   tileset count, then per tileset:
+ *         string name; int firstGid; string image path (relative to the assets directory);
+ *         int tileWidth, tileHeight, spacing, margin; int offsetX, offsetY (y-up);
+ *         short count of tiles bearing properties, then per tile: int local identifier; properties
+ * short   layer count, then per layer, in TMX document order:
+ *         byte kind ({@value #TILE_LAYER} = tile, {@value #OBJECT_LAYER} = object);
+ *         string name; boolean visible; float opacity, offsetX, offsetY;
+ *         properties
+ *         tile layer:   int[width * height] global tile identifiers, including flip flags, bottom row first
+ *         object layer: int object count, then per rectangle: string name; float x, y, width, height (y-up pixels);
+ *                       properties
+ * int     collision rectangle count, then per rectangle: float x, y, width, height (y-up pixels)
+ * properties:
+ *         short property count, then per property: string key; byte type; value
+ *             (0 = string, 1 = boolean, 2 = int, 3 = float)
+ * </pre>
+ *
+ * @implNote Only orthogonal tile-maps of tile and rectangle object layers, without animated tiles, are supported;
+ *           the compiler rejects any other content, so the TMX and binary forms of a tile-map always describe the same
+ *           {@link TiledMap}, and a compiled form older than its TMX tile-map is never loaded. The tile layers of a
+ *           tile-map exceeding {@link #STREAMING_THRESHOLD} tiles are not read at all, but left in the mapping as
+ *           {@link StreamedTileLayer}s, to be streamed a chunk at a time by the {@link ChunkStreamer}. The static
+ *           collision geometry of the borders and solid tiles is merged by the compiler, exactly as
+ *           {@link CollisionGeometry} would merge it upon loading, and is recorded under {@link #COLLISION_PROPERTY};
+ *           the solid tiles of a streamed tile-map are excluded, being meshed a chunk at a time.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see AreaLoader
+ * @see com.badlogic.gdx.maps.tiled.TmxMapLoader
+ */
+final class CompiledMapLoader extends AsynchronousAssetLoader<TiledMap, AssetLoaderParameters<TiledMap>> {
+    /**
+     * The file extension of every compiled tile-map
+     */
+    static final String SUFFIX = ".hhmap";
+
+    /**
+     * The magic number with which every compiled tile-map begins: the ASCII characters {@code HHMP}
+     */
+    private static final int MAGIC = 0x48484D50;
+
+    /**
+     * The version of the format read by the {@link CompiledMapLoader}, which must match that written by the
+     * {@code compileMaps} Gradle task
+     */
+    private static final short VERSION = 4;
+
+    /**
+     * The name of the {@link TiledMap} property under which the precompiled collision geometry is recorded, being an
+     * {@link Array} of {@link Rectangle}s in y-up pixels
+     *
+     * @see GameMap#getCompiledCollision()
+     */
+    static final String COLLISION_PROPERTY = "collision";
+
+    /**
+     * The layer kind denoting a {@link TiledMapTileLayer}
+     */
+    private static final byte TILE_LAYER = 0;
+
+    /**
+     * The layer kind denoting a {@link MapLayer} of {@link RectangleMapObject}s
+     */
+    private static final byte OBJECT_LAYER = 1;
+
+    /**
+     * The global tile identifier bit denoting a horizontally-flipped tile
+     */
+    private static final int FLIP_HORIZONTALLY = 0x80000000;
+
+    /**
+     * The global tile identifier bit denoting a vertically-flipped tile
+     */
+    private static final int FLIP_VERTICALLY = 0x40000000;
+
+    /**
+     * The global tile identifier bit denoting a diagonally-flipped tile
+     */
+    private static final int FLIP_DIAGONALLY = 0x20000000;
+
+    /**
+     * The mask clearing every flip bit from a global tile identifier
+     */
+    static final int FLIP_MASK = ~(FLIP_HORIZONTALLY | FLIP_VERTICALLY | FLIP_DIAGONALLY);
+
+    /**
+     * The number of tiles per layer beyond which the tile layers of a tile-map are streamed, rather than read in full
+     *
+     * @see StreamedTileLayer
+     */
+    private static final int STREAMING_THRESHOLD = 128 * 128;
+
+    /**
+     * The memory-mapped contents of the tile-map currently being loaded, positioned after its magic number and version
+     *
+     * @implNote As with the {@link com.badlogic.gdx.maps.tiled.TmxMapLoader}, the {@link AssetManager} loads one asset
+     *           per loader at a time, so this may be held between {@link #getDependencies} and {@link #loadSync}
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Creates the {@link Texture} parameters of a tileset image, matching those used by the
+     * {@link com.badlogic.gdx.maps.tiled.TmxMapLoader}
+     *
+     * @return The parameters, whose loaded callback records a
+     *         {@link bytemusketeers.heslingtonhustle.diagnostics.TextureLoadEvent}
+     * @see AreaLoader#createTextureLoadCallback()
+     */
+    private static TextureLoader.TextureParameter createTextureParameter() {
+        final TextureLoader.TextureParameter parameter = new TextureLoader.TextureParameter();
+        parameter.minFilter = Texture.TextureFilter.Nearest;
+        parameter.magFilter = Texture.TextureFilter.Nearest;
+        parameter.loadedCallback = AreaLoader.createTextureLoadCallback();
+        return parameter;
+    }
+
+    /**
+     * Derives the path of the compiled form of the given TMX tile-map
+     *
+     * @param tmxPath The path of the TMX tile-map
+     * @return The path at which the {@code compileMaps} Gradle task writes its compiled form
+     */
+    static String getCompiledPath(String tmxPath) {
+        return tmxPath.substring(0, tmxPath.lastIndexOf('.')) + SUFFIX;
+    }
+
+    /**
+     * Is the given compiled tile-map older than the TMX tile-map from which it was compiled, such that it may no longer
+     * describe the same {@link TiledMap}?
+     *
+     * @param compiled The compiled tile-map
+     * @param tmx The TMX tile-map
+     * @return Was the TMX tile-map modified after the compiled tile-map was written?
+     * @implNote Files packaged inside an archive report no modification time, and are never deemed stale, since the
+     *           build compiles every tile-map before packaging it
+     */
+    static boolean isStale(FileHandle compiled, FileHandle tmx) {
+        final long compiledTime = compiled.lastModified();
+        final long tmxTime = tmx.lastModified();
+
+        return compiledTime != 0 && tmxTime != 0 && tmxTime > compiledTime;
+    }
+
+    /**
+     * Maps the given file into memory, or reads it wholly if it is not backed by the file-system, e.g. when packaged
+     * inside an archive
+     *
+     * @param file The file to read
+     * @return A read-only view of the file contents
+     */
+    private static ByteBuffer map(FileHandle file) {
+        if (file.type() != Files.FileType.Classpath && file.file().exists())
+            try (RandomAccessFile input = new RandomAccessFile(file.file(), "r");
+                 FileChannel channel = input.getChannel()) {
+                // The mapping remains valid after the channel is closed
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException ioe) {
+                throw new GdxRuntimeException("Could not map compiled tile-map: " + file, ioe);
+            }
+
+        return ByteBuffer.wrap(file.readBytes());
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string from the current position of the {@link #buffer}
+     *
+     * @return The string read
+     */
+    private String readString() {
+        final byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the properties of a layer or tile from the current position of the {@link #buffer}
+     *
+     * @param properties The {@link MapProperties} into which the properties are read
+     */
+    private void readProperties(MapProperties properties) {
+        final int count = buffer.getShort();
+
+        for (int i = 0; i < count; i++) {
+            final String key = readString();
+
+            switch (buffer.get()) {
+                case 1:  properties.put(key, buffer.get() != 0); break;
+                case 2:  properties.put(key, buffer.getInt());   break;
+                case 3:  properties.put(key, buffer.getFloat()); break;
+                default: properties.put(key, readString());      break;
+            }
+        }
+    }
+
+    /**
+     * Advances the {@link #buffer} past the properties of a layer or tile, without reading them
+     *
+     * @see #readProperties(MapProperties)
+     */
+    private void skipProperties() {
+        final int count = buffer.getShort();
+
+        for (int i = 0; i < count; i++) {
+            readString();
+
+            switch (buffer.get()) {
+                case 1:  buffer.get();      break;
+                case 2:  buffer.getInt();   break;
+                case 3:  buffer.getFloat(); break;
+                default: readString();      break;
+            }
+        }
+    }
+
+    /**
+     * Creates a view over the given number of global tile identifiers at the current position of the {@link #buffer},
+     * and advances the {@link #buffer} past them
+     *
+     * @param count The number of identifiers
+     * @return The view over the mapped identifiers, rather than a copy
+     */
+    private IntBuffer viewTiles(int count) {
+        final IntBuffer identifiers = buffer.asIntBuffer();
+        identifiers.limit(count);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+
+        return identifiers;
+    }
+
+    /**
+     * Reads a tile layer from the current position of the {@link #buffer}
+     *
+     * @param layer The {@link TiledMapTileLayer} into which the tiles are read
+     * @param tileSets The tilesets of the {@link TiledMap}, from which each tile is resolved
+     */
+    private void readTiles(TiledMapTileLayer layer, TiledMapTileSets tileSets) {
+        final int width = layer.getWidth();
+        final int height = layer.getHeight();
+        final IntBuffer identifiers = viewTiles(width * height);
+
+        for (int row = 0; row < height; row++)
+            for (int column = 0; column < width; column++) {
+                final int identifier = identifiers.get(row * width + column);
+                final TiledMapTile tile = tileSets.getTile(identifier & FLIP_MASK);
+
+                if (tile != null) {
+                    final TiledMapTileLayer.Cell cell = setFlips(new TiledMapTileLayer.Cell(), identifier);
+                    cell.setTile(tile);
+                    layer.setCell(column, row, cell);
+                }
+            }
+    }
+
+    /**
+     * Reads a rectangle object layer from the current position of the {@link #buffer}
+     *
+     * @param layer The {@link MapLayer} into which the objects are read
+     */
+    private void readObjects(MapLayer layer) {
+        final int count = buffer.getInt();
+
+        for (int i = 0; i < count; i++) {
+            final String name = readString();
+            final RectangleMapObject object = new RectangleMapObject(buffer.getFloat(), buffer.getFloat(),
+                buffer.getFloat(), buffer.getFloat());
+
+            object.setName(name);
+            readProperties(object.getProperties());
+            layer.getObjects().add(object);
+        }
+    }
+
+    /**
+     * Reads the merged static collision geometry from the current position of the {@link #buffer}
+     *
+     * @return The collision rectangles, in y-up pixels
+     */
+    private Array<Rectangle> readCollision() {
+        final int count = buffer.getInt();
+        final Array<Rectangle> collision = new Array<>(count);
+
+        for (int i = 0; i < count; i++)
+            collision.add(new Rectangle(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat()));
+
+        return collision;
+    }
+
+    /**
+     * Applies the flip flags of the given global tile identifier to a {@link TiledMapTileLayer.Cell}, as the
+     * {@link com.badlogic.gdx.maps.tiled.TmxMapLoader} would
+     *
+     * @param cell The {@link TiledMapTileLayer.Cell} to modify, whose prior flips and rotation are discarded
+     * @param identifier The global tile identifier, including its flip flags
+     * @return The given {@link TiledMapTileLayer.Cell}, for convenience
+     */
+    static TiledMapTileLayer.Cell setFlips(TiledMapTileLayer.Cell cell, int identifier) {
+        final boolean flipHorizontally = (identifier & FLIP_HORIZONTALLY) != 0;
+        final boolean flipVertically = (identifier & FLIP_VERTICALLY) != 0;
+
+        cell.setFlipHorizontally(false);
+        cell.setFlipVertically(false);
+        cell.setRotation(TiledMapTileLayer.Cell.ROTATE_0);
+
+        if ((identifier & FLIP_DIAGONALLY) == 0) {
+            cell.setFlipHorizontally(flipHorizontally);
+            cell.setFlipVertically(flipVertically);
+        } else if (flipHorizontally && flipVertically) {
+            cell.setFlipHorizontally(true);
+            cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+        } else if (flipHorizontally) {
+            cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+        } else if (flipVertically) {
+            cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+        } else {
+            cell.setFlipVertically(true);
+            cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+        }
+
+        return cell;
+    }
+
+    /**
+     * Maps the compiled tile-map into memory, validates its header, and declares every tileset image as a dependency
+     *
+     * @param fileName The path of the compiled tile-map
+     * @param file The resolved compiled tile-map
+     * @param parameter The parameters of the load, which begin its
+     *                  {@link bytemusketeers.heslingtonhustle.diagnostics.MapLoadEvent} if they are
+     *                  {@link MapLoadParameters}
+     * @return The {@link Texture} of every tileset
+     */
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file,
+                                                  AssetLoaderParameters<TiledMap> parameter) {
+        MapLoadParameters.begin(parameter);
+        buffer = map(file);
+
+        if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION)
+            throw new GdxRuntimeException("Not a version " + VERSION + " compiled tile-map: " + fileName);
+
+        final Array<AssetDescriptor> dependencies = new Array<>();
+
+        // Skip the map dimensions to reach the tilesets, then rewind such that they may be read again upon creation
+        buffer.mark();
+        buffer.position(buffer.position() + 4 * Integer.BYTES);
+        final int tileSetCount = buffer.getShort();
+
+        for (int i = 0; i < tileSetCount; i++) {
+            readString();
+            buffer.getInt();
+            dependencies.add(new AssetDescriptor<>(readString(), Texture.class, createTextureParameter()));
+            buffer.position(buffer.position() + 6 * Integer.BYTES);
+
+            final int tileCount = buffer.getShort();
+            for (int j = 0; j < tileCount; j++) {
+                buffer.getInt();
+                skipProperties();
+            }
+        }
+
+        buffer.reset();
+        return dependencies;
+    }
+
+    /**
+     * Performs no work; the {@link TiledMap} must be created on the rendering thread, once its tileset
+     * {@link Texture}s are available
+     *
+     * @param manager The owning {@link AssetManager}
+     * @param fileName The path of the compiled tile-map
+     * @param file The resolved compiled tile-map
+     * @param parameter Unused
+     */
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file,
+                          AssetLoaderParameters<TiledMap> parameter) { }
+
+    /**
+     * Creates the {@link TiledMap} from the mapped contents of the compiled tile-map
+     *
+     * @param manager The owning {@link AssetManager}, from which the tileset {@link Texture}s are retrieved
+     * @param fileName The path of the compiled tile-map
+     * @param file The resolved compiled tile-map
+     * @param parameter Unused
+     * @return The loaded {@link TiledMap}, whose {@link Texture}s remain owned by the {@link AssetManager}
+     */
+    @Override
+    public TiledMap loadSync(AssetManager manager, String fileName, FileHandle file,
+                             AssetLoaderParameters<TiledMap> parameter) {
+        final TiledMap map = new TiledMap();
+        final MapProperties mapProperties = map.getProperties();
+        final int width = buffer.getInt();
+        final int height = buffer.getInt();
+        final int tileWidth = buffer.getInt();
+        final int tileHeight = buffer.getInt();
+        final boolean streamed = (long) width * height > STREAMING_THRESHOLD;
+
+        mapProperties.put("orientation", "orthogonal");
+        mapProperties.put("width", width);
+        mapProperties.put("height", height);
+        mapProperties.put("tilewidth", tileWidth);
+        mapProperties.put("tileheight", tileHeight);
+
+        final int tileSetCount = buffer.getShort();
+        for (int i = 0; i < tileSetCount; i++) {
+            final TiledMapTileSet tileSet = new TiledMapTileSet();
+            tileSet.setName(readString());
+
+            final int firstGid = buffer.getInt();
+            final Texture texture = manager.get(readString(), Texture.class);
+            final int setTileWidth = buffer.getInt();
+            final int setTileHeight = buffer.getInt();
+            final int spacing = buffer.getInt();
+            final int margin = buffer.getInt();
+            final int offsetX = buffer.getInt();
+            final int offsetY = buffer.getInt();
+
+            tileSet.getProperties().put("firstgid", firstGid);
+
+            // Slice the tileset image in the same order as the TmxMapLoader, such that identifiers coincide
+            int id = firstGid;
+            for (int y = margin; y <= texture.getHeight() - setTileHeight; y += setTileHeight + spacing)
+                for (int x = margin; x <= texture.getWidth() - setTileWidth; x += setTileWidth + spacing) {
+                    final StaticTiledMapTile tile =
+                        new StaticTiledMapTile(new TextureRegion(texture, x, y, setTileWidth, setTileHeight));
+                    tile.setId(id);
+                    tile.setOffsetX(offsetX);
+                    tile.setOffsetY(offsetY);
+                    tileSet.putTile(id++, tile);
+                }
+
+            final int tileCount = buffer.getShort();
+            for (int j = 0; j < tileCount; j++) {
+                final TiledMapTile tile = tileSet.getTile(firstGid + buffer.getInt());
+
+                // Properties of tiles beyond the extent of the image are consumed, but discarded
+                if (tile != null)
+                    readProperties(tile.getProperties());
+                else
+                    skipProperties();
+            }
+
+            map.getTileSets().addTileSet(tileSet);
+        }
+
+        final int layerCount = buffer.getShort();
+        for (int i = 0; i < layerCount; i++) {
+            final byte kind = buffer.get();
+            final MapLayer layer;
+
+            if (kind != TILE_LAYER)
+                layer = new MapLayer();
+            else if (streamed)
+                layer = new StreamedTileLayer(width, height, tileWidth, tileHeight, map.getTileSets());
+            else
+                layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
+
+            layer.setName(readString());
+            layer.setVisible(buffer.get() != 0);
+            layer.setOpacity(buffer.getFloat());
+            layer.setOffsetX(buffer.getFloat());
+            layer.setOffsetY(buffer.getFloat());
+            readProperties(layer.getProperties());
+
+            if (kind == TILE_LAYER && streamed)
+                ((StreamedTileLayer) layer).setIdentifiers(viewTiles(width * height));
+            else if (kind == TILE_LAYER)
+                readTiles((TiledMapTileLayer) layer, map.getTileSets());
+            else if (kind == OBJECT_LAYER)
+                readObjects(layer);
+            else
+                throw new GdxRuntimeException("Unknown layer kind " + kind + " in compiled tile-map: " + fileName);
+
+            map.getLayers().add(layer);
+        }
+
+        mapProperties.put(COLLISION_PROPERTY, readCollision());
+
+        // Any streamed layers retain views over the mapping, which keep it alive for the lifetime of the map
+        buffer = null;
+        return map;
+    }
+
+    /**
+     * Instantiates a new {@link CompiledMapLoader}
+     *
+     * @param resolver The {@link FileHandleResolver} through which compiled tile-maps and their tileset images are
+     *                 resolved
+     */
+    CompiledMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+}
@@ -0,0 +1,897 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@link Crowd} simulates the non-player students of an {@link Area}. Each student either wanders to a random
+ * unblocked position, following a route from the {@link PathFinder}, or heads for one of the destinations of the
+ * {@link Area}, e.g. an {@link Interactable}, following the {@link FlowField} towards it, and queues there to be
+ * served; a student reaching the home destination sleeps there for a while, and every student heads home upon
+ * {@link #sendHome()}. Rather than one object and one Box2D {@link com.badlogic.gdx.physics.box2d.Body} per student,
+ * every attribute is held in a primitive array indexed by student, and each {@link #step()} is a pass over those
+ * arrays.
+ *
+ * @implNote Each {@link #step()} has three phases. The behaviour phase decides the velocity of every student, writing
+ *           only to the entries of that student, so it is partitioned across the {@link ForkJoinPool} of the calling
+ *           thread, or otherwise the {@link ForkJoinPool#commonPool()}. The {@link FlowField}s are merely read, so
+ *           heading for a destination costs a single lookup per student, however many share it. Decisions touching
+ *           state shared between students, i.e. joining and leaving queues, and querying the {@link PathFinder}, are
+ *           recorded as intents, which the merge phase then applies sequentially in index order. Finally, the
+ *           integration phase moves every student, resolving collision against the {@link NavigationGrid} of the
+ *           {@link Area} one axis at a time, such that students slide along walls. Each student draws from a random
+ *           stream of its own, seeded from the {@link Area} and its index, so the {@link Crowd} evolves identically on
+ *           every run regardless of the number of cores or the scheduling of the partitions, e.g. whilst replaying
+ *           recorded input. Every student is drawn from the shared atlas page, tinted through the vertex colour, so the
+ *           whole {@link Crowd} is drawn without a single texture bind.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Area#step()
+ * @see Area#renderDrawables(SpriteBatch)
+ */
+final class Crowd {
+    /**
+     * The behaviour phase of a contiguous partition of the students, which splits itself in half until each partition
+     * holds at most {@link #PARTITION_SIZE} students
+     *
+     * @implNote The tree of partitions is built once, and reinitialised upon every {@link #step()}, such that stepping
+     *           allocates no memory
+     */
+    private final class Behaviour extends RecursiveAction {
+        /**
+         * The index of the first student of the partition
+         */
+        private final int from;
+
+        /**
+         * The index one beyond the last student of the partition
+         */
+        private final int to;
+
+        /**
+         * The lower half of the partition, or null if the partition is not split
+         */
+        private final Behaviour lower;
+
+        /**
+         * The upper half of the partition, or null if the partition is not split
+         */
+        private final Behaviour upper;
+
+        /**
+         * Decides the velocity of every student in the partition, splitting it across the pool if it is large
+         */
+        @Override
+        protected void compute() {
+            if (lower == null) {
+                for (int student = from; student < to; student++)
+                    think(student);
+
+                return;
+            }
+
+            lower.reinitialize();
+            upper.reinitialize();
+            invokeAll(lower, upper);
+        }
+
+        /**
+         * Instantiates a new {@link Behaviour} over the given partition, and the tree of partitions beneath it
+         *
+         * @param from The index of the first student of the partition
+         * @param to The index one beyond the last student of the partition
+         */
+        Behaviour(int from, int to) {
+            this.from = from;
+            this.to = to;
+
+            final int middle = (from + to) >>> 1;
+            lower = (to - from > PARTITION_SIZE) ? new Behaviour(from, middle) : null;
+            upper = (to - from > PARTITION_SIZE) ? new Behaviour(middle, to) : null;
+        }
+    }
+
+    /**
+     * The walking speed of every student, in in-game metres per second, which is half that of the {@link Character}
+     */
+    private static final float SPEED = 2.0f;
+
+    /**
+     * The drawn height of every student, in in-game metres, matching that of the {@link Character}
+     */
+    private static final float HEIGHT = 0.57f;
+
+    /**
+     * The distance, in in-game metres, within which a student is deemed to have arrived at its target
+     */
+    private static final float ARRIVAL_DISTANCE = 0.1f;
+
+    /**
+     * The distance, in in-game metres, within which a student is deemed to have passed a waypoint of its route, and
+     * turns towards the next
+     */
+    private static final float WAYPOINT_DISTANCE = 0.25f;
+
+    /**
+     * The greatest duration, in seconds, for which a student pauses upon arrival
+     */
+    private static final float MAX_PAUSE = 4.0f;
+
+    /**
+     * The greatest duration, in seconds, for which the student at the head of a queue is served
+     */
+    private static final float MAX_SERVICE = 3.0f;
+
+    /**
+     * The least duration, in seconds, for which a student sleeps at the home destination
+     */
+    private static final float MIN_SLEEP = 10.0f;
+
+    /**
+     * The greatest duration, in seconds, for which a student sleeps at the home destination
+     */
+    private static final float MAX_SLEEP = 30.0f;
+
+    /**
+     * The probability that a student setting off heads for a destination, rather than wandering
+     */
+    private static final float DESTINATION_CHANCE = 0.4f;
+
+    /**
+     * The distance, in in-game metres, between consecutive students in a queue
+     */
+    private static final float QUEUE_SPACING = 0.6f;
+
+    /**
+     * The greatest number of students whose behaviour is decided by a single task; a {@link Crowd} no larger than this
+     * is never partitioned, since the overhead of the pool would exceed the work
+     */
+    private static final int PARTITION_SIZE = 128;
+
+    /**
+     * The number of random cells tried when choosing an unblocked position, before the student gives up until its next
+     * pause has elapsed
+     */
+    private static final int PLACEMENT_ATTEMPTS = 8;
+
+    /**
+     * The tints from which each student is assigned one, such that the shared frames are distinguishable
+     */
+    private static final float[] TINTS = {
+        Color.WHITE.toFloatBits(), Color.SKY.toFloatBits(), Color.SALMON.toFloatBits(),
+        Color.LIME.toFloatBits(), Color.GOLDENROD.toFloatBits(), Color.LIGHT_GRAY.toFloatBits()
+    };
+
+    /**
+     * Every {@link Direction}, cached to avoid cloning the {@link Direction#values()} array
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * The state of a student pausing until its {@link #pause} has elapsed
+     */
+    private static final byte PAUSING = 0;
+
+    /**
+     * The state of a student wandering towards a random target
+     */
+    private static final byte WALKING = 1;
+
+    /**
+     * The state of a student walking towards its destination
+     */
+    private static final byte HEADING = 2;
+
+    /**
+     * The state of a student queueing at its destination, walking towards its place in the queue if necessary
+     */
+    private static final byte QUEUEING = 3;
+
+    /**
+     * The state of a student sleeping, undrawn, at the home destination until its {@link #pause} has elapsed
+     */
+    private static final byte SLEEPING = 4;
+
+    /**
+     * The intent of a student whose behaviour affects no other student
+     */
+    private static final byte NO_INTENT = 0;
+
+    /**
+     * The intent of a student, having arrived at its destination, to join the back of the queue there
+     */
+    private static final byte JOIN_INTENT = 1;
+
+    /**
+     * The intent of a student, having been served, to leave the head of its queue
+     */
+    private static final byte LEAVE_INTENT = 2;
+
+    /**
+     * The intent of a student, having chosen a new target, to be routed towards it
+     */
+    private static final byte ROUTE_INTENT = 3;
+
+    /**
+     * The number of students in the {@link Crowd}
+     */
+    private final int size;
+
+    /**
+     * The frames from which every student is drawn
+     */
+    private final AnimationSet animations;
+
+    /**
+     * The {@link NavigationGrid} against which every movement is checked
+     */
+    private final NavigationGrid grid;
+
+    /**
+     * The {@link PathFinder} routing each student towards its target, which is only queried sequentially
+     */
+    private final PathFinder pathFinder;
+
+    /**
+     * The {@link FlowField} towards each destination, which is only read
+     */
+    private final FlowField[] fields;
+
+    /**
+     * The behaviour phase of every student
+     *
+     * @see #step()
+     */
+    private final Behaviour behaviour;
+
+    /**
+     * The horizontal position from which each destination is approached, being the centre of the nearest unblocked
+     * cell, in in-game metres
+     */
+    private final float[] destinationX;
+
+    /**
+     * The vertical position from which each destination is approached, being the centre of the nearest unblocked cell,
+     * in in-game metres
+     */
+    private final float[] destinationY;
+
+    /**
+     * The horizontal component of the unit vector along which the queue at each destination extends
+     */
+    private final float[] queueDirectionX;
+
+    /**
+     * The vertical component of the unit vector along which the queue at each destination extends
+     */
+    private final float[] queueDirectionY;
+
+    /**
+     * The students queueing at each destination, from head to back, indexed by destination and then by place
+     */
+    private final int[][] queues;
+
+    /**
+     * The number of students queueing at each destination
+     */
+    private final int[] queueLength;
+
+    /**
+     * The index of the home destination, at which students sleep rather than queue, or -1 if there is none
+     */
+    private final int home;
+
+    /**
+     * The horizontal position of each student, in in-game metres
+     */
+    private final float[] x;
+
+    /**
+     * The vertical position of each student, in in-game metres
+     */
+    private final float[] y;
+
+    /**
+     * The horizontal position of each student prior to the latest {@link #step()}, for interpolation
+     */
+    private final float[] previousX;
+
+    /**
+     * The vertical position of each student prior to the latest {@link #step()}, for interpolation
+     */
+    private final float[] previousY;
+
+    /**
+     * The horizontal velocity of each student, in in-game metres per second
+     */
+    private final float[] velocityX;
+
+    /**
+     * The vertical velocity of each student, in in-game metres per second
+     */
+    private final float[] velocityY;
+
+    /**
+     * The horizontal position towards which each student walks, in in-game metres
+     */
+    private final float[] targetX;
+
+    /**
+     * The vertical position towards which each student walks, in in-game metres
+     */
+    private final float[] targetY;
+
+    /**
+     * The remaining duration, in seconds, for which each {@link #PAUSING} student pauses
+     */
+    private final float[] pause;
+
+    /**
+     * The time into the walking cycle of each student, in seconds
+     *
+     * @see AnimationSet#getFrame(Direction, boolean, float)
+     */
+    private final float[] stateTime;
+
+    /**
+     * The packed vertex colour with which each student is drawn
+     *
+     * @see #TINTS
+     */
+    private final float[] tint;
+
+    /**
+     * The state of each student: {@link #PAUSING}, {@link #WALKING}, {@link #HEADING}, {@link #QUEUEING} or
+     * {@link #SLEEPING}
+     */
+    private final byte[] state;
+
+    /**
+     * The {@link Direction} ordinal in which each student faces
+     */
+    private final byte[] facing;
+
+    /**
+     * The intent of each student, as decided by the latest behaviour phase: {@link #NO_INTENT}, {@link #JOIN_INTENT},
+     * {@link #LEAVE_INTENT}, or {@link #ROUTE_INTENT}
+     *
+     * @see #merge()
+     */
+    private final byte[] intent;
+
+    /**
+     * The index of the destination of each {@link #HEADING} or {@link #QUEUEING} student
+     */
+    private final int[] destination;
+
+    /**
+     * The place of each {@link #QUEUEING} student in its queue, where zero is the head
+     */
+    private final int[] place;
+
+    /**
+     * The route of each {@link #WALKING} student, as cell indices shared with the {@link PathFinder}, or null if the
+     * student steers directly towards its target
+     */
+    private final int[][] routes;
+
+    /**
+     * The index into its route of the cell towards which each {@link #WALKING} student is walking
+     */
+    private final int[] waypoint;
+
+    /**
+     * The xorshift state of the random stream of each student, which is never zero
+     *
+     * @see #nextFloat(int)
+     */
+    private final long[] random;
+
+    /**
+     * The interpolation factor between the previous and current positions at which students are drawn
+     *
+     * @see #interpolate(float)
+     */
+    private float alpha = 1;
+
+    /**
+     * Scrambles the given seed, such that the streams of neighbouring students are uncorrelated
+     *
+     * @param seed The seed to scramble
+     * @return The scrambled seed, which is never zero
+     * @implNote This is the finaliser of the SplitMix64 generator
+     */
+    private static long mix(long seed) {
+        seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+        seed ^= seed >>> 31;
+
+        return seed == 0 ? 1 : seed;
+    }
+
+    /**
+     * Draws the next value from the random stream of the given student
+     *
+     * @param student The index of the student
+     * @return A uniformly distributed value in [0, 1)
+     * @implNote This is an xorshift64* generator, whose state is a single {@code long} in {@link #random}
+     */
+    private float nextFloat(int student) {
+        long s = random[student];
+        s ^= s >>> 12;
+        s ^= s << 25;
+        s ^= s >>> 27;
+        random[student] = s;
+
+        return ((s * 0x2545F4914F6CDD1DL) >>> 40) * 0x1p-24f;
+    }
+
+    /**
+     * Chooses a random unblocked position for the given student, as its target
+     *
+     * @param student The index of the student
+     * @return Was an unblocked position found within {@link #PLACEMENT_ATTEMPTS}?
+     */
+    private boolean chooseTarget(int student) {
+        for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS; attempt++) {
+            final int column = (int) (nextFloat(student) * grid.getWidth());
+            final int row = (int) (nextFloat(student) * grid.getHeight());
+
+            if (!grid.isBlocked(column, row)) {
+                targetX[student] = column + 0.5f;
+                targetY[student] = row + 0.5f;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets off the given student, having paused: it either heads for a random destination, or wanders towards a
+     * random unblocked position
+     *
+     * @param student The index of the student
+     */
+    private void setOff(int student) {
+        if (destinationX.length > 0 && nextFloat(student) < DESTINATION_CHANCE) {
+            final int chosen = (int) (nextFloat(student) * destinationX.length);
+
+            state[student] = HEADING;
+            destination[student] = chosen;
+            targetX[student] = destinationX[chosen];
+            targetY[student] = destinationY[chosen];
+            routes[student] = null;
+
+            // The field needs no query, so the student sets off at once
+            steer(student);
+        } else if (chooseTarget(student)) {
+            state[student] = WALKING;
+            intent[student] = ROUTE_INTENT;
+        } else {
+            pause[student] = nextFloat(student);
+        }
+    }
+
+    /**
+     * Routes the given student from its position towards its target, or gives up and pauses briefly if the target is
+     * unreachable
+     *
+     * @param student The index of the student
+     * @apiNote This queries the {@link PathFinder}, so it must only be called sequentially
+     */
+    private void route(int student) {
+        final int[] route = pathFinder.find(grid.getCell(x[student], y[student]),
+            grid.getCell(targetX[student], targetY[student]));
+
+        routes[student] = route;
+        waypoint[student] = 0;
+
+        if (route == null) {
+            state[student] = PAUSING;
+            pause[student] = nextFloat(student);
+        }
+    }
+
+    /**
+     * Is the given student within {@link #WAYPOINT_DISTANCE} of the centre of the given cell, along both axes?
+     *
+     * @param student The index of the student
+     * @param cell The index of the cell
+     * @return Has the student passed the cell, as a waypoint?
+     */
+    private boolean isNear(int student, int cell) {
+        return Math.abs(grid.getCentreX(cell) - x[student]) < WAYPOINT_DISTANCE
+            && Math.abs(grid.getCentreY(cell) - y[student]) < WAYPOINT_DISTANCE;
+    }
+
+    /**
+     * Steers the given student towards the centre of the next cell along the {@link FlowField} of its destination if
+     * it is {@link #HEADING}, or the next waypoint of its route, if any, or otherwise towards its target, stopping it
+     * once within {@link #ARRIVAL_DISTANCE} of the latter
+     *
+     * @param student The index of the student
+     * @return Has the student arrived at its target? A student from whose cell the destination is unreachable is
+     *         stopped, but has not arrived.
+     */
+    private boolean steer(int student) {
+        final int[] route = routes[student];
+        float goalX = targetX[student];
+        float goalY = targetY[student];
+
+        // The final waypoint is the cell of the target itself, towards which the student steers exactly
+        if (state[student] == HEADING) {
+            final FlowField field = fields[destination[student]];
+            final int cell = grid.getCell(x[student], y[student]);
+            final int next = field.getNext(cell);
+
+            if (next >= 0) {
+                goalX = grid.getCentreX(next);
+                goalY = grid.getCentreY(next);
+            } else if (cell != field.getGoal()) {
+                velocityX[student] = 0;
+                velocityY[student] = 0;
+                return false;
+            }
+        } else if (route != null) {
+            while (waypoint[student] < route.length - 1 && isNear(student, route[waypoint[student]]))
+                waypoint[student]++;
+
+            if (waypoint[student] < route.length - 1) {
+                goalX = grid.getCentreX(route[waypoint[student]]);
+                goalY = grid.getCentreY(route[waypoint[student]]);
+            }
+        }
+
+        final float dx = goalX - x[student];
+        final float dy = goalY - y[student];
+        final float distance = (float) Math.sqrt(dx * dx + dy * dy);
+
+        if (distance < ARRIVAL_DISTANCE) {
+            velocityX[student] = 0;
+            velocityY[student] = 0;
+            return true;
+        }
+
+        velocityX[student] = dx / distance * SPEED;
+        velocityY[student] = dy / distance * SPEED;
+        return false;
+    }
+
+    /**
+     * Decides the velocity, and any intent, of the given student
+     *
+     * @param student The index of the student
+     * @apiNote This writes only to the entries of the given student, so it may be called concurrently for distinct
+     *          students; the queues are merely read
+     */
+    private void think(int student) {
+        intent[student] = NO_INTENT;
+
+        switch (state[student]) {
+            case PAUSING:
+            case SLEEPING:
+                velocityX[student] = 0;
+                velocityY[student] = 0;
+
+                if ((pause[student] -= Area.TIME_STEP) > 0)
+                    break;
+
+                if (state[student] == SLEEPING) {
+                    state[student] = PAUSING;
+                    pause[student] = nextFloat(student) * MAX_PAUSE;
+                } else {
+                    setOff(student);
+                }
+                break;
+
+            case QUEUEING:
+                // Only the head of the queue is served, once it has reached the front
+                if (steer(student) && place[student] == 0 && (pause[student] -= Area.TIME_STEP) <= 0)
+                    intent[student] = LEAVE_INTENT;
+                break;
+
+            case HEADING:
+                if (!steer(student))
+                    break;
+
+                if (destination[student] == home) {
+                    state[student] = SLEEPING;
+                    pause[student] = MIN_SLEEP + nextFloat(student) * (MAX_SLEEP - MIN_SLEEP);
+                } else {
+                    intent[student] = JOIN_INTENT;
+                }
+                break;
+
+            default:
+                if (steer(student)) {
+                    state[student] = PAUSING;
+                    pause[student] = nextFloat(student) * MAX_PAUSE;
+                }
+        }
+    }
+
+    /**
+     * Targets the given queueing student at its place in its queue, and begins its service if it is at the head
+     *
+     * @param student The index of the student
+     */
+    private void placeInQueue(int student) {
+        final int queue = destination[student];
+        final float offset = place[student] * QUEUE_SPACING;
+
+        targetX[student] = destinationX[queue] + queueDirectionX[queue] * offset;
+        targetY[student] = destinationY[queue] + queueDirectionY[queue] * offset;
+
+        if (place[student] == 0)
+            pause[student] = nextFloat(student) * MAX_SERVICE;
+    }
+
+    /**
+     * Applies the intents of the latest behaviour phase to the queues and routes, in ascending order of student index,
+     * such that the outcome is independent of the partitioning of the behaviour phase
+     */
+    private void merge() {
+        for (int student = 0; student < size; student++) {
+            final int queue = destination[student];
+
+            if (intent[student] == ROUTE_INTENT) {
+                route(student);
+            } else if (intent[student] == JOIN_INTENT) {
+                state[student] = QUEUEING;
+                routes[student] = null;
+                place[student] = queueLength[queue];
+                queues[queue][queueLength[queue]++] = student;
+                placeInQueue(student);
+            } else if (intent[student] == LEAVE_INTENT) {
+                // Only the head ever leaves, so everybody behind moves up one place
+                final int[] members = queues[queue];
+                System.arraycopy(members, 1, members, 0, --queueLength[queue]);
+
+                for (int i = 0; i < queueLength[queue]; i++) {
+                    place[members[i]] = i;
+                    placeInQueue(members[i]);
+                }
+
+                state[student] = PAUSING;
+                pause[student] = nextFloat(student) * MAX_PAUSE;
+            }
+        }
+    }
+
+    /**
+     * Moves the given student by its velocity over a single {@link Area#TIME_STEP}, cancelling each component of the
+     * movement which would enter a blocked cell, and advances its animation
+     *
+     * @param student The index of the student
+     */
+    private void integrate(int student) {
+        previousX[student] = x[student];
+        previousY[student] = y[student];
+
+        final float nextX = x[student] + velocityX[student] * Area.TIME_STEP;
+        if (grid.isBlocked(nextX, y[student]))
+            velocityX[student] = 0;
+        else
+            x[student] = nextX;
+
+        final float nextY = y[student] + velocityY[student] * Area.TIME_STEP;
+        if (grid.isBlocked(x[student], nextY))
+            velocityY[student] = 0;
+        else
+            y[student] = nextY;
+
+        final Direction direction = Direction.of(velocityX[student], velocityY[student]);
+
+        if (direction == null) {
+            // A student which can make no progress towards its target or destination gives up, and pauses briefly;
+            // one routed during this step has yet to set off
+            if (state[student] == HEADING || (state[student] == WALKING && intent[student] != ROUTE_INTENT)) {
+                state[student] = PAUSING;
+                pause[student] = nextFloat(student);
+            }
+
+            stateTime[student] = 0;
+        } else {
+            facing[student] = (byte) direction.ordinal();
+            stateTime[student] = (stateTime[student] + Area.TIME_STEP) % animations.getCycleDuration();
+        }
+    }
+
+    /**
+     * Advances every student by a single {@link Area#TIME_STEP}: the behaviour phase, partitioned across the pool,
+     * then the merge and integration phases
+     *
+     * @see #merge()
+     */
+    void step() {
+        if (size <= PARTITION_SIZE) {
+            for (int student = 0; student < size; student++)
+                think(student);
+        } else {
+            behaviour.reinitialize();
+            behaviour.invoke();
+        }
+
+        merge();
+
+        for (int student = 0; student < size; student++)
+            integrate(student);
+    }
+
+    /**
+     * Computes a hash of the position, velocity, state and destination of every student
+     *
+     * @return The hash, which is equal for two {@link Crowd}s which have evolved identically, e.g. to check that the
+     *         evolution is independent of the number of cores
+     */
+    long hashState() {
+        long hash = size;
+
+        for (int student = 0; student < size; student++) {
+            hash = hash * 31 + Float.floatToIntBits(x[student]);
+            hash = hash * 31 + Float.floatToIntBits(y[student]);
+            hash = hash * 31 + Float.floatToIntBits(velocityX[student]);
+            hash = hash * 31 + Float.floatToIntBits(velocityY[student]);
+            hash = hash * 31 + state[student];
+            hash = hash * 31 + destination[student];
+        }
+
+        return hash;
+    }
+
+    /**
+     * Sends every student who is not already asleep to the home destination, abandoning every queue; this is a no-op
+     * if there is no home destination
+     *
+     * @implNote Every student follows the same {@link FlowField} home, so this queries nothing
+     */
+    void sendHome() {
+        if (home < 0)
+            return;
+
+        Arrays.fill(queueLength, 0);
+
+        for (int student = 0; student < size; student++)
+            if (state[student] != SLEEPING) {
+                state[student] = HEADING;
+                destination[student] = home;
+                targetX[student] = destinationX[home];
+                targetY[student] = destinationY[home];
+                routes[student] = null;
+            }
+    }
+
+    /**
+     * Sets the interpolation factor at which the students are next drawn
+     *
+     * @param alpha The proportion of a {@link Area#TIME_STEP} elapsed since the latest {@link #step()}, in [0, 1]
+     * @see Character#interpolate(float)
+     */
+    void interpolate(float alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * Draws every student in view
+     *
+     * @param batch The {@link SpriteBatch} to which the students are drawn, which must be drawing
+     * @param view The region of the {@link Area} in view, in in-game metres, outside of which students are culled
+     */
+    void render(SpriteBatch batch, Rectangle view) {
+        final float width = HEIGHT * animations.getAspectRatio();
+        final float left = view.x - width / 2;
+        final float right = view.x + view.width + width / 2;
+        final float bottom = view.y - HEIGHT / 2;
+        final float top = view.y + view.height + HEIGHT / 2;
+        final float color = batch.getPackedColor();
+
+        for (int student = 0; student < size; student++) {
+            final float drawX = previousX[student] + (x[student] - previousX[student]) * alpha;
+            final float drawY = previousY[student] + (y[student] - previousY[student]) * alpha;
+
+            if (state[student] == SLEEPING || drawX < left || drawX > right || drawY < bottom || drawY > top)
+                continue;
+
+            final TextureRegion frame = animations.getFrame(DIRECTIONS[facing[student]],
+                velocityX[student] != 0 || velocityY[student] != 0, stateTime[student]);
+
+            batch.setPackedColor(tint[student]);
+            batch.draw(frame, drawX - width / 2, drawY - HEIGHT / 2, width, HEIGHT);
+        }
+
+        batch.setPackedColor(color);
+    }
+
+    /**
+     * Instantiates a new {@link Crowd}, each of whose students pauses at a random unblocked position
+     *
+     * @param size The number of students
+     * @param animations The frames from which every student is drawn
+     * @param grid The {@link NavigationGrid} of the {@link Area}, which must have at least one unblocked cell
+     * @param pathFinder The {@link PathFinder} routing through the {@link NavigationGrid}
+     * @param flowFields The {@link FlowFields} of the {@link Area}, from which the field towards each destination is
+     *                   retrieved
+     * @param destinations The positions of the destinations, in in-game metres, each of which is approached from the
+     *                     nearest unblocked cell
+     * @param home The index of the home destination, or -1 if there is none
+     * @param seed The seed of the random streams of the students, e.g. derived from the {@link Area.Name}
+     * @see NavigationGrid#isFullyBlocked()
+     */
+    Crowd(int size, AnimationSet animations, NavigationGrid grid, PathFinder pathFinder, FlowFields flowFields,
+          Array<Vector2> destinations, int home, long seed) {
+        this.size = size;
+        this.animations = animations;
+        this.grid = grid;
+        this.pathFinder = pathFinder;
+        this.home = home;
+
+        destinationX = new float[destinations.size];
+        destinationY = new float[destinations.size];
+        queueDirectionX = new float[destinations.size];
+        queueDirectionY = new float[destinations.size];
+        queues = new int[destinations.size][size];
+        queueLength = new int[destinations.size];
+        fields = new FlowField[destinations.size];
+
+        final Vector2 approach = new Vector2();
+        for (int i = 0; i < destinations.size; i++) {
+            final Vector2 position = destinations.get(i);
+            grid.findNearestUnblocked(position.x, position.y, approach);
+            destinationX[i] = approach.x;
+            destinationY[i] = approach.y;
+            fields[i] = flowFields.get(grid.getCell(approach.x, approach.y));
+
+            // Queues extend away from the destination, or downwards if it is itself unblocked
+            approach.sub(position);
+            if (approach.isZero())
+                approach.set(0, -1);
+
+            approach.nor();
+            queueDirectionX[i] = approach.x;
+            queueDirectionY[i] = approach.y;
+        }
+
+        x = new float[size];
+        y = new float[size];
+        previousX = new float[size];
+        previousY = new float[size];
+        velocityX = new float[size];
+        velocityY = new float[size];
+        targetX = new float[size];
+        targetY = new float[size];
+        pause = new float[size];
+        stateTime = new float[size];
+        tint = new float[size];
+        state = new byte[size];
+        facing = new byte[size];
+        random = new long[size];
+        intent = new byte[size];
+        destination = new int[size];
+        place = new int[size];
+        routes = new int[size][];
+        waypoint = new int[size];
+        behaviour = new Behaviour(0, size);
+
+        for (int student = 0; student < size; student++) {
+            random[student] = mix(seed * 0x9E3779B97F4A7C15L + student);
+
+            // Students are placed at their first target, and set off from there
+            boolean placed = false;
+            while (!placed)
+                placed = chooseTarget(student);
+
+            x[student] = previousX[student] = targetX[student];
+            y[student] = previousY[student] = targetY[student];
+            pause[student] = nextFloat(student) * MAX_PAUSE;
+            tint[student] = TINTS[(int) (nextFloat(student) * TINTS.length)];
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+/**
+ * Distinguishes between the four directions in which an animated entity may face
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Animator
+ */
+public enum Direction {
+    Down, Up, Right, Left;
+
+    /**
+     * Determines the {@link Direction} of the given velocity, favouring the horizontal when moving diagonally
+     *
+     * @param x The horizontal component of the velocity
+     * @param y The vertical component of the velocity
+     * @return The {@link Direction} of travel, or null if the velocity is zero
+     */
+    static Direction of(float x, float y) {
+        if (x == 0 && y == 0)
+            return null;
+
+        if (Math.abs(x) >= Math.abs(y))
+            return x > 0 ? Right : Left;
+
+        return y > 0 ? Up : Down;
+    }
+}
@@ -0,0 +1,282 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * A {@link FlowField} holds, for every cell of a {@link NavigationGrid}, the cost of the cheapest route to a single
+ * goal cell, and the step beginning that route, such that any number of entities heading for the goal each steer by a
+ * single array lookup, rather than searching for a route of their own.
+ *
+ * @implNote The field is integrated outwards from the goal by Dijkstra's algorithm, moving as permitted by
+ *           {@link NavigationGrid#step(int, int)}. Since that rule is symmetric, the step from each cell is the
+ *           opposite of that by which the cell was reached. The steps form a tree rooted at the goal, so upon cells
+ *           being blocked, only the subtrees whose routes pass through, or cut the corner of, those cells are
+ *           integrated again; every other cost remains optimal, since blocking never shortens a route.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see FlowFields
+ * @see Crowd
+ */
+final class FlowField {
+    /**
+     * The cost of a cell from which the goal is unreachable
+     */
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * The step from a cell which begins no route, i.e. from the goal itself or an unreachable cell
+     */
+    private static final byte NO_STEP = -1;
+
+    /**
+     * The {@link NavigationGrid} over which the field is integrated
+     */
+    private final NavigationGrid grid;
+
+    /**
+     * The index of the goal cell
+     */
+    private final int goal;
+
+    /**
+     * The cost of the cheapest route from each cell to the {@link #goal}, or {@link #UNREACHABLE}
+     *
+     * @see NavigationGrid#getStepCost(int)
+     */
+    private final int[] cost;
+
+    /**
+     * The step beginning the cheapest route from each cell to the {@link #goal}, or {@link #NO_STEP}
+     */
+    private final byte[] step;
+
+    /**
+     * Retrieves the goal cell of the field
+     *
+     * @return The index of the goal cell
+     */
+    int getGoal() {
+        return goal;
+    }
+
+    /**
+     * Can the goal be reached from the given cell?
+     *
+     * @param cell The index of the cell
+     * @return Is the cell unblocked and connected to the goal?
+     */
+    boolean isReachable(int cell) {
+        return cost[cell] != UNREACHABLE;
+    }
+
+    /**
+     * Retrieves the next cell of the cheapest route from the given cell to the goal
+     *
+     * @param cell The index of the cell
+     * @return The index of the next cell, or -1 if the given cell is the goal, or the goal is unreachable from it
+     * @apiNote This only reads the field, so it may be called concurrently, provided the field is not being refreshed
+     */
+    int getNext(int cell) {
+        return step[cell] == NO_STEP ? -1 : grid.getNeighbour(cell, step[cell]);
+    }
+
+    /**
+     * Integrates the field outwards from every cell in the given heap, until no cost can be lowered
+     *
+     * @param open The cells whose costs are known, but whose neighbours have yet to be relaxed
+     */
+    private void integrate(CellHeap open) {
+        while (!open.isEmpty()) {
+            final int cell = open.pop();
+
+            for (int s = 0; s < NavigationGrid.STEPS; s++) {
+                final int neighbour = grid.step(cell, s);
+                if (neighbour < 0)
+                    continue;
+
+                final int candidate = cost[cell] + NavigationGrid.getStepCost(s);
+                if (candidate >= cost[neighbour])
+                    continue;
+
+                // Only cells yet to be popped can be lowered, so one already reached must still be in the heap
+                final boolean reached = cost[neighbour] != UNREACHABLE;
+                cost[neighbour] = candidate;
+                step[neighbour] = (byte) NavigationGrid.getOppositeStep(s);
+
+                if (reached)
+                    open.decrease(neighbour, candidate);
+                else
+                    open.add(neighbour, candidate);
+            }
+        }
+    }
+
+    /**
+     * Computes a hash of the cost of every cell
+     *
+     * @return The hash, which is equal for two fields over the same {@link NavigationGrid} and goal which hold the same
+     *         costs, e.g. to check a {@link #refresh(IntArray, CellHeap, IntArray)} against a {@link #build(CellHeap)}
+     * @apiNote The steps are not hashed, since either of two equally cheap steps may be chosen
+     * @see #isConsistent()
+     */
+    long hashState() {
+        long hash = goal;
+
+        for (int value : cost)
+            hash = hash * 31 + value;
+
+        return hash;
+    }
+
+    /**
+     * Does the step from every reachable cell, besides the goal, lead to a neighbour whose cost is exactly that of the
+     * step lower, and do no others have steps?
+     *
+     * @return Is every step permitted by the {@link NavigationGrid}, and does it begin a route of the recorded cost?
+     * @apiNote A field holding the costs of a {@link #build(CellHeap)}, and consistent steps, routes every cell along
+     *          a cheapest route, whichever steps it holds
+     * @see #hashState()
+     */
+    boolean isConsistent() {
+        for (int cell = 0; cell < cost.length; cell++) {
+            if (cost[cell] == UNREACHABLE || cell == goal) {
+                if (step[cell] != NO_STEP)
+                    return false;
+
+                continue;
+            }
+
+            final int next = step[cell] == NO_STEP ? -1 : grid.step(cell, step[cell]);
+            if (next < 0 || cost[next] == UNREACHABLE)
+                return false;
+
+            if (cost[next] + NavigationGrid.getStepCost(step[cell]) != cost[cell])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Integrates the whole field from scratch
+     *
+     * @param open The heap to use as scratch space, which is cleared first
+     */
+    void build(CellHeap open) {
+        Arrays.fill(cost, UNREACHABLE);
+        Arrays.fill(step, NO_STEP);
+        open.clear();
+
+        if (grid.isBlocked(goal))
+            return;
+
+        cost[goal] = 0;
+        open.add(goal, 0);
+        integrate(open);
+    }
+
+    /**
+     * Is the given cell, or the step beginning its route, no longer valid?
+     *
+     * @param cell The index of the cell
+     * @return Is the cell blocked, or its step no longer permitted?
+     */
+    private boolean isBroken(int cell) {
+        return grid.isBlocked(cell) || (step[cell] != NO_STEP && grid.step(cell, step[cell]) < 0);
+    }
+
+    /**
+     * Marks the given cell, and every cell whose route passes through it, as unreachable
+     *
+     * @param cell The index of the root of the subtree to invalidate
+     * @param invalidated The array to which the index of each invalidated cell is appended, also used as a stack
+     */
+    private void invalidate(int cell, IntArray invalidated) {
+        int next = invalidated.size;
+        cost[cell] = UNREACHABLE;
+        step[cell] = NO_STEP;
+        invalidated.add(cell);
+
+        while (next < invalidated.size) {
+            final int parent = invalidated.get(next++);
+
+            for (int s = 0; s < NavigationGrid.STEPS; s++) {
+                final int child = grid.getNeighbour(parent, s);
+                if (child < 0 || cost[child] == UNREACHABLE || step[child] != NavigationGrid.getOppositeStep(s))
+                    continue;
+
+                cost[child] = UNREACHABLE;
+                step[child] = NO_STEP;
+                invalidated.add(child);
+            }
+        }
+    }
+
+    /**
+     * Integrates the field again around the given cells, having been blocked
+     *
+     * @param changed The indices of the cells newly blocked since the field was last integrated
+     * @param open The heap to use as scratch space, which is cleared first
+     * @param invalidated The array to use as scratch space, which is cleared first
+     * @see NavigationGrid#block(com.badlogic.gdx.math.Rectangle, IntArray)
+     */
+    void refresh(IntArray changed, CellHeap open, IntArray invalidated) {
+        open.clear();
+        invalidated.clear();
+
+        // A newly blocked cell also breaks the diagonal steps of its neighbours, which would cut its corner
+        for (int i = 0; i < changed.size; i++) {
+            final int cell = changed.get(i);
+
+            if (cost[cell] != UNREACHABLE)
+                invalidate(cell, invalidated);
+
+            for (int s = 0; s < NavigationGrid.STEPS; s++) {
+                final int neighbour = grid.getNeighbour(cell, s);
+                if (neighbour >= 0 && cost[neighbour] != UNREACHABLE && isBroken(neighbour))
+                    invalidate(neighbour, invalidated);
+            }
+        }
+
+        // Every invalidated cell is reseeded from its cheapest neighbour whose cost is still valid
+        for (int i = 0; i < invalidated.size; i++) {
+            final int cell = invalidated.get(i);
+            if (grid.isBlocked(cell))
+                continue;
+
+            for (int s = 0; s < NavigationGrid.STEPS; s++) {
+                final int neighbour = grid.step(cell, s);
+                if (neighbour < 0 || cost[neighbour] == UNREACHABLE)
+                    continue;
+
+                final int candidate = cost[neighbour] + NavigationGrid.getStepCost(s);
+                if (candidate < cost[cell]) {
+                    cost[cell] = candidate;
+                    step[cell] = (byte) s;
+                }
+            }
+
+            if (cost[cell] != UNREACHABLE)
+                open.add(cell, cost[cell]);
+        }
+
+        integrate(open);
+    }
+
+    /**
+     * Instantiates a new {@link FlowField} towards the given goal, which must then be built
+     *
+     * @param grid The {@link NavigationGrid} over which the field is integrated
+     * @param goal The index of the goal cell
+     * @see #build(CellHeap)
+     */
+    FlowField(NavigationGrid grid, int goal) {
+        this.grid = grid;
+        this.goal = goal;
+
+        final int cells = grid.getWidth() * grid.getHeight();
+        cost = new int[cells];
+        step = new byte[cells];
+    }
+}
@@ -0,0 +1,82 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * The {@link FlowFields} of an {@link Area} hold one {@link FlowField} per shared destination, e.g. per
+ * {@link Interactable}, such that the cost of steering a {@link Crowd} towards those destinations is independent of the
+ * number of students heading for each.
+ *
+ * @implNote Each field is built upon first being requested, and refreshed in place, rather than replaced, whenever
+ *           cells of the {@link NavigationGrid} are blocked, so references to a field remain valid. The scratch space
+ *           of every integration is sized to the grid once, and shared between the fields.
+ * @apiNote The {@link FlowFields} are not thread-safe; the {@link Crowd} retrieves its fields upon instantiation, and
+ *          thereafter merely reads them
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Area#precomputeRoutes()
+ */
+final class FlowFields {
+    /**
+     * The {@link NavigationGrid} over which every field is integrated
+     */
+    private final NavigationGrid grid;
+
+    /**
+     * Every field built so far, keyed by the index of its goal cell
+     */
+    private final IntMap<FlowField> fields = new IntMap<>();
+
+    /**
+     * The heap shared by the integration of every field
+     */
+    private final CellHeap open;
+
+    /**
+     * The cells invalidated by the latest refresh of a field, shared by every field
+     */
+    private final IntArray invalidated = new IntArray();
+
+    /**
+     * Retrieves the field towards the given goal cell, building it if it has yet to be requested
+     *
+     * @param goal The index of the goal cell
+     * @return The {@link FlowField} towards the goal
+     * @see NavigationGrid#getCell(float, float)
+     */
+    FlowField get(int goal) {
+        FlowField field = fields.get(goal);
+
+        if (field == null) {
+            field = new FlowField(grid, goal);
+            field.build(open);
+            fields.put(goal, field);
+        }
+
+        return field;
+    }
+
+    /**
+     * Refreshes every field built so far, upon the given cells being blocked
+     *
+     * @param changed The indices of the newly blocked cells
+     * @see NavigationGrid#block(com.badlogic.gdx.math.Rectangle, IntArray)
+     */
+    void refresh(IntArray changed) {
+        if (changed.isEmpty())
+            return;
+
+        for (FlowField field : fields.values())
+            field.refresh(changed, open, invalidated);
+    }
+
+    /**
+     * Instantiates a new, empty, set of {@link FlowFields} over the given {@link NavigationGrid}
+     *
+     * @param grid The {@link NavigationGrid} over which every field is integrated
+     */
+    FlowFields(NavigationGrid grid) {
+        this.grid = grid;
+        open = new CellHeap(grid.getWidth() * grid.getHeight());
+    }
+}
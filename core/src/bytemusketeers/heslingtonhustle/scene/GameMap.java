@@ -1,20 +1,37 @@
 package bytemusketeers.heslingtonhustle.scene;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapLayers;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 
 /**
  * A {@link GameMap} represents and manages the {@link Drawable} playing {@link Area} background, principally consisting
  * of the {@link TiledMap}.
  *
+ * @implNote The maps never change at runtime, so every static tile layer is compiled into {@link SpriteCache} geometry
+ *           once, and each frame costs only a view transform and a draw call. Tile layers containing
+ *           {@link AnimatedTiledMapTile}s, or carrying a {@code dynamic} boolean property set in Tiled, opt out, and
+ *           are re-submitted every frame through the {@link OrthogonalTiledMapRenderer} instead. The tile layers of
+ *           tile-maps too large to be held in memory are {@link StreamedTileLayer}s, which are instead brought in
+ *           and out of residency about the camera and {@link Character} by a {@link ChunkStreamer}.
+ *
  * @author ENG1 Team 23 (Cohort 3)
  */
 class GameMap implements Drawable {
@@ -24,18 +41,84 @@ class GameMap implements Drawable {
     private static final int TILE_AXIS_LENGTH = 16;
 
     /**
-     * The {@link TiledMap} representing the loaded tilemap TMX file
+     * The scale from pixels to in-game metres
+     */
+    static final float UNIT_SCALE = 1f / TILE_AXIS_LENGTH;
+
+    /**
+     * The name of the boolean Tiled layer property with which a tile layer may opt out of {@link SpriteCache}
+     * compilation
+     *
+     * @see #isStatic(MapLayer)
+     */
+    private static final String DYNAMIC_PROPERTY = "dynamic";
+
+    /**
+     * The name of the boolean Tiled tile property, set in the tileset, marking a tile as impassable
+     *
+     * @see #getSolidTileRectangles()
+     */
+    static final String SOLID_PROPERTY = "solid";
+
+    /**
+     * The greatest number of sprites a {@link SpriteCache} may hold if its geometry is indexed
+     *
+     * @see SpriteCache#SpriteCache(int, boolean)
+     */
+    static final int MAX_INDEXED_SPRITES = 8191;
+
+    /**
+     * The {@link #renderPlan} entry denoting a step rendered by the {@link #renderer}
+     */
+    private static final int DYNAMIC_STEP = -1;
+
+    /**
+     * The {@link #renderPlan} entry denoting the step rendered by the {@link #streamer}
+     */
+    private static final int STREAMED_STEP = -2;
+
+    /**
+     * The {@link TiledMap} representing the loaded tilemap TMX file; this is owned by the {@link AreaLoader}
      *
-     * @see TmxMapLoader#load(String)
+     * @see AreaLoader
      */
     private final TiledMap tiledMap;
 
     /**
      * The LibGDX rendering object responsible for the rendering of the {@link TiledMap}
      *
+     * @implNote The renderer owns a {@link SpriteBatch} and its shader program, so it is only created upon the first
+     *           {@link #updateView(OrthographicCamera)}. A {@link GameMap} driven by a headless simulation, which never
+     *           views nor renders the map, thus never requires a GL context for its renderer.
      * @see TiledMap
      */
-    private final OrthogonalTiledMapRenderer renderer;
+    private OrthogonalTiledMapRenderer renderer;
+
+    /**
+     * The compiled GPU geometry of every static tile layer, created alongside the {@link #renderer}
+     *
+     * @see #compile()
+     */
+    private SpriteCache staticCache;
+
+    /**
+     * The {@link ChunkStreamer} over every {@link StreamedTileLayer}, or null if the {@link TiledMap} has none
+     */
+    private final ChunkStreamer streamer;
+
+    /**
+     * The ordered render steps: the {@link SpriteCache} identifier of a run of consecutive static layers,
+     * {@link #DYNAMIC_STEP} for a run of dynamic layers, or {@link #STREAMED_STEP} for every streamed layer
+     *
+     * @see #renderPlanLayers
+     */
+    private int[] renderPlan;
+
+    /**
+     * The {@link TiledMap} layer indices to be rendered by the {@link #renderer} for each {@link #DYNAMIC_STEP} in the
+     * {@link #renderPlan}, or null for a static step
+     */
+    private int[][] renderPlanLayers;
 
     /**
      * The width of the {@link GameMap}, in in-game metres
@@ -50,16 +133,258 @@ class GameMap implements Drawable {
     /**
      * Retrieve the "borders" layer objects from the {@link TiledMap} of the current {@link GameMap}
      *
-     * @return The {@link RectangleMapObject} objects embedded in the requested layer
+     * @return The {@link RectangleMapObject} objects embedded in the requested layer, which is empty if the
+     *         {@link TiledMap} has no such layer
      */
-    com.badlogic.gdx.utils.Array<RectangleMapObject> getBorderObjects() throws InvalidAreaException {
+    Array<RectangleMapObject> getBorderObjects() {
         final MapLayers layers = tiledMap.getLayers();
 
         for (MapLayer layer : layers)
             if (layer.getName().equals("borders"))
                 return layer.getObjects().getByType(RectangleMapObject.class);
 
-        throw new InvalidAreaException("Level does not contain any borders");
+        return new Array<>();
+    }
+
+    /**
+     * Retrieves the static collision geometry merged when the {@link TiledMap} was compiled, if it was
+     *
+     * @return The merged rectangles covering every border object and solid tile, in in-game metres, or null if the
+     *         {@link TiledMap} was loaded from TMX, and its geometry must be derived
+     * @see CompiledMapLoader#COLLISION_PROPERTY
+     */
+    Array<Rectangle> getCompiledCollision() {
+        @SuppressWarnings("unchecked")
+        final Array<Rectangle> compiled =
+            tiledMap.getProperties().get(CompiledMapLoader.COLLISION_PROPERTY, Array.class);
+        if (compiled == null)
+            return null;
+
+        final Array<Rectangle> collision = new Array<>(compiled.size);
+        for (Rectangle bounds : compiled)
+            collision.add(new Rectangle(scale(bounds.x), scale(bounds.y), scale(bounds.width), scale(bounds.height)));
+
+        return collision;
+    }
+
+    /**
+     * Derives the collision geometry of every tile marked {@link #SOLID_PROPERTY} in its tileset, across all tile
+     * layers, merged by greedy meshing into a near-minimal set of rectangles
+     *
+     * @return The rectangles covering every solid tile, in in-game metres
+     * @see CollisionGeometry#greedyMesh(boolean[], int, int, float)
+     */
+    Array<Rectangle> getSolidTileRectangles() {
+        final boolean[] solid = new boolean[width * height];
+        boolean anySolid = false;
+
+        for (MapLayer layer : tiledMap.getLayers()) {
+            if (!(layer instanceof TiledMapTileLayer))
+                continue;
+
+            final TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+            for (int row = 0; row < Math.min(height, tileLayer.getHeight()); row++)
+                for (int column = 0; column < Math.min(width, tileLayer.getWidth()); column++) {
+                    final TiledMapTileLayer.Cell cell = tileLayer.getCell(column, row);
+
+                    if (cell != null && cell.getTile() != null
+                        && cell.getTile().getProperties().get(SOLID_PROPERTY, false, Boolean.class)) {
+                        solid[row * width + column] = true;
+                        anySolid = true;
+                    }
+                }
+        }
+
+        return anySolid
+            ? CollisionGeometry.greedyMesh(solid, width, height, scale(TILE_AXIS_LENGTH))
+            : new Array<>();
+    }
+
+    /**
+     * Can the given {@link MapLayer} be compiled into the {@link #staticCache}?
+     *
+     * @param layer The {@link MapLayer} in question
+     * @return Is the layer a {@link TiledMapTileLayer} without animated tiles, which has not opted out?
+     * @see #DYNAMIC_PROPERTY
+     */
+    private static boolean isStatic(MapLayer layer) {
+        if (!(layer instanceof TiledMapTileLayer) || layer.getProperties().get(DYNAMIC_PROPERTY, false, Boolean.class))
+            return false;
+
+        final TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+        for (int row = 0; row < tileLayer.getHeight(); row++)
+            for (int column = 0; column < tileLayer.getWidth(); column++) {
+                final TiledMapTileLayer.Cell cell = tileLayer.getCell(column, row);
+                if (cell != null && cell.getTile() instanceof AnimatedTiledMapTile)
+                    return false;
+            }
+
+        return true;
+    }
+
+    /**
+     * Counts the number of occupied cells in the given {@link TiledMapTileLayer}
+     *
+     * @param layer The {@link TiledMapTileLayer} in question
+     * @return The number of cells holding a tile
+     */
+    private static int countCells(TiledMapTileLayer layer) {
+        int count = 0;
+
+        for (int row = 0; row < layer.getHeight(); row++)
+            for (int column = 0; column < layer.getWidth(); column++) {
+                final TiledMapTileLayer.Cell cell = layer.getCell(column, row);
+                if (cell != null && cell.getTile() != null)
+                    count++;
+            }
+
+        return count;
+    }
+
+    /**
+     * Adds the tile of the given {@link TiledMapTileLayer.Cell} to the {@link SpriteCache} currently being built, with
+     * the flips and rotation of the {@link TiledMapTileLayer.Cell} applied
+     *
+     * @param cache The {@link SpriteCache} being built
+     * @param cell The {@link TiledMapTileLayer.Cell} holding the tile
+     * @param x The horizontal position of the cell, including any layer offset, in in-game metres
+     * @param y The vertical position of the cell, including any layer offset, in in-game metres
+     * @see SpriteCache#beginCache()
+     */
+    static void cacheTile(SpriteCache cache, TiledMapTileLayer.Cell cell, float x, float y) {
+        final TiledMapTile tile = cell.getTile();
+        final TextureRegion region = tile.getTextureRegion();
+        final float width = region.getRegionWidth() * UNIT_SCALE;
+        final float height = region.getRegionHeight() * UNIT_SCALE;
+
+        // Flips and quarter-turns are applied about the centre of the tile
+        cache.add(region, x + tile.getOffsetX() * UNIT_SCALE, y + tile.getOffsetY() * UNIT_SCALE,
+            width / 2, height / 2, width, height,
+            cell.getFlipHorizontally() ? -1 : 1, cell.getFlipVertically() ? -1 : 1,
+            cell.getRotation() * 90);
+    }
+
+    /**
+     * Adds every occupied cell in the given {@link TiledMapTileLayer} to the {@link SpriteCache} currently being built
+     *
+     * @param layer The static {@link TiledMapTileLayer} to add
+     * @see SpriteCache#beginCache()
+     */
+    private void cacheLayer(TiledMapTileLayer layer) {
+        final float layerOffsetX = layer.getRenderOffsetX() * UNIT_SCALE;
+        final float layerOffsetY = -layer.getRenderOffsetY() * UNIT_SCALE;
+        final float tileWidth = layer.getTileWidth() * UNIT_SCALE;
+        final float tileHeight = layer.getTileHeight() * UNIT_SCALE;
+
+        staticCache.setColor(1, 1, 1, layer.getOpacity());
+
+        for (int row = 0; row < layer.getHeight(); row++)
+            for (int column = 0; column < layer.getWidth(); column++) {
+                final TiledMapTileLayer.Cell cell = layer.getCell(column, row);
+                if (cell != null && cell.getTile() != null)
+                    cacheTile(staticCache, cell, column * tileWidth + layerOffsetX, row * tileHeight + layerOffsetY);
+            }
+    }
+
+    /**
+     * Creates the {@link #renderer}, compiles every static tile layer into the {@link #staticCache}, and derives the
+     * {@link #renderPlan} interleaving the two in the original layer order. Object layers are not rendered, and every
+     * streamed layer is rendered in a single step, at the position of the first.
+     *
+     * @implNote This requires a GL context, so it is deferred until the {@link GameMap} is first viewed
+     */
+    private void compile() {
+        final MapLayers layers = tiledMap.getLayers();
+        renderer = new OrthogonalTiledMapRenderer(tiledMap, UNIT_SCALE);
+
+        int cellCount = 0;
+        for (MapLayer layer : layers)
+            if (layer.isVisible() && isStatic(layer))
+                cellCount += countCells((TiledMapTileLayer) layer);
+
+        staticCache = new SpriteCache(Math.max(cellCount, 1), cellCount <= MAX_INDEXED_SPRITES);
+
+        final IntArray plan = new IntArray();
+        final Array<int[]> planLayers = new Array<>();
+        final IntArray dynamicRun = new IntArray();
+        boolean caching = false;
+        boolean streamed = false;
+
+        for (int i = 0; i < layers.getCount(); i++) {
+            final MapLayer layer = layers.get(i);
+
+            if (!layer.isVisible() || layer.getClass() == MapLayer.class)
+                continue;
+
+            if (layer instanceof StreamedTileLayer) {
+                if (streamed)
+                    continue;
+
+                if (caching) {
+                    plan.add(staticCache.endCache());
+                    planLayers.add(null);
+                    caching = false;
+                } else if (dynamicRun.size > 0) {
+                    plan.add(DYNAMIC_STEP);
+                    planLayers.add(dynamicRun.toArray());
+                    dynamicRun.clear();
+                }
+
+                plan.add(STREAMED_STEP);
+                planLayers.add(null);
+                streamed = true;
+            } else if (isStatic(layer)) {
+                if (dynamicRun.size > 0) {
+                    plan.add(DYNAMIC_STEP);
+                    planLayers.add(dynamicRun.toArray());
+                    dynamicRun.clear();
+                }
+
+                if (!caching) {
+                    staticCache.beginCache();
+                    caching = true;
+                }
+
+                cacheLayer((TiledMapTileLayer) layer);
+            } else {
+                if (caching) {
+                    plan.add(staticCache.endCache());
+                    planLayers.add(null);
+                    caching = false;
+                }
+
+                dynamicRun.add(i);
+            }
+        }
+
+        if (caching) {
+            plan.add(staticCache.endCache());
+            planLayers.add(null);
+        } else if (dynamicRun.size > 0) {
+            plan.add(DYNAMIC_STEP);
+            planLayers.add(dynamicRun.toArray());
+        }
+
+        renderPlan = plan.toArray();
+        renderPlanLayers = planLayers.toArray(int[].class);
+    }
+
+    /**
+     * Retrieves the width of the {@link GameMap}
+     *
+     * @return The width, in in-game metres, which is also its width in tiles
+     */
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * Retrieves the height of the {@link GameMap}
+     *
+     * @return The height, in in-game metres, which is also its height in tiles
+     */
+    int getHeight() {
+        return height;
     }
 
     /**
@@ -95,15 +420,68 @@ class GameMap implements Drawable {
         return candidate;
     }
 
+    /**
+     * Does the {@link GameMap} stream its tile layers, rather than hold them in memory?
+     *
+     * @return Does the {@link TiledMap} hold any {@link StreamedTileLayer}s?
+     */
+    boolean isStreamed() {
+        return streamer != null;
+    }
+
+    /**
+     * Begins a new frame of streaming, such that chunks focused only during earlier frames may be evicted
+     *
+     * @see ChunkStreamer#beginFrame()
+     */
+    void beginFrame() {
+        if (streamer != null)
+            streamer.beginFrame();
+    }
+
+    /**
+     * Is the streamed chunk containing the given position resident, with its collision geometry registered? A
+     * {@link GameMap} which does not stream holds every position.
+     *
+     * @param position The position of interest, in in-game metres
+     * @return Is the position resident?
+     * @see ChunkStreamer#isCompleted(float, float)
+     */
+    boolean isResident(Vector2 position) {
+        return streamer == null || streamer.isCompleted(position.x, position.y);
+    }
+
+    /**
+     * Brings the streamed chunks about the given position into residency, including their collision geometry, such
+     * that the {@link Character} may be simulated at that position without the {@link GameMap} ever having been viewed
+     *
+     * @param position The position of interest, in in-game metres
+     * @see ChunkStreamer#focus(float, float, float, float)
+     */
+    void streamAround(Vector2 position) {
+        if (streamer != null)
+            streamer.focus(position.x, position.y, 0, 0);
+    }
+
     /**
      * Instructs the {@link OrthogonalTiledMapRenderer} to update its viewing position with respect to the
-     * {@link OrthographicCamera} game camera
+     * {@link OrthographicCamera} game camera, and brings the streamed chunks in view into residency
      *
      * @param gameCam The {@link OrthographicCamera} game camera against which the {@link Area} viewport should be
      *                aligned
      */
     void updateView(OrthographicCamera gameCam) {
+        if (renderer == null)
+            compile();
+
         renderer.setView(gameCam);
+        staticCache.setProjectionMatrix(gameCam.combined);
+
+        if (streamer != null) {
+            streamer.focus(gameCam.position.x, gameCam.position.y, gameCam.viewportWidth * gameCam.zoom / 2,
+                gameCam.viewportHeight * gameCam.zoom / 2);
+            streamer.prepareView(gameCam);
+        }
     }
 
     /**
@@ -111,31 +489,74 @@ class GameMap implements Drawable {
      */
     @Override
     public void dispose() {
-        renderer.dispose();
-        tiledMap.dispose();
+        if (renderer != null) {
+            renderer.dispose();
+            staticCache.dispose();
+        }
+
+        if (streamer != null)
+            streamer.dispose();
     }
 
     /**
-     * Renders the entire {@link GameMap}
+     * Renders the entire {@link GameMap} by following the {@link #renderPlan}
      *
      * @param batch Target of the rendering operation
-     * @implNote The {@link SpriteBatch} is not currently used as a target of the {@link OrthogonalTiledMapRenderer}
+     * @implNote The {@link SpriteBatch} is not used as a target of the {@link OrthogonalTiledMapRenderer} or the
+     *           {@link SpriteCache}; since each binds its own shader program, the batch is suspended for the duration,
+     *           and resumed afterwards with its own shader program and projection rebound.
+     * @apiNote {@link #updateView(OrthographicCamera)} must have been invoked at least once beforehand
      */
     @Override
     public void render(SpriteBatch batch) {
-        renderer.render();
+        final boolean suspended = batch.isDrawing();
+        if (suspended)
+            batch.end();
+
+        for (int step = 0; step < renderPlan.length; step++) {
+            if (renderPlan[step] == DYNAMIC_STEP) {
+                renderer.render(renderPlanLayers[step]);
+            } else if (renderPlan[step] == STREAMED_STEP) {
+                streamer.render();
+            } else {
+                // The cache does not manage blending itself; upper layers may be partially transparent
+                Gdx.gl.glEnable(GL20.GL_BLEND);
+                Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+                staticCache.begin();
+                staticCache.draw(renderPlan[step]);
+                staticCache.end();
+            }
+        }
+
+        if (suspended)
+            batch.begin();
+    }
+
+    /**
+     * Creates a new {@link GameMap} around the given loaded {@link TiledMap}, without streaming the collision geometry
+     * of any {@link StreamedTileLayer}s
+     *
+     * @param tiledMap The loaded {@link TiledMap}, which remains owned by the caller
+     * @throws InvalidAreaException The map was invalid could not be loaded into the area
+     * @see #GameMap(TiledMap, Area)
+     */
+    GameMap(TiledMap tiledMap) throws InvalidAreaException {
+        this(tiledMap, null);
     }
 
     /**
-     * Creates a new {@link GameMap} with the given map path
+     * Creates a new {@link GameMap} around the given loaded {@link TiledMap}
      *
-     * @param mapPath The path of the map
+     * @param tiledMap The loaded {@link TiledMap}, which remains owned by the caller
+     * @param owner The {@link Area} into which the collision geometry of any {@link StreamedTileLayer}s is streamed, or
+     *              null if it should not be
      * @throws InvalidAreaException The map was invalid could not be loaded into the area
-     * @apiNote The provided map path should correspond to a TMX Tiled file for use with {@link TmxMapLoader}
+     * @apiNote The provided map should have been loaded from a TMX Tiled file by a {@link TmxMapLoader}, or from its
+     *          compiled form by a {@link CompiledMapLoader}
      */
-    GameMap(String mapPath) throws InvalidAreaException {
-        tiledMap = new TmxMapLoader().load(mapPath);
-        renderer = new OrthogonalTiledMapRenderer(tiledMap, 1f / TILE_AXIS_LENGTH);
+    GameMap(TiledMap tiledMap, Area owner) throws InvalidAreaException {
+        this.tiledMap = tiledMap;
 
         final MapProperties properties = tiledMap.getProperties();
 
@@ -146,5 +567,10 @@ class GameMap implements Drawable {
         if (properties.get("tilewidth", Integer.class) != TILE_AXIS_LENGTH ||
                 properties.get("tileheight", Integer.class) != TILE_AXIS_LENGTH)
             throw new InvalidAreaException("Tiles are of invalid pixel-dimensions");
+
+        final Array<StreamedTileLayer> streamedLayers = tiledMap.getLayers().getByType(StreamedTileLayer.class);
+        streamer = streamedLayers.isEmpty()
+            ? null
+            : new ChunkStreamer(streamedLayers.toArray(StreamedTileLayer.class), owner, scale(TILE_AXIS_LENGTH));
     }
 }
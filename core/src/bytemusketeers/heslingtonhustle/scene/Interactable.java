@@ -2,8 +2,8 @@ package bytemusketeers.heslingtonhustle.scene;
 
 import bytemusketeers.heslingtonhustle.HeslingtonHustle;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 
 /**
@@ -52,18 +52,29 @@ class Interactable extends Item {
         return getPosition().dst2(position) <= interactionThreshold;
     }
 
+    /**
+     * Retrieves the maximum interaction distance
+     *
+     * @return The greatest Euclidean distance, in in-game metres, from which {@link #isClose(Vector2)} holds
+     * @see InteractableIndex
+     */
+    float getReach() {
+        return (float) Math.sqrt(interactionThreshold);
+    }
+
     /**
      * Instantiates a new {@link Interactable} {@link Item} with the given initial parameters
      *
      * @param position The initial position of the {@link Interactable}, specified as in-game metre components
-     * @param texture The initial {@link Sprite} {@link Texture}
+     * @param region The initial {@link Sprite} {@link TextureRegion}
      * @param area The {@link Area} into which the {@link Interactable} should be drawn
      * @param width The initial width, in in-game metres
      * @param height The initial height, in in-game metres
      * @param action The {@link Runnable} method to execute upon interaction
      */
-    private Interactable(Vector2 position, Texture texture, Area area, float width, float height, Runnable action) {
-        super(position, texture, area, width, height);
+    private Interactable(Vector2 position, TextureRegion region, Area area, float width, float height,
+                         Runnable action) {
+        super(position, region, area, width, height);
         this.action = action;
         interactionThreshold = (width + height) / 2;
     }
@@ -72,13 +83,14 @@ class Interactable extends Item {
      * Instantiates a new {@link Interactable} {@link Item} with the given initial parameters
      *
      * @param position The initial position of the {@link Interactable}, specified as in-game metre components
-     * @param texture The initial {@link Sprite} {@link Texture}
+     * @param region The initial {@link Sprite} {@link TextureRegion}
      * @param area The {@link Area} into which the {@link Interactable} should be drawn
-     * @param scale The multiplier by which the size of the {@link Texture} should be scaled, preserving aspect ratio
+     * @param scale The multiplier by which the size of the {@link TextureRegion} should be scaled, preserving aspect
+     *              ratio
      * @param action The {@link Runnable} method to execute upon interaction
      */
-    Interactable(Vector2 position, Texture texture, Area area, float scale, Runnable action) {
-        this(position, texture, area, HeslingtonHustle.scaleToMetres(texture.getWidth() * scale),
-            HeslingtonHustle.scaleToMetres(texture.getHeight() * scale), action);
+    Interactable(Vector2 position, TextureRegion region, Area area, float scale, Runnable action) {
+        this(position, region, area, HeslingtonHustle.scaleToMetres(region.getRegionWidth() * scale),
+            HeslingtonHustle.scaleToMetres(region.getRegionHeight() * scale), action);
     }
 }
@@ -0,0 +1,248 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * An {@link InteractableIndex} is a sparse uniform-grid spatial index over the {@link Interactable} objects of an
+ * {@link Area}, answering reach, radius, and nearest-neighbour queries by inspecting only the grid cells near the
+ * queried position, rather than every {@link Interactable} in the {@link Area}.
+ *
+ * @implNote Each {@link Interactable} is bucketed solely by the cell containing its centre, and reach queries widen
+ *           their search by the greatest reach of any indexed {@link Interactable}. Since the grid is keyed by hashed
+ *           cell coordinates, it need not know the extent of the {@link Area}, and empty cells occupy no memory.
+ *           {@link Interactable} objects are static, so are never re-bucketed.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Area#triggerInteractables(Vector2)
+ */
+class InteractableIndex {
+    /**
+     * The side length of each square grid cell, in in-game metres
+     *
+     * @implNote This comfortably exceeds the reach of every standard {@link Interactable}, so a reach query inspects at
+     *           most a three-by-three block of cells
+     */
+    private static final float CELL_SIZE = 4;
+
+    /**
+     * The populated grid cells, keyed by their packed coordinates
+     *
+     * @see #key(int, int)
+     */
+    private final LongMap<Array<Interactable>> cells = new LongMap<>();
+
+    /**
+     * The greatest {@link Interactable#getReach()} of any indexed {@link Interactable}, in in-game metres
+     */
+    private float maxReach = 0;
+
+    /**
+     * The number of indexed {@link Interactable} objects
+     */
+    private int size = 0;
+
+    /**
+     * The least horizontal coordinate of any populated cell
+     */
+    private int minColumn = Integer.MAX_VALUE;
+
+    /**
+     * The greatest horizontal coordinate of any populated cell
+     */
+    private int maxColumn = Integer.MIN_VALUE;
+
+    /**
+     * The least vertical coordinate of any populated cell
+     */
+    private int minRow = Integer.MAX_VALUE;
+
+    /**
+     * The greatest vertical coordinate of any populated cell
+     */
+    private int maxRow = Integer.MIN_VALUE;
+
+    /**
+     * Packs the given grid cell coordinates into a single {@link LongMap} key
+     *
+     * @param column The horizontal cell coordinate
+     * @param row The vertical cell coordinate
+     * @return The packed key
+     */
+    private static long key(int column, int row) {
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Determines the grid cell coordinate containing the given in-game metre coordinate
+     *
+     * @param coordinate The coordinate along either axis, in in-game metres
+     * @return The corresponding cell coordinate along the same axis
+     */
+    private static int cell(float coordinate) {
+        return MathUtils.floor(coordinate / CELL_SIZE);
+    }
+
+    /**
+     * Indexes the given {@link Interactable} by its current position
+     *
+     * @param interactable The {@link Interactable} to index
+     */
+    void add(Interactable interactable) {
+        final Vector2 position = interactable.getPosition();
+        final int column = cell(position.x);
+        final int row = cell(position.y);
+        final long key = key(column, row);
+
+        Array<Interactable> bucket = cells.get(key);
+        if (bucket == null) {
+            bucket = new Array<>(false, 4);
+            cells.put(key, bucket);
+        }
+
+        bucket.add(interactable);
+        maxReach = Math.max(maxReach, interactable.getReach());
+        minColumn = Math.min(minColumn, column);
+        maxColumn = Math.max(maxColumn, column);
+        minRow = Math.min(minRow, row);
+        maxRow = Math.max(maxRow, row);
+        size++;
+    }
+
+    /**
+     * Retrieves the number of indexed {@link Interactable} objects
+     *
+     * @return The size of the {@link InteractableIndex}
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Collects every {@link Interactable} whose centre lies within the given distance of the given position
+     *
+     * @param position The centre of the query, in in-game metres
+     * @param radius The radius of the query, in in-game metres
+     * @param out The {@link Array} to which the matching {@link Interactable} objects are appended
+     * @return The number of matching {@link Interactable} objects appended
+     * @implNote No memory is allocated, so this may be called every frame with a reused {@link Array}
+     */
+    int findWithin(Vector2 position, float radius, Array<Interactable> out) {
+        final float radius2 = radius * radius;
+        final int previousSize = out.size;
+
+        for (int column = cell(position.x - radius); column <= cell(position.x + radius); column++)
+            for (int row = cell(position.y - radius); row <= cell(position.y + radius); row++) {
+                final Array<Interactable> bucket = cells.get(key(column, row));
+                if (bucket == null)
+                    continue;
+
+                for (int i = 0; i < bucket.size; i++)
+                    if (bucket.get(i).getPosition().dst2(position) <= radius2)
+                        out.add(bucket.get(i));
+            }
+
+        return out.size - previousSize;
+    }
+
+    /**
+     * Collects every {@link Interactable} within whose reach the given position lies
+     *
+     * @param position The position of the prospective interactor, in in-game metres
+     * @param out The {@link Array} to which the reachable {@link Interactable} objects are appended
+     * @return The number of reachable {@link Interactable} objects appended
+     * @implNote No memory is allocated, so this may be called every frame with a reused {@link Array}
+     * @see Interactable#isClose(Vector2)
+     */
+    int findInReach(Vector2 position, Array<Interactable> out) {
+        final int previousSize = out.size;
+
+        for (int column = cell(position.x - maxReach); column <= cell(position.x + maxReach); column++)
+            for (int row = cell(position.y - maxReach); row <= cell(position.y + maxReach); row++) {
+                final Array<Interactable> bucket = cells.get(key(column, row));
+                if (bucket == null)
+                    continue;
+
+                for (int i = 0; i < bucket.size; i++)
+                    if (bucket.get(i).isClose(position))
+                        out.add(bucket.get(i));
+            }
+
+        return out.size - previousSize;
+    }
+
+    /**
+     * Determines whether the given position lies within the reach of any {@link Interactable}
+     *
+     * @param position The position of the prospective interactor, in in-game metres
+     * @return Would an interaction from the given position reach at least one {@link Interactable}?
+     * @see #findInReach(Vector2, Array)
+     */
+    boolean anyInReach(Vector2 position) {
+        for (int column = cell(position.x - maxReach); column <= cell(position.x + maxReach); column++)
+            for (int row = cell(position.y - maxReach); row <= cell(position.y + maxReach); row++) {
+                final Array<Interactable> bucket = cells.get(key(column, row));
+                if (bucket == null)
+                    continue;
+
+                for (int i = 0; i < bucket.size; i++)
+                    if (bucket.get(i).isClose(position))
+                        return true;
+            }
+
+        return false;
+    }
+
+    /**
+     * Finds the {@link Interactable} whose centre lies nearest the given position, within the given distance
+     *
+     * @param position The centre of the query, in in-game metres
+     * @param maxDistance The greatest distance to search, in in-game metres
+     * @return The nearest {@link Interactable}, or null if none lies within {@code maxDistance}
+     * @implNote The search proceeds over square rings of cells centred on the cell containing the position, and stops
+     *           as soon as no unvisited ring could hold a nearer {@link Interactable}, or every populated cell has
+     *           been visited
+     */
+    Interactable findNearest(Vector2 position, float maxDistance) {
+        if (size == 0)
+            return null;
+
+        final int centreColumn = cell(position.x);
+        final int centreRow = cell(position.y);
+        final int coveringRing = Math.max(Math.max(centreColumn - minColumn, maxColumn - centreColumn),
+            Math.max(centreRow - minRow, maxRow - centreRow));
+        final int maxRing = (int) Math.min(Math.ceil(maxDistance / CELL_SIZE), coveringRing);
+
+        Interactable nearest = null;
+        float nearestDistance2 = maxDistance * maxDistance;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Every cell in this ring lies at least (ring - 1) cells' width away from the position
+            final float ringDistance = Math.max(0, ring - 1) * CELL_SIZE;
+            if (ringDistance * ringDistance > nearestDistance2)
+                break;
+
+            for (int column = centreColumn - ring; column <= centreColumn + ring; column++)
+                for (int row = centreRow - ring; row <= centreRow + ring; row++) {
+                    // Visit only the perimeter; the interior was visited by the smaller rings
+                    if (Math.abs(column - centreColumn) != ring && Math.abs(row - centreRow) != ring)
+                        continue;
+
+                    final Array<Interactable> bucket = cells.get(key(column, row));
+                    if (bucket == null)
+                        continue;
+
+                    for (int i = 0; i < bucket.size; i++) {
+                        final float distance2 = bucket.get(i).getPosition().dst2(position);
+                        if (distance2 <= nearestDistance2) {
+                            nearest = bucket.get(i);
+                            nearestDistance2 = distance2;
+                        }
+                    }
+                }
+        }
+
+        return nearest;
+    }
+}
@@ -3,6 +3,8 @@ package bytemusketeers.heslingtonhustle.scene;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -14,9 +16,10 @@ import com.badlogic.gdx.physics.box2d.BodyDef;
  */
 class Item implements Drawable {
     /**
-     * The LibGDX {@link Drawable} graphical representation of the {@link Sprite}
+     * The LibGDX {@link Drawable} graphical representation of the {@link Sprite}: a region of the shared texture atlas
+     * page, which is owned by the {@link AreaLoader}
      */
-    private final Texture texture;
+    private final TextureRegion region;
 
     /**
      * The width of the {@link Item}, in in-game metres
@@ -35,13 +38,21 @@ class Item implements Drawable {
      */
     private final Body body;
 
+    /**
+     * The draw layer of the {@link Item}; {@link Item}s of greater layers are drawn above those of lesser layers
+     *
+     * @see RenderQueue
+     */
+    private int layer = 0;
+
     /**
      * Releases all resources used by the {@link Item}
+     *
+     * @implNote The {@link #region} texture is released by the {@link AreaLoader}, and the {@link #body} by its
+     *           {@link com.badlogic.gdx.physics.box2d.World}, so there is nothing for the {@link Item} to release
      */
     @Override
-    public void dispose() {
-        texture.dispose();
-    }
+    public void dispose() { }
 
     /**
      * Registers the current {@link Item} onto the given game instance {@link SpriteBatch}
@@ -50,7 +61,7 @@ class Item implements Drawable {
      */
     @Override
     public void render(SpriteBatch batch) {
-        batch.draw(texture, body.getPosition().x - (width / 2),body.getPosition().y - (height / 2), width,
+        batch.draw(region, body.getPosition().x - (width / 2),body.getPosition().y - (height / 2), width,
             height);
     }
 
@@ -63,17 +74,71 @@ class Item implements Drawable {
         return body.getPosition();
     }
 
+    /**
+     * Retrieves the collision bounds of the {@link Item}
+     *
+     * @param bounds The {@link Rectangle} into which the bounds are written, in in-game metres
+     * @return The given {@code bounds}, for convenience
+     */
+    Rectangle getBounds(Rectangle bounds) {
+        final Vector2 position = body.getPosition();
+        return bounds.set(position.x - width / 2, position.y - height / 2, width, height);
+    }
+
+    /**
+     * Does any part of the {@link Item} lie within the given region?
+     *
+     * @param region The region in question, in in-game metres
+     * @return Does the drawn extent of the {@link Item} overlap the region?
+     * @see RenderQueue#submit(Item)
+     */
+    boolean overlaps(Rectangle region) {
+        final Vector2 position = body.getPosition();
+
+        return position.x - width / 2 < region.x + region.width && position.x + width / 2 > region.x
+            && position.y - height / 2 < region.y + region.height && position.y + height / 2 > region.y;
+    }
+
+    /**
+     * Retrieves the {@link Texture} from which the {@link Item} is drawn
+     *
+     * @return The texture atlas page holding the {@link #region}
+     */
+    Texture getTexture() {
+        return region.getTexture();
+    }
+
+    /**
+     * Retrieves the draw layer of the {@link Item}
+     *
+     * @return The draw layer, which is zero unless otherwise set
+     * @see #setLayer(int)
+     */
+    int getLayer() {
+        return layer;
+    }
+
+    /**
+     * Sets the draw layer of the {@link Item}, e.g. such that it is drawn above its neighbours
+     *
+     * @param layer The new draw layer
+     * @see AreaFactory
+     */
+    void setLayer(int layer) {
+        this.layer = layer;
+    }
+
     /**
      * Instantiates a new {@link Item} with the given initial parameters
      *
      * @param position The initial position of the {@link Item}, specified as in-game metre components
-     * @param texture The initial {@link Sprite} {@link Texture}
+     * @param region The initial {@link Sprite} {@link TextureRegion}
      * @param area The {@link Area} into which the {@link Item} should be drawn
      * @param width The initial width, in in-game metres
      * @param height The initial height, in in-game metres
      */
-    Item(Vector2 position, Texture texture, Area area, float width, float height) {
-        this.texture = texture;
+    Item(Vector2 position, TextureRegion region, Area area, float width, float height) {
+        this.region = region;
         this.width = width;
         this.height = height;
 
@@ -0,0 +1,98 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import bytemusketeers.heslingtonhustle.diagnostics.MapLoadEvent;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The {@link MapLoadParameters} of a queued tile-map carry the {@link MapLoadEvent} recording its load, which begins
+ * only once the {@link AssetManager} begins upon the tile-map, rather than upon its being queued, such that the event
+ * spans the load of that tile-map alone, however many assets were queued before it. The time spent queued is recorded
+ * separately.
+ *
+ * @implNote The parameters are accepted by either tile-map loader, since they extend those of the {@link TmxMapLoader},
+ *           and the {@link CompiledMapLoader} accepts parameters of any kind. Each loader begins the event from its
+ *           {@code getDependencies}, the first call made by the {@link AssetManager} upon an asset.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see AreaLoader#queue(Area.Name)
+ */
+final class MapLoadParameters extends TmxMapLoader.Parameters {
+    /**
+     * A {@link TmxMapLoader} which begins the {@link MapLoadEvent} of the tile-map it loads, if any
+     */
+    static final class TimedTmxMapLoader extends TmxMapLoader {
+        /**
+         * Begins the {@link MapLoadEvent} of the TMX tile-map, then declares its dependencies as usual
+         *
+         * @param fileName The path of the TMX tile-map
+         * @param tmxFile The resolved TMX tile-map
+         * @param parameter The parameters of the load, which begin a {@link MapLoadEvent} if they are
+         *                  {@link MapLoadParameters}
+         * @return The dependencies of the TMX tile-map
+         */
+        @Override
+        public Array<AssetDescriptor> getDependencies(String fileName, FileHandle tmxFile,
+                                                      TmxMapLoader.Parameters parameter) {
+            begin(parameter);
+            return super.getDependencies(fileName, tmxFile, parameter);
+        }
+
+        /**
+         * Instantiates a new {@link TimedTmxMapLoader}
+         *
+         * @param resolver The resolver of every TMX tile-map and tileset image
+         */
+        TimedTmxMapLoader(FileHandleResolver resolver) {
+            super(resolver);
+        }
+    }
+
+    /**
+     * The {@link MapLoadEvent} recording the load, committed once the tile-map is available
+     */
+    private final MapLoadEvent event = new MapLoadEvent();
+
+    /**
+     * The {@link System#nanoTime()} at which the tile-map was queued
+     */
+    private final long queued = System.nanoTime();
+
+    /**
+     * Begins the {@link MapLoadEvent} carried by the given parameters, if any; this should be called as the loader
+     * begins upon the tile-map
+     *
+     * @param parameter The parameters of the load of a tile-map, which may be of any kind, or null
+     */
+    static void begin(AssetLoaderParameters<?> parameter) {
+        if (parameter instanceof MapLoadParameters) {
+            final MapLoadParameters parameters = (MapLoadParameters) parameter;
+            parameters.event.queueWait = System.nanoTime() - parameters.queued;
+            parameters.event.begin();
+        }
+    }
+
+    /**
+     * Instantiates new {@link MapLoadParameters} for a tile-map which is about to be queued, whose
+     * {@link MapLoadEvent} is committed by the loaded callback
+     */
+    MapLoadParameters() {
+        loadedCallback = (assetManager, fileName, type) -> {
+            if (!event.shouldCommit())
+                return;
+
+            final MapProperties properties = assetManager.get(fileName, TiledMap.class).getProperties();
+            event.path = fileName;
+            event.compiled = fileName.endsWith(CompiledMapLoader.SUFFIX);
+            event.width = properties.get("width", 0, Integer.class);
+            event.height = properties.get("height", 0, Integer.class);
+            event.commit();
+        };
+    }
+}
@@ -0,0 +1,314 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * A {@link NavigationGrid} rasterises the static collision geometry of an {@link Area} into one cell per tile, i.e.
+ * per in-game metre, such that entities simulated outside of Box2D, e.g. the {@link Crowd}, may test for collision by
+ * a single array lookup.
+ *
+ * @implNote A cell is blocked if any collision rectangle overlaps it at all, so the grid is conservative: an entity
+ *           confined to unblocked cells never intersects the geometry from which the grid was derived
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Area#generateCollision()
+ */
+final class NavigationGrid {
+    /**
+     * The number of steps from a cell to its neighbours, of which the first {@link #ORTHOGONAL_STEPS} are orthogonal
+     */
+    static final int STEPS = 8;
+
+    /**
+     * The number of orthogonal steps at the start of the steps
+     */
+    private static final int ORTHOGONAL_STEPS = 4;
+
+    /**
+     * The cost of an orthogonal step between cells
+     */
+    static final int ORTHOGONAL_COST = 10;
+
+    /**
+     * The cost of a diagonal step between cells, approximating {@link #ORTHOGONAL_COST} multiplied by the square root
+     * of two
+     */
+    static final int DIAGONAL_COST = 14;
+
+    /**
+     * The horizontal offset of each step; each step is paired with its opposite, such that the opposite of a step is
+     * its index with the least significant bit flipped
+     */
+    private static final int[] STEP_COLUMNS = { 1, -1, 0, 0, 1, -1, 1, -1 };
+
+    /**
+     * The vertical offset of each step, paired as in {@link #STEP_COLUMNS}
+     */
+    private static final int[] STEP_ROWS = { 0, 0, 1, -1, 1, -1, -1, 1 };
+
+    /**
+     * The width of the grid, in cells
+     */
+    private final int width;
+
+    /**
+     * The height of the grid, in cells
+     */
+    private final int height;
+
+    /**
+     * Is each cell blocked? Indexed by {@code row * width + column}, bottom row first.
+     */
+    private final boolean[] blocked;
+
+    /**
+     * Retrieves the width of the grid
+     *
+     * @return The width, in cells
+     */
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * Retrieves the height of the grid
+     *
+     * @return The height, in cells
+     */
+    int getHeight() {
+        return height;
+    }
+
+    /**
+     * Blocks every cell overlapped by the given rectangle
+     *
+     * @param rectangle The collision rectangle, in in-game metres
+     * @see #block(Rectangle, IntArray)
+     */
+    void block(Rectangle rectangle) {
+        block(rectangle, null);
+    }
+
+    /**
+     * Blocks every cell overlapped by the given rectangle, recording those which were not already blocked
+     *
+     * @param rectangle The collision rectangle, in in-game metres
+     * @param changed The array to which the index of each newly blocked cell is appended, or null
+     * @see FlowFields#refresh(IntArray)
+     */
+    void block(Rectangle rectangle, IntArray changed) {
+        // Degenerate rectangles, e.g. border lines, still block the cells upon which they lie
+        final int firstColumn = Math.max(0, (int) Math.floor(rectangle.x));
+        final int firstRow = Math.max(0, (int) Math.floor(rectangle.y));
+        final int lastColumn = Math.min(width - 1,
+            Math.max(firstColumn, (int) Math.ceil(rectangle.x + rectangle.width) - 1));
+        final int lastRow = Math.min(height - 1,
+            Math.max(firstRow, (int) Math.ceil(rectangle.y + rectangle.height) - 1));
+
+        for (int row = firstRow; row <= lastRow; row++)
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                final int cell = row * width + column;
+                if (blocked[cell])
+                    continue;
+
+                blocked[cell] = true;
+                if (changed != null)
+                    changed.add(cell);
+            }
+    }
+
+    /**
+     * Blocks every cell overlapped by the given rectangles
+     *
+     * @param rectangles The collision rectangles, in in-game metres
+     * @see #block(Rectangle)
+     */
+    void block(Array<Rectangle> rectangles) {
+        for (Rectangle rectangle : rectangles)
+            block(rectangle);
+    }
+
+    /**
+     * Retrieves the neighbour of the given cell in the direction of the given step, regardless of whether either is
+     * blocked
+     *
+     * @param cell The index of the cell
+     * @param step The direction of the neighbour, in [0, {@link #STEPS})
+     * @return The index of the neighbouring cell, or -1 if it is outside the grid
+     * @see #step(int, int)
+     */
+    int getNeighbour(int cell, int step) {
+        final int column = cell % width + STEP_COLUMNS[step];
+        final int row = cell / width + STEP_ROWS[step];
+
+        if (column < 0 || row < 0 || column >= width || row >= height)
+            return -1;
+
+        return row * width + column;
+    }
+
+    /**
+     * Takes the given step from the given cell, such that every search moves alike: in eight directions, without
+     * cutting the corners of blocked cells
+     *
+     * @param cell The index of the cell from which to step
+     * @param step The step to take, in [0, {@link #STEPS})
+     * @return The index of the neighbouring cell, or -1 if it is blocked, outside the grid, or reached only by cutting
+     *         the corner of a blocked cell
+     * @implNote The rule is symmetric between unblocked cells, so a step is permitted exactly when its opposite is
+     *           permitted from the neighbour
+     */
+    int step(int cell, int step) {
+        final int column = cell % width;
+        final int row = cell / width;
+        final int neighbourColumn = column + STEP_COLUMNS[step];
+        final int neighbourRow = row + STEP_ROWS[step];
+
+        if (isBlocked(neighbourColumn, neighbourRow))
+            return -1;
+
+        if (step >= ORTHOGONAL_STEPS && (isBlocked(neighbourColumn, row) || isBlocked(column, neighbourRow)))
+            return -1;
+
+        return neighbourRow * width + neighbourColumn;
+    }
+
+    /**
+     * Retrieves the cost of the given step
+     *
+     * @param step The step, in [0, {@link #STEPS})
+     * @return {@link #ORTHOGONAL_COST} or {@link #DIAGONAL_COST}
+     */
+    static int getStepCost(int step) {
+        return step < ORTHOGONAL_STEPS ? ORTHOGONAL_COST : DIAGONAL_COST;
+    }
+
+    /**
+     * Retrieves the opposite of the given step
+     *
+     * @param step The step, in [0, {@link #STEPS})
+     * @return The step returning whence the given step came
+     */
+    static int getOppositeStep(int step) {
+        return step ^ 1;
+    }
+
+    /**
+     * Retrieves the index of the cell containing the given position, clamped to the grid
+     *
+     * @param x The horizontal position, in in-game metres
+     * @param y The vertical position, in in-game metres
+     * @return The index of the cell, being {@code row * width + column}
+     * @see PathFinder#find(int, int)
+     */
+    int getCell(float x, float y) {
+        return MathUtils.clamp((int) Math.floor(y), 0, height - 1) * width
+            + MathUtils.clamp((int) Math.floor(x), 0, width - 1);
+    }
+
+    /**
+     * Retrieves the horizontal position of the centre of the given cell
+     *
+     * @param cell The index of the cell
+     * @return The horizontal position, in in-game metres
+     */
+    float getCentreX(int cell) {
+        return cell % width + 0.5f;
+    }
+
+    /**
+     * Retrieves the vertical position of the centre of the given cell
+     *
+     * @param cell The index of the cell
+     * @return The vertical position, in in-game metres
+     */
+    float getCentreY(int cell) {
+        return cell / width + 0.5f;
+    }
+
+    /**
+     * Is the given cell blocked?
+     *
+     * @param cell The index of the cell
+     * @return Is the cell blocked?
+     */
+    boolean isBlocked(int cell) {
+        return blocked[cell];
+    }
+
+    /**
+     * Is the given cell blocked?
+     *
+     * @param column The horizontal cell coordinate
+     * @param row The vertical cell coordinate, counted from the bottom of the grid
+     * @return Is the cell blocked, or outside the grid?
+     */
+    boolean isBlocked(int column, int row) {
+        return column < 0 || row < 0 || column >= width || row >= height || blocked[row * width + column];
+    }
+
+    /**
+     * Is the cell containing the given position blocked?
+     *
+     * @param x The horizontal position, in in-game metres
+     * @param y The vertical position, in in-game metres
+     * @return Is the position blocked, or outside the grid?
+     */
+    boolean isBlocked(float x, float y) {
+        // Truncation rounds towards zero, so negative positions must be rejected before the cast
+        return x < 0 || y < 0 || isBlocked((int) x, (int) y);
+    }
+
+    /**
+     * Finds the unblocked cell nearest the given position, searching outwards in square rings
+     *
+     * @param x The horizontal position, in in-game metres
+     * @param y The vertical position, in in-game metres
+     * @param nearest The vector into which the centre of the nearest unblocked cell is written, in in-game metres
+     * @return The given {@code nearest} vector, for convenience
+     * @apiNote The grid must not be fully blocked
+     * @see #isFullyBlocked()
+     */
+    Vector2 findNearestUnblocked(float x, float y, Vector2 nearest) {
+        final int cell = getCell(x, y);
+        final int column = cell % width;
+        final int row = cell / width;
+
+        for (int radius = 0; radius < Math.max(width, height); radius++)
+            for (int r = row - radius; r <= row + radius; r++)
+                for (int c = column - radius; c <= column + radius; c++)
+                    if ((Math.abs(r - row) == radius || Math.abs(c - column) == radius) && !isBlocked(c, r))
+                        return nearest.set(c + 0.5f, r + 0.5f);
+
+        return nearest.set(column + 0.5f, row + 0.5f);
+    }
+
+    /**
+     * Is every cell of the grid blocked, such that nothing may be placed upon it?
+     *
+     * @return Is there no unblocked cell?
+     */
+    boolean isFullyBlocked() {
+        for (boolean cell : blocked)
+            if (!cell)
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Instantiates a new {@link NavigationGrid} in which no cell is blocked
+     *
+     * @param width The width of the grid, in cells
+     * @param height The height of the grid, in cells
+     * @see #block(Array)
+     */
+    NavigationGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        blocked = new boolean[width * height];
+    }
+}
@@ -0,0 +1,246 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link PathFinder} answers route queries between cells of a {@link NavigationGrid} by A* search, moving as
+ * permitted by {@link NavigationGrid#step(int, int)}. Each route is a sequence of cell indices, from start to
+ * goal inclusive, which is shared between every requester and must not be modified.
+ *
+ * @implNote Routes between frequently used cells, e.g. between every {@link Interactable}, are pinned by
+ *           {@link #pin(int, int)}, and never evicted; every other route is retained in a least-recently-used cache of
+ *           bounded capacity, keyed by its start and goal cells. The search itself allocates nothing but the route: its
+ *           scratch arrays are sized to the grid once, and are reset in constant time by a generation counter.
+ * @apiNote The {@link PathFinder} is not thread-safe; the {@link Crowd} only queries it from its sequential merge phase
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see NavigationGrid
+ * @see Area#findRoute(com.badlogic.gdx.math.Vector2, com.badlogic.gdx.math.Vector2, com.badlogic.gdx.utils.FloatArray)
+ */
+final class PathFinder {
+    /**
+     * The cached result of a query between disconnected cells, such that repeating it costs no search
+     */
+    private static final int[] NO_ROUTE = new int[0];
+
+    /**
+     * The {@link NavigationGrid} through which routes are found
+     */
+    private final NavigationGrid grid;
+
+    /**
+     * The routes retained regardless of use, keyed by {@link #key(int, int)}
+     *
+     * @see #pin(int, int)
+     */
+    private final Map<Long, int[]> pinned = new HashMap<>();
+
+    /**
+     * The most recently used routes, keyed by {@link #key(int, int)}, in order of access
+     */
+    private final LinkedHashMap<Long, int[]> cache;
+
+    /**
+     * The cost of the cheapest known route from the start to each cell, valid only if its {@link #visited} stamp is
+     * the current {@link #generation}
+     */
+    private final int[] cost;
+
+    /**
+     * The preceding cell of the cheapest known route from the start to each cell
+     */
+    private final int[] parent;
+
+    /**
+     * The {@link #generation} in which each cell was last reached
+     */
+    private final int[] visited;
+
+    /**
+     * The {@link #generation} in which each cell was last expanded
+     */
+    private final int[] closed;
+
+    /**
+     * The open cells, ordered by the estimated total cost of a route through each, i.e. its {@link #cost} plus the
+     * heuristic
+     */
+    private final CellHeap open;
+
+    /**
+     * The stamp of the current search, such that the scratch arrays need not be cleared between searches
+     */
+    private int generation = 0;
+
+    /**
+     * Combines the given start and goal cells into a single cache key
+     *
+     * @param start The index of the start cell
+     * @param goal The index of the goal cell
+     * @return The key of the route from the start to the goal
+     */
+    private static long key(int start, int goal) {
+        return ((long) start << Integer.SIZE) | (goal & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Estimates the cost of the cheapest route between the given cells, assuming nothing to be blocked
+     *
+     * @param cell The index of the cell from which to estimate
+     * @param goal The index of the goal cell
+     * @return The octile distance between the cells, which never overestimates
+     */
+    private int estimate(int cell, int goal) {
+        final int width = grid.getWidth();
+        final int dx = Math.abs(cell % width - goal % width);
+        final int dy = Math.abs(cell / width - goal / width);
+
+        return NavigationGrid.ORTHOGONAL_COST * (dx + dy)
+            + (NavigationGrid.DIAGONAL_COST - 2 * NavigationGrid.ORTHOGONAL_COST) * Math.min(dx, dy);
+    }
+
+    /**
+     * Searches for the cheapest route between the given cells
+     *
+     * @param start The index of the start cell
+     * @param goal The index of the goal cell
+     * @return The cells of the route, from start to goal inclusive, or {@link #NO_ROUTE} if the goal is unreachable
+     */
+    private int[] search(int start, int goal) {
+        if (grid.isBlocked(goal % grid.getWidth(), goal / grid.getWidth()))
+            return NO_ROUTE;
+
+        // Upon the stamp wrapping around, stale stamps could collide with the new generations, so they are cleared
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+
+        open.clear();
+        cost[start] = 0;
+        parent[start] = -1;
+        visited[start] = generation;
+        open.add(start, estimate(start, goal));
+
+        while (!open.isEmpty()) {
+            final int cell = open.pop();
+            if (cell == goal)
+                return reconstruct(goal);
+
+            closed[cell] = generation;
+
+            for (int step = 0; step < NavigationGrid.STEPS; step++) {
+                final int neighbour = grid.step(cell, step);
+                if (neighbour < 0 || closed[neighbour] == generation)
+                    continue;
+
+                final int candidate = cost[cell] + NavigationGrid.getStepCost(step);
+                final boolean reached = visited[neighbour] == generation;
+
+                if (reached && candidate >= cost[neighbour])
+                    continue;
+
+                cost[neighbour] = candidate;
+                parent[neighbour] = cell;
+
+                if (reached) {
+                    open.decrease(neighbour, candidate + estimate(neighbour, goal));
+                } else {
+                    visited[neighbour] = generation;
+                    open.add(neighbour, candidate + estimate(neighbour, goal));
+                }
+            }
+        }
+
+        return NO_ROUTE;
+    }
+
+    /**
+     * Follows the {@link #parent} of each cell back from the given goal, to the start of the latest search
+     *
+     * @param goal The index of the goal cell
+     * @return The cells of the route, from start to goal inclusive
+     */
+    private int[] reconstruct(int goal) {
+        int length = 0;
+        for (int cell = goal; cell != -1; cell = parent[cell])
+            length++;
+
+        final int[] route = new int[length];
+        for (int cell = goal; cell != -1; cell = parent[cell])
+            route[--length] = cell;
+
+        return route;
+    }
+
+    /**
+     * Finds the cheapest route between the given cells, from the pinned routes or the cache if possible
+     *
+     * @param start The index of the start cell
+     * @param goal The index of the goal cell
+     * @return The cells of the route, from start to goal inclusive, or null if the goal is blocked or unreachable
+     * @see NavigationGrid#getCell(float, float)
+     */
+    int[] find(int start, int goal) {
+        final Long key = key(start, goal);
+        int[] route = pinned.get(key);
+
+        if (route == null)
+            route = cache.get(key);
+
+        if (route == null) {
+            route = search(start, goal);
+            cache.put(key, route);
+        }
+
+        return route == NO_ROUTE ? null : route;
+    }
+
+    /**
+     * Computes the route between the given cells, and retains it for the lifetime of the {@link NavigationGrid}
+     *
+     * @param start The index of the start cell
+     * @param goal The index of the goal cell
+     */
+    void pin(int start, int goal) {
+        final Long key = key(start, goal);
+
+        if (!pinned.containsKey(key))
+            pinned.put(key, search(start, goal));
+    }
+
+    /**
+     * Discards every retained route, including the pinned routes, e.g. upon the {@link NavigationGrid} changing
+     */
+    void invalidate() {
+        pinned.clear();
+        cache.clear();
+    }
+
+    /**
+     * Instantiates a new {@link PathFinder} over the given {@link NavigationGrid}
+     *
+     * @param grid The {@link NavigationGrid} through which routes are found
+     * @param capacity The greatest number of unpinned routes retained
+     */
+    PathFinder(NavigationGrid grid, int capacity) {
+        this.grid = grid;
+
+        final int cells = grid.getWidth() * grid.getHeight();
+        cost = new int[cells];
+        parent = new int[cells];
+        visited = new int[cells];
+        closed = new int[cells];
+        open = new CellHeap(cells);
+
+        cache = new LinkedHashMap<Long, int[]>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Comparator;
+
+/**
+ * A {@link RenderQueue} is the final stage through which the {@link Item}s of an {@link Area} reach the
+ * {@link SpriteBatch}: those outside the view of the {@link OrthographicCamera} are culled upon submission, and the
+ * survivors are sorted by layer and then by texture before being drawn, such that the {@link SpriteBatch} flushes only
+ * where the texture genuinely changes.
+ *
+ * @implNote The sort is stable, so {@link Item}s sharing a layer and texture are drawn in submission order. Since the
+ *           submissions barely change from one frame to the next, and the sort adapts to pre-sorted runs, sorting
+ *           is cheap, and allocates no memory.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see Area#render(SpriteBatch)
+ */
+class RenderQueue {
+    /**
+     * The draw order of the queued {@link Item}s: ascending layer, and then grouped by texture
+     *
+     * @see Item#getLayer()
+     */
+    private static final Comparator<Item> DRAW_ORDER = (a, b) -> {
+        if (a.getLayer() != b.getLayer())
+            return Integer.compare(a.getLayer(), b.getLayer());
+
+        return Integer.compare(a.getTexture().getTextureObjectHandle(), b.getTexture().getTextureObjectHandle());
+    };
+
+    /**
+     * The visible {@link Item}s submitted since the last {@link #flush(SpriteBatch)}
+     */
+    private final Array<Item> queued = new Array<>(true, 16);
+
+    /**
+     * The region of the {@link Area} in view, in in-game metres
+     *
+     * @see #setView(OrthographicCamera)
+     */
+    private final Rectangle view = new Rectangle();
+
+    /**
+     * Aligns the culling region with the view of the given {@link OrthographicCamera}
+     *
+     * @param camera The unrotated {@link OrthographicCamera} through which the {@link Area} is rendered
+     */
+    void setView(OrthographicCamera camera) {
+        final float width = camera.viewportWidth * camera.zoom;
+        final float height = camera.viewportHeight * camera.zoom;
+
+        view.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+    }
+
+    /**
+     * Retrieves the region of the {@link Area} in view, against which {@link Item}s are culled
+     *
+     * @return The culling region, in in-game metres, which is updated in place by {@link #setView(OrthographicCamera)}
+     */
+    Rectangle getView() {
+        return view;
+    }
+
+    /**
+     * Queues the given {@link Item} for drawing upon the next {@link #flush(SpriteBatch)}, unless it lies wholly
+     * outside the view
+     *
+     * @param item The {@link Item} to draw
+     */
+    void submit(Item item) {
+        if (item.overlaps(view))
+            queued.add(item);
+    }
+
+    /**
+     * Draws every queued {@link Item} in {@link #DRAW_ORDER}, and empties the queue
+     *
+     * @param batch The {@link SpriteBatch} to which the {@link Item}s are drawn, which must be drawing
+     */
+    void flush(SpriteBatch batch) {
+        queued.sort(DRAW_ORDER);
+
+        for (int i = 0; i < queued.size; i++)
+            queued.get(i).render(batch);
+
+        queued.clear();
+    }
+}
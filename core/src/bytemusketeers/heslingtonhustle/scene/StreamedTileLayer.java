@@ -0,0 +1,140 @@
+package bytemusketeers.heslingtonhustle.scene;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+
+import java.nio.IntBuffer;
+
+/**
+ * A {@link StreamedTileLayer} is a tile layer of a compiled tile-map too large to be held in memory as a
+ * {@link TiledMapTileLayer}: rather than a {@link TiledMapTileLayer.Cell} per tile, it retains only a view over the
+ * memory-mapped global tile identifiers, which the {@link ChunkStreamer} reads a chunk at a time.
+ *
+ * @implNote The operating system pages the mapped identifiers in and out on demand, so the resident memory of the layer
+ *           is bounded by the chunks recently read, rather than the dimensions of the tile-map. Every query is an
+ *           absolute read, so the layer may be read concurrently from any number of threads.
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see CompiledMapLoader
+ * @see ChunkStreamer
+ */
+final class StreamedTileLayer extends MapLayer {
+    /**
+     * The width of the layer, in tiles
+     */
+    private final int width;
+
+    /**
+     * The height of the layer, in tiles
+     */
+    private final int height;
+
+    /**
+     * The width of each tile, in pixels
+     */
+    private final int tileWidth;
+
+    /**
+     * The height of each tile, in pixels
+     */
+    private final int tileHeight;
+
+    /**
+     * The tilesets of the owning {@link com.badlogic.gdx.maps.tiled.TiledMap}, against which identifiers are resolved
+     */
+    private final TiledMapTileSets tileSets;
+
+    /**
+     * The view over the mapped global tile identifiers, including their flip flags, bottom row first
+     *
+     * @see #setIdentifiers(IntBuffer)
+     */
+    private IntBuffer identifiers;
+
+    /**
+     * Retrieves the width of the layer
+     *
+     * @return The width, in tiles
+     */
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * Retrieves the height of the layer
+     *
+     * @return The height, in tiles
+     */
+    int getHeight() {
+        return height;
+    }
+
+    /**
+     * Retrieves the width of each tile in the layer
+     *
+     * @return The width, in pixels
+     */
+    int getTileWidth() {
+        return tileWidth;
+    }
+
+    /**
+     * Retrieves the height of each tile in the layer
+     *
+     * @return The height, in pixels
+     */
+    int getTileHeight() {
+        return tileHeight;
+    }
+
+    /**
+     * Retrieves the raw global tile identifier of the given cell
+     *
+     * @param column The horizontal cell coordinate
+     * @param row The vertical cell coordinate, counted from the bottom of the layer
+     * @return The global tile identifier, including its flip flags, or zero for an empty cell
+     */
+    int getIdentifier(int column, int row) {
+        return identifiers.get(row * width + column);
+    }
+
+    /**
+     * Resolves the tile denoted by the given global tile identifier
+     *
+     * @param identifier The global tile identifier, with or without its flip flags
+     * @return The {@link TiledMapTile}, or null if the identifier denotes an empty cell
+     * @see #getIdentifier(int, int)
+     */
+    TiledMapTile getTile(int identifier) {
+        return tileSets.getTile(identifier & CompiledMapLoader.FLIP_MASK);
+    }
+
+    /**
+     * Binds the layer to its mapped global tile identifiers
+     *
+     * @param identifiers The view over the identifiers, of exactly {@code width * height} entries
+     * @apiNote This is called once by the {@link CompiledMapLoader}, after the layer header has been read
+     */
+    void setIdentifiers(IntBuffer identifiers) {
+        this.identifiers = identifiers;
+    }
+
+    /**
+     * Instantiates a new {@link StreamedTileLayer}, yet to be bound to its identifiers
+     *
+     * @param width The width of the layer, in tiles
+     * @param height The height of the layer, in tiles
+     * @param tileWidth The width of each tile, in pixels
+     * @param tileHeight The height of each tile, in pixels
+     * @param tileSets The tilesets of the owning {@link com.badlogic.gdx.maps.tiled.TiledMap}
+     * @see #setIdentifiers(IntBuffer)
+     */
+    StreamedTileLayer(int width, int height, int tileWidth, int tileHeight, TiledMapTileSets tileSets) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.tileSets = tileSets;
+    }
+}
@@ -35,12 +35,14 @@ class HeadsUpDisplay extends Overlay implements MetricListener {
      *
      * @param metric The key of the {@link MetricController.Metric} to update
      * @param text The new text
+     * @implNote The {@link Label} copies the text into its own buffer, so no garbage is generated; if the text is
+     *           unchanged, the {@link Label} is not touched at all, and hence not laid out again
      */
     @Override
-    public void updateMetricText(MetricController.Metric metric, String text) {
+    public void updateMetricText(MetricController.Metric metric, CharSequence text) {
         Label valueLabel = metricLabels.get(metric);
 
-        if (valueLabel != null)
+        if (valueLabel != null && !valueLabel.textEquals(text))
             valueLabel.setText(text);
     }
 
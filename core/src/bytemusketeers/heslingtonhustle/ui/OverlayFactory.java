@@ -1,5 +1,6 @@
 package bytemusketeers.heslingtonhustle.ui;
 
+import bytemusketeers.heslingtonhustle.FrameProfiler;
 import bytemusketeers.heslingtonhustle.metrics.MetricController;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
@@ -46,6 +47,17 @@ final public class OverlayFactory {
         return new HeadsUpDisplay(batch, leftMetrics, rightMetrics);
     }
 
+    /**
+     * Creates a frame profiler display presenting the measurements of the given {@link FrameProfiler}
+     *
+     * @param profiler The {@link FrameProfiler} whose measurements should be presented
+     * @return A new {@link ProfilerOverlay}
+     * @see ProfilerOverlay
+     */
+    public Overlay createProfiler(FrameProfiler profiler) {
+        return new ProfilerOverlay(batch, profiler);
+    }
+
     /**
      * Constructs a new {@link Overlay} with the given {@link SpriteBatch}
      *
@@ -0,0 +1,130 @@
+package bytemusketeers.heslingtonhustle.ui;
+
+import bytemusketeers.heslingtonhustle.FrameProfiler;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * The {@link ProfilerOverlay} presents the measurements of a {@link FrameProfiler}: the p50, p95, and p99 duration of
+ * each {@link FrameProfiler.Phase} over the rolling window, the draw calls and texture binds of the latest frame, the
+ * heap in use, and the garbage collections since start-up.
+ *
+ * @implNote The text is rebuilt, into a reused buffer, only every {@link #REFRESH_INTERVAL} milliseconds, since sorting
+ *           the windows and laying out the {@link Label} each frame would itself distort the measurements
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see FrameProfiler
+ */
+class ProfilerOverlay extends Overlay {
+    /**
+     * The interval, in milliseconds, between refreshes of the presented measurements
+     */
+    private static final long REFRESH_INTERVAL = 500;
+
+    /**
+     * The number of bytes per mebibyte
+     */
+    private static final long BYTES_PER_MEBIBYTE = 1024 * 1024;
+
+    /**
+     * The {@link Label.LabelStyle} to use for all text; this is standard and shipped with LibGDX
+     */
+    private static final Label.LabelStyle LABEL_STYLE = new Label.LabelStyle(new BitmapFont(), Color.YELLOW);
+
+    /**
+     * The {@link FrameProfiler} whose measurements are presented
+     */
+    private final FrameProfiler profiler;
+
+    /**
+     * The {@link Label} presenting every measurement
+     */
+    private final Label label = new Label(null, LABEL_STYLE);
+
+    /**
+     * The reusable buffer into which the presented text is built
+     */
+    private final StringBuilder text = new StringBuilder(512);
+
+    /**
+     * The {@link TimeUtils#millis()} at which the presented measurements were last refreshed
+     */
+    private long lastRefresh = 0;
+
+    /**
+     * Appends the given duration, in milliseconds, to the {@link #text} to two decimal places
+     *
+     * @param milliseconds The duration to append
+     */
+    private void appendMilliseconds(float milliseconds) {
+        final int hundredths = Math.round(milliseconds * 100);
+
+        text.append(hundredths / 100).append('.');
+        if (hundredths % 100 < 10)
+            text.append('0');
+        text.append(hundredths % 100);
+    }
+
+    /**
+     * Rebuilds the presented text from the current measurements of the {@link #profiler}
+     */
+    private void refresh() {
+        text.setLength(0);
+        text.append("Phase: p50 / p95 / p99 ms\n");
+
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            text.append(phase.toString()).append(": ");
+            appendMilliseconds(profiler.getPercentile(phase, 0.5f));
+            text.append(" / ");
+            appendMilliseconds(profiler.getPercentile(phase, 0.95f));
+            text.append(" / ");
+            appendMilliseconds(profiler.getPercentile(phase, 0.99f));
+            text.append('\n');
+        }
+
+        text.append("Draw calls: ").append(profiler.getDrawCalls());
+        text.append("\nTexture binds: ").append(profiler.getTextureBindings());
+        text.append("\nHeap: ").append(profiler.getHeapUsed() / BYTES_PER_MEBIBYTE).append(" MiB");
+        text.append("\nGC: ").append(profiler.getGarbageCollectionCount()).append(" collections, ")
+            .append(profiler.getGarbageCollectionTime()).append(" ms");
+
+        label.setText(text);
+    }
+
+    /**
+     * Renders the {@link ProfilerOverlay}, first refreshing its measurements if they are due
+     *
+     * @param batch Target of the rendering operation
+     */
+    @Override
+    public void render(SpriteBatch batch) {
+        if (TimeUtils.timeSinceMillis(lastRefresh) >= REFRESH_INTERVAL) {
+            refresh();
+            lastRefresh = TimeUtils.millis();
+        }
+
+        super.render(batch);
+    }
+
+    /**
+     * Creates a new {@link ProfilerOverlay} relating to the given {@link SpriteBatch}
+     *
+     * @param batch The {@link SpriteBatch} to which the {@link ProfilerOverlay} should be connected
+     * @param profiler The {@link FrameProfiler} whose measurements should be presented
+     */
+    ProfilerOverlay(SpriteBatch batch, FrameProfiler profiler) {
+        super(batch);
+        this.profiler = profiler;
+
+        final Table table = new Table();
+        table.setFillParent(true);
+        table.pad(GENERAL_FORM_PADDING);
+        table.add(label).expand().left();
+
+        super.addActor(table);
+    }
+}
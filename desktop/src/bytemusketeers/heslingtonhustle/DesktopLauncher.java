@@ -1,8 +1,14 @@
 package bytemusketeers.heslingtonhustle;
 
+import bytemusketeers.heslingtonhustle.input.InputRecorder;
+import bytemusketeers.heslingtonhustle.input.InputReplay;
+import bytemusketeers.heslingtonhustle.input.InputSource;
+import bytemusketeers.heslingtonhustle.input.KeyboardInput;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
+import java.io.IOException;
+
 /**
  * Provides the JVM system entry point to launch the desktop {@link Lwjgl3Application} with the {@link HeslingtonHustle}
  * instance, specifying certain fixed application configuration parameters.
@@ -20,12 +26,6 @@ class DesktopLauncher {
      */
     private static final int INITIAL_WINDOW_HEIGHT = 480;
 
-    /**
-     * The frames-per-second limit, fixed to ensure a consistent {@link bytemusketeers.heslingtonhustle.scene.Character}
-     * move-speed across differing monitor refresh rates.
-     */
-    private static final int FPS_LIMIT = 60;
-
     /**
      * The title of the Java window
      */
@@ -49,23 +49,67 @@ class DesktopLauncher {
 
         configuration.setTitle(GAME_TITLE);
         configuration.useVsync(true);
-        configuration.setForegroundFPS(FPS_LIMIT);
+
+        // Vertical sync paces the frames, so the limit lies just above the refresh rate of the display, and merely
+        // bounds power consumption should the driver ignore vertical sync. Gameplay speed is independent of the frame
+        // rate either way, since the simulation advances on a fixed timestep.
+        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
         configuration.setWindowedMode(INITIAL_WINDOW_WIDTH, INITIAL_WINDOW_HEIGHT);
         configuration.setWindowIcon(ICON_PATH);
 
         return configuration;
     }
 
+    /**
+     * The command-line option preceding the path to which the session should be recorded
+     *
+     * @see InputRecorder
+     */
+    private static final String RECORD_OPTION = "--record";
+
+    /**
+     * The command-line option preceding the path of a recording to replay in place of keyboard input
+     *
+     * @see InputReplay
+     */
+    private static final String REPLAY_OPTION = "--replay";
+
+    /**
+     * The command-line option requesting that the game continue from its save file
+     *
+     * @see SaveManager
+     */
+    private static final String CONTINUE_OPTION = "--continue";
+
     /**
      * The system entry point: initialises the {@link Lwjgl3Application} and {@link HeslingtonHustle} as a LibGDX
      * {@link com.badlogic.gdx.Game}.
      *
-     * @param args Textual command-line argument vector
+     * @param args Textual command-line argument vector: optionally, {@value #RECORD_OPTION} followed by the path to
+     *             which the session should be recorded, and {@value #REPLAY_OPTION} followed by the path of a
+     *             recording to replay in place of keyboard input, and {@value #CONTINUE_OPTION} to continue from
+     *             the save file
+     * @throws IOException The recording could not be created, or the replay could not be read
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         if (StartupHelper.startNewJvmIfRequired())
             return; // This handles macOS support and helps on Windows.
 
-        new Lwjgl3Application(new HeslingtonHustle(), getDefaultConfiguration());
+        InputSource input = null;
+        InputRecorder recorder = null;
+        boolean resume = false;
+
+        for (int i = 0; i < args.length; i++)
+            if (args[i].equals(CONTINUE_OPTION))
+                resume = true;
+            else if (args[i].equals(RECORD_OPTION) && i + 1 < args.length)
+                recorder = new InputRecorder(args[++i]);
+            else if (args[i].equals(REPLAY_OPTION) && i + 1 < args.length)
+                input = new InputReplay(args[++i]);
+
+        if (input == null)
+            input = new KeyboardInput();
+
+        new Lwjgl3Application(new HeslingtonHustle(input, recorder, resume), getDefaultConfiguration());
     }
 }
@@ -0,0 +1,78 @@
+package bytemusketeers.heslingtonhustle;
+
+import bytemusketeers.heslingtonhustle.input.InputReplay;
+import bytemusketeers.heslingtonhustle.scene.AreaLoader;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import java.io.IOException;
+
+/**
+ * Provides the JVM system entry point to launch a windowless {@link HeadlessApplication} driving the
+ * {@link HeadlessSimulation}, such that simulation throughput may be measured on machines without a GPU.
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ */
+class HeadlessLauncher {
+    /**
+     * The number of {@link Simulation} ticks to execute if none are specified on the command-line
+     */
+    private static final long DEFAULT_TICK_LIMIT = 100_000;
+
+    /**
+     * The seed of the pseudo-random input stream if none is specified on the command-line
+     *
+     * @see HeadlessSimulation
+     */
+    private static final long DEFAULT_SEED = 23;
+
+    /**
+     * The leading command-line argument selecting the replay of a recorded session, rather than a pseudo-random walk
+     *
+     * @see HeadlessReplay
+     */
+    private static final String REPLAY_COMMAND = "replay";
+
+    /**
+     * Parameterises a {@link HeadlessApplicationConfiguration} instance such that the
+     * {@link com.badlogic.gdx.ApplicationListener#render()} cycle is never throttled
+     *
+     * @return The parameterised configuration for the {@link HeadlessApplication}
+     */
+    private static HeadlessApplicationConfiguration getDefaultConfiguration() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+
+        // Zero disables the inter-frame sleep entirely, giving an uncapped tick rate
+        configuration.updatesPerSecond = 0;
+
+        return configuration;
+    }
+
+    /**
+     * The system entry point: initialises the {@link HeadlessApplication} with a {@link HeadlessSimulation}, or a
+     * {@link HeadlessReplay} if so requested.
+     *
+     * @param args Textual command-line argument vector: optionally, the number of ticks to simulate, followed by the
+     *             seed of the pseudo-random input stream, followed by the {@link AreaLoader.WorldMode} name. Otherwise,
+     *             {@value #REPLAY_COMMAND}, followed by the path of the recording, optionally followed by the
+     *             {@link AreaLoader.WorldMode} name.
+     * @throws IOException The recording to replay could not be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length > 1 && args[0].equals(REPLAY_COMMAND)) {
+            final AreaLoader.WorldMode worldMode =
+                (args.length > 2) ? AreaLoader.WorldMode.valueOf(args[2]) : AreaLoader.WorldMode.Shared;
+
+            new HeadlessApplication(new HeadlessReplay(new InputReplay(args[1]), worldMode),
+                getDefaultConfiguration());
+            return;
+        }
+
+        final long tickLimit = (args.length > 0) ? Long.parseLong(args[0]) : DEFAULT_TICK_LIMIT;
+        final long seed = (args.length > 1) ? Long.parseLong(args[1]) : DEFAULT_SEED;
+        final AreaLoader.WorldMode worldMode =
+            (args.length > 2) ? AreaLoader.WorldMode.valueOf(args[2]) : AreaLoader.WorldMode.Shared;
+
+        new HeadlessApplication(new HeadlessSimulation(tickLimit, seed, worldMode), getDefaultConfiguration());
+    }
+}
@@ -0,0 +1,144 @@
+package bytemusketeers.heslingtonhustle;
+
+import bytemusketeers.heslingtonhustle.input.Command;
+import bytemusketeers.heslingtonhustle.input.InputReplay;
+import bytemusketeers.heslingtonhustle.scene.AreaLoader;
+import bytemusketeers.heslingtonhustle.scene.InvalidAreaException;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * The {@link HeadlessReplay} drives a {@link Simulation} through a session recorded by an
+ * {@link bytemusketeers.heslingtonhustle.input.InputRecorder}, without any rendering, and reports the distribution of
+ * per-frame simulation times upon completion, such that builds may be compared over an identical workload.
+ *
+ * @implNote The pause and game-over handling of the {@link PlayScreen} is mirrored, such that the replayed
+ *           {@link Command}s reach the {@link Simulation} exactly as they did during recording
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see HeadlessLauncher
+ */
+class HeadlessReplay extends ApplicationAdapter {
+    /**
+     * The recording being replayed
+     */
+    private final InputReplay replay;
+
+    /**
+     * The arrangement of physics worlds across the {@link bytemusketeers.heslingtonhustle.scene.Area}s of the
+     * {@link Simulation}, which should match that of the recording
+     */
+    private final AreaLoader.WorldMode worldMode;
+
+    /**
+     * The duration of every replayed frame, in milliseconds
+     */
+    private final FloatArray frameTimes = new FloatArray();
+
+    /**
+     * The {@link Simulation} being driven
+     */
+    private Simulation simulation;
+
+    /**
+     * Is the replayed session paused?
+     *
+     * @see Command#Pause
+     */
+    private boolean paused = false;
+
+    /**
+     * Retrieves the given percentile of the sorted {@link #frameTimes}
+     *
+     * @param percentile The percentile, in (0, 1]
+     * @return The frame time, in milliseconds, at or below which the given proportion of frames completed
+     */
+    private float getPercentile(float percentile) {
+        return frameTimes.get(Math.max(0, (int) Math.ceil(percentile * frameTimes.size) - 1));
+    }
+
+    /**
+     * Prints the distribution of the {@link #frameTimes} to the standard output
+     */
+    private void report() {
+        if (frameTimes.isEmpty())
+            return;
+
+        frameTimes.sort();
+
+        System.out.printf("Replayed %d frames: p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+            frameTimes.size, getPercentile(0.5f), getPercentile(0.95f), getPercentile(0.99f), frameTimes.peek());
+    }
+
+    /**
+     * Handles the creation of the {@link HeadlessReplay}, substituting the absent GL context with a {@link NullGL20}
+     * before any {@link com.badlogic.gdx.graphics.Texture} is loaded
+     *
+     * @apiNote As with {@link HeslingtonHustle#create()}, a corrupt TMX tile-map asset halts the JVM-level process with
+     *          a non-zero exit code.
+     */
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = NullGL20.create();
+
+        try {
+            // Metric updates are discarded, since there is no heads-up display to receive them
+            simulation = new Simulation((metric, text) -> { }, worldMode);
+        } catch (InvalidAreaException iae) {
+            //noinspection CallToPrintStackTrace
+            iae.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Replays a single recorded frame, finishing the application once the recording is exhausted or quit
+     */
+    @Override
+    public void render() {
+        if (replay.isFinished())
+            return;
+
+        final long start = System.nanoTime();
+        final int commands = replay.poll();
+
+        if (Command.Quit.isIn(commands) || replay.isFinished()) {
+            report();
+            Gdx.app.exit();
+            return;
+        }
+
+        if (!simulation.isGameOver()) {
+            if (Command.Pause.isIn(commands))
+                paused = !paused;
+
+            // As in the PlayScreen, the simulation is frozen whilst paused, or once the game is over
+            if (!paused) {
+                simulation.control(commands);
+                simulation.updateTicks(replay.getTicks());
+            }
+        }
+
+        frameTimes.add((System.nanoTime() - start) / 1e6f);
+    }
+
+    /**
+     * Releases all resources used by the {@link HeadlessReplay}
+     */
+    @Override
+    public void dispose() {
+        simulation.dispose();
+    }
+
+    /**
+     * Instantiates a new {@link HeadlessReplay} of the given recording
+     *
+     * @param replay The recording to replay
+     * @param worldMode The arrangement of physics worlds across the {@link bytemusketeers.heslingtonhustle.scene.Area}s
+     *                  of the {@link Simulation}
+     */
+    HeadlessReplay(InputReplay replay, AreaLoader.WorldMode worldMode) {
+        this.replay = replay;
+        this.worldMode = worldMode;
+    }
+}
@@ -0,0 +1,156 @@
+package bytemusketeers.heslingtonhustle;
+
+import bytemusketeers.heslingtonhustle.scene.Area;
+import bytemusketeers.heslingtonhustle.scene.AreaLoader;
+import bytemusketeers.heslingtonhustle.scene.Character;
+import bytemusketeers.heslingtonhustle.scene.InvalidAreaException;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+
+import java.util.Random;
+
+/**
+ * The {@link HeadlessSimulation} drives a {@link Simulation} without any rendering, feeding the {@link Character} a
+ * seeded pseudo-random walk in place of keyboard input, and reports the achieved simulation throughput upon
+ * completion.
+ *
+ * @author ENG1 Team 23 (Cohort 3)
+ * @see HeadlessLauncher
+ */
+class HeadlessSimulation extends ApplicationAdapter {
+    /**
+     * The number of ticks for which a chosen walking direction is held
+     */
+    private static final int DIRECTION_HOLD_TICKS = 30;
+
+    /**
+     * The number of ticks between successive interaction attempts
+     *
+     * @see Simulation#interact()
+     */
+    private static final int INTERACTION_INTERVAL_TICKS = 90;
+
+    /**
+     * The number of ticks after which the {@link HeadlessSimulation} should finish
+     */
+    private final long tickLimit;
+
+    /**
+     * The source of the pseudo-random input stream; seeded such that runs are repeatable
+     */
+    private final Random random;
+
+    /**
+     * The arrangement of physics worlds across the {@link Area}s of the {@link Simulation}
+     */
+    private final AreaLoader.WorldMode worldMode;
+
+    /**
+     * The {@link Simulation} being driven
+     */
+    private Simulation simulation;
+
+    /**
+     * The number of ticks executed thus far
+     */
+    private long ticks = 0;
+
+    /**
+     * The {@link System#nanoTime()} at which the first tick began
+     */
+    private long startTime;
+
+    /**
+     * The transient walking direction bit-mask: bits zero through three respectively denote up, down, left, and right
+     */
+    private int direction = 0;
+
+    /**
+     * Applies the current pseudo-random input to the {@link Character}, as the {@link PlayScreen} would for key-presses
+     */
+    private void applyInput() {
+        if (ticks % DIRECTION_HOLD_TICKS == 0)
+            direction = random.nextInt(16);
+
+        final Character character = simulation.getCharacter();
+
+        if ((direction & 1) != 0) character.moveUp();
+        if ((direction & 2) != 0) character.moveDown();
+        if ((direction & 4) != 0) character.moveLeft();
+        if ((direction & 8) != 0) character.moveRight();
+
+        if (ticks % INTERACTION_INTERVAL_TICKS == 0)
+            simulation.interact();
+    }
+
+    /**
+     * Prints the achieved simulation throughput to the standard output
+     */
+    private void report() {
+        final double elapsed = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.printf("Simulated %d ticks (%.1f in-game seconds) in %.3f seconds: %.0f ticks/sec%n",
+            ticks, ticks * Area.TIME_STEP, elapsed, ticks / elapsed);
+    }
+
+    /**
+     * Handles the creation of the {@link HeadlessSimulation}, substituting the absent GL context with a
+     * {@link NullGL20} before any {@link com.badlogic.gdx.graphics.Texture} is loaded
+     *
+     * @apiNote As with {@link HeslingtonHustle#create()}, a corrupt TMX tile-map asset halts the JVM-level process with
+     *          a non-zero exit code.
+     */
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = NullGL20.create();
+
+        try {
+            // Metric updates are discarded, since there is no heads-up display to receive them
+            simulation = new Simulation((metric, text) -> { }, worldMode);
+        } catch (InvalidAreaException iae) {
+            //noinspection CallToPrintStackTrace
+            iae.printStackTrace();
+            System.exit(1);
+        }
+
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Executes a single {@link Simulation} tick, finishing the application once the {@link #tickLimit} is reached
+     */
+    @Override
+    public void render() {
+        if (ticks >= tickLimit)
+            return;
+
+        applyInput();
+        simulation.step();
+
+        if (++ticks == tickLimit) {
+            report();
+            Gdx.app.exit();
+        }
+    }
+
+    /**
+     * Releases all resources used by the {@link HeadlessSimulation}
+     */
+    @Override
+    public void dispose() {
+        simulation.dispose();
+    }
+
+    /**
+     * Instantiates a new {@link HeadlessSimulation} to execute a fixed number of ticks
+     *
+     * @param tickLimit The number of ticks after which to finish
+     * @param seed The seed of the pseudo-random input stream
+     * @param worldMode The arrangement of physics worlds across the {@link Area}s of the {@link Simulation}
+     */
+    HeadlessSimulation(long tickLimit, long seed, AreaLoader.WorldMode worldMode) {
+        this.tickLimit = tickLimit;
+        this.worldMode = worldMode;
+        random = new Random(seed);
+    }
+}
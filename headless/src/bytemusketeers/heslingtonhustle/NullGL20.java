@@ -0,0 +1,52 @@
+package bytemusketeers.heslingtonhustle;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * The {@link NullGL20} provides a {@link GL20} implementation in which every call is a no-op, standing in for the GL
+ * context that a {@link com.badlogic.gdx.backends.headless.HeadlessApplication} lacks.
+ *
+ * @implNote {@link com.badlogic.gdx.graphics.Texture} objects constructed against a {@link NullGL20} still decode
+ *           their image data on the CPU, but upload it nowhere. Anything requiring a compiled shader, such as the
+ *           default shader of a {@link com.badlogic.gdx.graphics.g2d.SpriteBatch}, cannot be constructed against it,
+ *           but a {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} given an uncompiled shader draws nowhere.
+ * @author ENG1 Team 23 (Cohort 3)
+ */
+final class NullGL20 {
+    /**
+     * Yields the zero-value of the return type of the invoked {@link GL20} method
+     *
+     * @param proxy The {@link Proxy} instance on which the method was invoked
+     * @param method The invoked {@link GL20} method
+     * @param args The arguments of the invocation, which are ignored
+     * @return The zero-value of the return type, or null for reference types
+     */
+    private static Object invoke(Object proxy, Method method, Object[] args) {
+        final Class<?> type = method.getReturnType();
+
+        if (type == boolean.class) return false;
+        if (type == int.class)     return 0;
+        if (type == float.class)   return 0f;
+        if (type == String.class)  return "";
+
+        return null;
+    }
+
+    /**
+     * Creates a new no-op {@link GL20} implementation
+     *
+     * @return The requested {@link GL20}
+     */
+    static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+            NullGL20::invoke);
+    }
+
+    /**
+     * The {@link NullGL20} is a static factory and should not be instantiated
+     */
+    private NullGL20() { }
+}